@@ -0,0 +1,126 @@
+package io.github.testrail.mcp.benchmark;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.testrail.mcp.model.TestCase;
+import io.github.testrail.mcp.model.TestResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares list decoding with a fresh {@link ObjectMapper} per call (the previous
+ * {@code TestrailApiClient} behaviour) against a shared mapper with a cached
+ * {@link ObjectReader}, on a full 250-row page.
+ *
+ * <p>The {@code bytes*} pair starts from the raw paginated envelope and compares building a
+ * {@code JsonNode} tree before binding against binding elements straight off the token
+ * stream, as the client now does.</p>
+ *
+ * <p>Run with {@code ./gradlew jmh}; the {@code gc} profiler reports
+ * {@code gc.alloc.rate.norm} (bytes allocated per call) next to the average latency.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ListDecodingBenchmark {
+
+    private static final int PAGE_SIZE = 250;
+
+    @Param({"cases", "results"})
+    public String endpoint;
+
+    private Class<?> elementType;
+    private JsonNode page;
+    private ObjectReader cachedReader;
+    private ObjectReader elementReader;
+    private ObjectMapper sharedMapper;
+    private byte[] envelope;
+
+    @Setup
+    public void setUp() {
+        sharedMapper = new ObjectMapper();
+        ArrayNode rows = sharedMapper.createArrayNode();
+        for (int i = 1; i <= PAGE_SIZE; i++) {
+            ObjectNode row = rows.addObject();
+            row.put("id", i);
+            row.put("created_on", 1_700_000_000L + i);
+            row.put("created_by", 1);
+            if ("cases".equals(endpoint)) {
+                row.put("title", "Verify checkout flow variant " + i);
+                row.put("section_id", 10 + i % 7);
+                row.put("priority_id", 2);
+                row.put("type_id", 3);
+                row.put("custom_steps", "1. Open the cart\n2. Apply coupon " + i + "\n3. Pay");
+                row.put("custom_expected", "Order " + i + " is confirmed");
+            } else {
+                row.put("test_id", 1000 + i);
+                row.put("status_id", i % 5 == 0 ? 5 : 1);
+                row.put("comment", "Automated run, build " + i + ", see attached logs for details");
+                row.put("elapsed", "1m " + i % 60 + "s");
+            }
+        }
+        page = rows;
+        elementType = "cases".equals(endpoint) ? TestCase.class : TestResult.class;
+        cachedReader = sharedMapper.readerForListOf(elementType)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        elementReader = sharedMapper.readerFor(elementType)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+        ObjectNode body = sharedMapper.createObjectNode();
+        body.put("offset", 0);
+        body.put("limit", PAGE_SIZE);
+        body.put("size", PAGE_SIZE);
+        body.putObject("_links").put("next", "/api/v2/get_" + endpoint + "/1&limit=250&offset=250");
+        body.set(endpoint, rows);
+        try {
+            envelope = sharedMapper.writeValueAsBytes(body);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Benchmark
+    public List<?> freshMapperPerCall() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        return mapper.readerForListOf(elementType).readValue(page);
+    }
+
+    @Benchmark
+    public List<?> cachedObjectReader() throws Exception {
+        return cachedReader.readValue(page);
+    }
+
+    @Benchmark
+    public List<?> bytesTreeThenBind() throws Exception {
+        JsonNode tree = sharedMapper.readTree(envelope);
+        return cachedReader.readValue(tree.get(endpoint));
+    }
+
+    @Benchmark
+    public List<?> bytesTokenStream() throws Exception {
+        List<Object> items = new ArrayList<>(PAGE_SIZE);
+        try (JsonParser parser = sharedMapper.getFactory().createParser(envelope)) {
+            parser.nextToken();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                if (parser.nextToken() == JsonToken.START_ARRAY && endpoint.equals(name)) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        items.add(elementReader.readValue(parser));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return items;
+    }
+}
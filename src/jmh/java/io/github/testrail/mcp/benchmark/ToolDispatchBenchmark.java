@@ -0,0 +1,166 @@
+package io.github.testrail.mcp.benchmark;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import io.github.testrail.mcp.registry.InternalToolRegistry;
+import io.github.testrail.mcp.registry.ParameterConverter;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@code execute_tool} dispatch path before and after precompiled invocation:
+ * {@code reflective} converts each argument with the previous per-call {@code instanceof}
+ * cascade and calls {@link Method#invoke} after {@code setAccessible(true)};
+ * {@code precompiled} uses the {@link InternalToolRegistry.ParameterDefinition#getConverter()
+ * converters} and {@link InternalToolRegistry.ToolDefinition#invoke(Object[]) method handle}
+ * prepared at registration.
+ *
+ * <p>The tool takes a typical mix of parameters: a numeric ID, a numeric string, an
+ * optional string, a boolean and a {@code long} passed as an {@code Integer}.</p>
+ *
+ * <p>The {@code tree*} pair binds a 50-row {@code List<Map<String, Object>>} argument that
+ * arrives as a JSON tree (as pipeline references do): {@code convertValue} copies it through
+ * a token buffer, while the precompiled structured converter reads it straight off the
+ * tree. Run with {@code ./gradlew jmh}; the {@code gc} profiler reports
+ * {@code gc.alloc.rate.norm}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ToolDispatchBenchmark {
+
+    /**
+     * Stand-in for a tool bean such as {@code CasesTools}.
+     */
+    public static class SampleTools {
+        public int getCases(Integer projectId, Integer suiteId, String filter, Boolean includeDeleted, long limit) {
+            return projectId + suiteId + (filter != null ? filter.length() : 0)
+                    + (Boolean.TRUE.equals(includeDeleted) ? 1 : 0) + (int) limit;
+        }
+
+        public int addResults(List<Map<String, Object>> results) {
+            return results.size();
+        }
+    }
+
+    private ObjectMapper objectMapper;
+    private InternalToolRegistry.ToolDefinition tool;
+    private Map<String, Object> parameters;
+    private JavaType resultsType;
+    private ParameterConverter resultsConverter;
+    private JsonNode resultsTree;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = new ObjectMapper();
+        Method method = SampleTools.class.getMethod("getCases",
+                Integer.class, Integer.class, String.class, Boolean.class, long.class);
+        tool = new InternalToolRegistry.ToolDefinition("get_cases", "", "cases", List.of(), List.of(),
+                new SampleTools(), method, List.of(
+                new InternalToolRegistry.ParameterDefinition("projectId", Integer.class, "", true, ""),
+                new InternalToolRegistry.ParameterDefinition("suiteId", Integer.class, "", false, ""),
+                new InternalToolRegistry.ParameterDefinition("filter", String.class, "", false, ""),
+                new InternalToolRegistry.ParameterDefinition("includeDeleted", Boolean.class, "", false, ""),
+                new InternalToolRegistry.ParameterDefinition("limit", long.class, "", false, "250")));
+
+        parameters = new HashMap<>();
+        parameters.put("projectId", 1);
+        parameters.put("suiteId", "5");
+        parameters.put("filter", "checkout");
+        parameters.put("includeDeleted", false);
+        parameters.put("limit", 100);
+
+        Type listOfMaps = SampleTools.class.getMethod("addResults", List.class).getGenericParameterTypes()[0];
+        resultsType = objectMapper.constructType(listOfMaps);
+        resultsConverter = ParameterConverter.forType(listOfMaps);
+        ArrayNode rows = objectMapper.createArrayNode();
+        for (int i = 1; i <= 50; i++) {
+            rows.addObject().put("case_id", i).put("status_id", i % 5 == 0 ? 5 : 1)
+                    .put("comment", "Automated run, build " + i);
+        }
+        resultsTree = rows;
+    }
+
+    @Benchmark
+    public Object treeConvertValue() {
+        return objectMapper.convertValue(resultsTree, resultsType);
+    }
+
+    @Benchmark
+    public Object treePrecompiled() {
+        return resultsConverter.convert(resultsTree, "results", objectMapper);
+    }
+
+    @Benchmark
+    public Object reflective() throws Exception {
+        List<InternalToolRegistry.ParameterDefinition> definitions = tool.getParameters();
+        Object[] args = new Object[definitions.size()];
+        for (int i = 0; i < args.length; i++) {
+            InternalToolRegistry.ParameterDefinition definition = definitions.get(i);
+            Object value = parameters.get(definition.getName());
+            if (value == null && !definition.getDefaultValue().isEmpty()) {
+                value = definition.getDefaultValue();
+            }
+            args[i] = value == null ? null : convertByCascade(value, definition.getType());
+        }
+        Method method = tool.getMethod();
+        method.setAccessible(true);
+        return method.invoke(tool.getBean(), args);
+    }
+
+    @Benchmark
+    public Object precompiled() throws Exception {
+        List<InternalToolRegistry.ParameterDefinition> definitions = tool.getParameters();
+        Object[] args = new Object[definitions.size()];
+        for (int i = 0; i < args.length; i++) {
+            InternalToolRegistry.ParameterDefinition definition = definitions.get(i);
+            Object value = parameters.get(definition.getName());
+            if (value == null && !definition.getDefaultValue().isEmpty()) {
+                value = definition.getDefaultValue();
+            }
+            args[i] = value == null ? null : definition.getConverter().convert(value, definition.getName(), objectMapper);
+        }
+        return tool.invoke(args);
+    }
+
+    /**
+     * The previous {@code McpExposedTools.convertValue}, which re-derived the conversion
+     * from the target type on every call.
+     */
+    private Object convertByCascade(Object value, Class<?> targetType) {
+        if (targetType.isAssignableFrom(value.getClass())) {
+            return value;
+        }
+        if (value instanceof Number number) {
+            if (targetType == int.class || targetType == Integer.class) return number.intValue();
+            if (targetType == long.class || targetType == Long.class) return number.longValue();
+            if (targetType == double.class || targetType == Double.class) return number.doubleValue();
+            if (targetType == float.class || targetType == Float.class) return number.floatValue();
+            if (targetType == boolean.class || targetType == Boolean.class) return number.intValue() != 0;
+            if (targetType == String.class) return number.toString();
+        }
+        if (value instanceof String str) {
+            if (targetType == int.class || targetType == Integer.class) return Integer.parseInt(str);
+            if (targetType == long.class || targetType == Long.class) return Long.parseLong(str);
+            if (targetType == double.class || targetType == Double.class) return Double.parseDouble(str);
+            if (targetType == float.class || targetType == Float.class) return Float.parseFloat(str);
+            if (targetType == boolean.class || targetType == Boolean.class) return Boolean.parseBoolean(str);
+        }
+        if (value instanceof Boolean bool) {
+            if (targetType == boolean.class || targetType == Boolean.class) return bool;
+            if (targetType == String.class) return bool.toString();
+        }
+        if (value instanceof Map && Map.class.isAssignableFrom(targetType)) {
+            return value;
+        }
+        return objectMapper.convertValue(value, targetType);
+    }
+}
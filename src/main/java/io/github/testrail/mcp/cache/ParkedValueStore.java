@@ -0,0 +1,176 @@
+package io.github.testrail.mcp.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Holds values between calls under opaque, single-use IDs, within a total weight budget.
+ *
+ * <p>A value is parked with an estimated weight (for example bytes of memory it retains) and
+ * handed back at most once by {@link #take(String)}. Values expire a fixed time after they
+ * were parked. When parking would exceed {@code maxWeight}, the oldest values are dropped to
+ * make room; a value heavier than the whole budget is not parked at all. Every value that is
+ * expired, evicted or cleared is passed to the discard callback, so that resources it holds
+ * (such as a paused subscription) are released.</p>
+ *
+ * <p>There is no background sweep: expired values are purged whenever a value is parked or
+ * taken. A store configured with a non-positive budget or TTL is disabled and parks nothing.</p>
+ *
+ * @param <V> the value type
+ */
+public class ParkedValueStore<V> {
+
+    private final String name;
+    private final long maxWeight;
+    private final long ttlNanos;
+    private final Consumer<? super V> onDiscard;
+    private final LongSupplier ticker;
+    private final LinkedHashMap<String, Entry<V>> entries = new LinkedHashMap<>();
+    private long weight;
+
+    public ParkedValueStore(String name, long maxWeight, Duration ttl, Consumer<? super V> onDiscard) {
+        this(name, maxWeight, ttl, onDiscard, System::nanoTime);
+    }
+
+    ParkedValueStore(String name, long maxWeight, Duration ttl, Consumer<? super V> onDiscard, LongSupplier ticker) {
+        this.name = name;
+        this.maxWeight = maxWeight;
+        this.ttlNanos = ttl != null ? ttl.toNanos() : 0;
+        this.onDiscard = onDiscard;
+        this.ticker = ticker;
+    }
+
+    /**
+     * Returns whether this store parks anything at all.
+     */
+    public boolean isEnabled() {
+        return maxWeight > 0 && ttlNanos > 0;
+    }
+
+    /**
+     * Parks a value, dropping the oldest parked values if needed to stay within the budget.
+     * The caller keeps ownership of a value that is not parked.
+     *
+     * @param value the value to park
+     * @param valueWeight the estimated weight of the value
+     * @return the ID to take the value back with, or {@code null} if it was not parked
+     */
+    public String park(V value, long valueWeight) {
+        if (!isEnabled() || valueWeight > maxWeight) {
+            return null;
+        }
+        String id = UUID.randomUUID().toString();
+        List<V> discarded = new ArrayList<>();
+        synchronized (entries) {
+            purgeExpired(discarded);
+            Iterator<Entry<V>> oldest = entries.values().iterator();
+            while (weight + valueWeight > maxWeight && oldest.hasNext()) {
+                Entry<V> evicted = oldest.next();
+                oldest.remove();
+                weight -= evicted.weight;
+                discarded.add(evicted.value);
+            }
+            entries.put(id, new Entry<>(value, valueWeight, ticker.getAsLong() + ttlNanos));
+            weight += valueWeight;
+        }
+        discard(discarded);
+        return id;
+    }
+
+    /**
+     * Removes and returns the value parked under {@code id}.
+     *
+     * @param id the ID returned by {@link #park}
+     * @return the value, or {@code null} if it is unknown, expired, evicted or already taken
+     */
+    public V take(String id) {
+        List<V> discarded = new ArrayList<>();
+        Entry<V> entry;
+        synchronized (entries) {
+            purgeExpired(discarded);
+            entry = id != null ? entries.remove(id) : null;
+            if (entry != null) {
+                weight -= entry.weight;
+            }
+        }
+        discard(discarded);
+        return entry != null ? entry.value : null;
+    }
+
+    /**
+     * Discards every parked value.
+     */
+    public void clear() {
+        List<V> discarded;
+        synchronized (entries) {
+            discarded = new ArrayList<>(entries.size());
+            entries.values().forEach(entry -> discarded.add(entry.value));
+            entries.clear();
+            weight = 0;
+        }
+        discard(discarded);
+    }
+
+    /**
+     * Returns the number of values currently parked, including any not yet purged after expiry.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Returns the total weight of the values currently parked.
+     */
+    public long weight() {
+        synchronized (entries) {
+            return weight;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name + "{size=" + size() + ", weight=" + weight() + "}";
+    }
+
+    /**
+     * Drops expired values. Every value gets the same TTL, so insertion order is expiry order
+     * and the scan stops at the first live value.
+     */
+    private void purgeExpired(List<V> discarded) {
+        long now = ticker.getAsLong();
+        Iterator<Entry<V>> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry<V> entry = iterator.next();
+            if (entry.expiresAt - now > 0) {
+                return;
+            }
+            iterator.remove();
+            weight -= entry.weight;
+            discarded.add(entry.value);
+        }
+    }
+
+    private void discard(List<V> values) {
+        values.forEach(onDiscard);
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long weight;
+        private final long expiresAt;
+
+        private Entry(V value, long weight, long expiresAt) {
+            this.value = value;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package io.github.testrail.mcp.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, in-process cache whose entries expire a fixed time after they were loaded.
+ *
+ * <p>Entries are kept in access order and the least recently used entry is evicted once
+ * {@code maxEntries} is exceeded. Hits, misses and evictions are counted and exposed via
+ * {@link #stats()}. A cache configured with a non-positive size or TTL is disabled: every
+ * lookup misses and nothing is stored.</p>
+ *
+ * <p>Invalidation bumps an internal generation counter, and a read-through load that started
+ * before an invalidation does not store its (possibly stale) result.</p>
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public class TtlCache<K, V> {
+
+    private final String name;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private long generation;
+
+    public TtlCache(String name, int maxEntries, Duration ttl) {
+        this(name, maxEntries, ttl, System::nanoTime);
+    }
+
+    TtlCache(String name, int maxEntries, Duration ttl, LongSupplier ticker) {
+        this.name = name;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl != null ? ttl.toNanos() : 0;
+        this.ticker = ticker;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > TtlCache.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns whether this cache stores anything at all.
+     */
+    public boolean isEnabled() {
+        return maxEntries > 0 && ttlNanos > 0;
+    }
+
+    /**
+     * Returns the cached value for {@code key}, loading and caching it on a miss.
+     * Values are loaded outside the cache lock; a {@code null} result is returned but not cached.
+     *
+     * @param key the cache key
+     * @param loader computes the value on a miss
+     * @return the cached or freshly loaded value
+     */
+    public V get(K key, Supplier<? extends V> loader) {
+        V cached = getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long loadGeneration = currentGeneration();
+        V value = loader.get();
+        putIfCurrent(key, value, loadGeneration);
+        return value;
+    }
+
+    /**
+     * Returns a token for a load that completes outside {@link #get}, such as an asynchronous
+     * request. Pass it to {@link #putIfCurrent} when the value arrives.
+     */
+    public long currentGeneration() {
+        synchronized (entries) {
+            return generation;
+        }
+    }
+
+    /**
+     * Stores a loaded value unless the cache was invalidated after {@code loadGeneration} was
+     * taken, in which case the value may be stale and is dropped.
+     *
+     * @param key the cache key
+     * @param value the value; {@code null} is ignored
+     * @param loadGeneration the {@link #currentGeneration()} taken before the load started
+     */
+    public void putIfCurrent(K key, V value, long loadGeneration) {
+        if (!isEnabled() || value == null) {
+            return;
+        }
+        synchronized (entries) {
+            if (generation == loadGeneration) {
+                entries.put(key, new Entry<>(value, ticker.getAsLong() + ttlNanos));
+            }
+        }
+    }
+
+    /**
+     * Returns the cached value for {@code key} if present and not expired.
+     *
+     * @param key the cache key
+     * @return the cached value, or {@code null} on a miss
+     */
+    public V getIfPresent(K key) {
+        if (isEnabled()) {
+            synchronized (entries) {
+                Entry<V> entry = entries.get(key);
+                if (entry != null) {
+                    if (entry.expiresAt - ticker.getAsLong() > 0) {
+                        hits.increment();
+                        return entry.value;
+                    }
+                    entries.remove(key);
+                }
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Stores a value, replacing any existing entry and restarting its TTL.
+     *
+     * @param key the cache key
+     * @param value the value; {@code null} is ignored
+     */
+    public void put(K key, V value) {
+        if (!isEnabled() || value == null) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(key, new Entry<>(value, ticker.getAsLong() + ttlNanos));
+        }
+    }
+
+    /**
+     * Removes the entry for {@code key}.
+     *
+     * @param key the cache key
+     */
+    public void invalidate(K key) {
+        synchronized (entries) {
+            generation++;
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * Removes every entry whose key matches {@code keyFilter}.
+     *
+     * @param keyFilter selects the keys to remove
+     */
+    public void invalidateIf(Predicate<? super K> keyFilter) {
+        synchronized (entries) {
+            generation++;
+            entries.keySet().removeIf(keyFilter);
+        }
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            generation++;
+            entries.clear();
+        }
+    }
+
+    /**
+     * Calls {@code action} for every entry that has not expired. The action runs under the
+     * cache lock and must not call back into this cache.
+     *
+     * @param action receives each live key and value
+     */
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        synchronized (entries) {
+            long now = ticker.getAsLong();
+            entries.forEach((key, entry) -> {
+                if (entry.expiresAt - now > 0) {
+                    action.accept(key, entry.value);
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns the number of entries currently held, including any not yet purged after expiry.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the hit, miss and eviction counters.
+     */
+    public Stats stats() {
+        return new Stats(name, hits.sum(), misses.sum(), evictions.sum(), size());
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * Point-in-time counters for a cache.
+     */
+    public static class Stats {
+
+        private final String name;
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final int size;
+
+        public Stats(String name, long hitCount, long missCount, long evictionCount, int size) {
+            this.name = name;
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+            this.size = size;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        public long getMissCount() {
+            return missCount;
+        }
+
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * Returns the fraction of lookups served from the cache, or 0 before the first lookup.
+         */
+        public double getHitRate() {
+            long total = hitCount + missCount;
+            return total == 0 ? 0.0 : (double) hitCount / total;
+        }
+
+        @Override
+        public String toString() {
+            return name + "{hits=" + hitCount + ", misses=" + missCount + ", evictions=" + evictionCount
+                    + ", size=" + size + "}";
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package io.github.testrail.mcp.cache;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Local copy of a TestRail collection that is kept current with delta queries.
+ *
+ * <p>The first {@link #refresh} downloads the whole collection. Every later refresh only asks
+ * for rows whose timestamp (for example {@code updated_on} for cases or {@code created_on}
+ * for results) is newer than the highest timestamp seen so far, and merges them into the
+ * local copy by ID. The delta window starts one second before the watermark because TestRail
+ * timestamps have one-second resolution; rows in the overlap are simply replaced.</p>
+ *
+ * <p>Refreshes are single-flight: a caller arriving while a refresh is running waits for its
+ * snapshot instead of starting another download. The download itself runs without holding any
+ * lock; only reading the watermark and merging the delta are done under the lock.</p>
+ *
+ * <p>Delta queries cannot see rows deleted on the server. Deletions made through this client
+ * are applied with {@link #remove(Integer)}, and owners are expected to discard the collection
+ * periodically so that a full download picks up anything else.</p>
+ *
+ * @param <T> the row type
+ */
+public class WatermarkedCollection<T> {
+
+    private final Function<? super T, Integer> idOf;
+    private final Function<? super T, Long> timestampOf;
+    private final Map<Integer, T> rows = new LinkedHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicReference<CompletableFuture<List<T>>> inFlight = new AtomicReference<>();
+    private Long watermark;
+    private boolean loaded;
+
+    /**
+     * @param idOf extracts the row ID used to merge deltas
+     * @param timestampOf extracts the row timestamp (UNIX seconds) that advances the watermark
+     */
+    public WatermarkedCollection(Function<? super T, Integer> idOf, Function<? super T, Long> timestampOf) {
+        this.idOf = idOf;
+        this.timestampOf = timestampOf;
+    }
+
+    /**
+     * Brings the collection up to date and returns a snapshot of it. If another caller is
+     * already refreshing this collection, waits for and returns that refresh's snapshot, so
+     * each delta is fetched once.
+     *
+     * @param fetch called with {@code null} for the initial full download, and afterwards with
+     *              the timestamp after which changed rows should be returned
+     * @return every row in first-seen order
+     */
+    public List<T> refresh(Function<Long, List<T>> fetch) {
+        CompletableFuture<List<T>> refresh = new CompletableFuture<>();
+        CompletableFuture<List<T>> running = inFlight.compareAndExchange(null, refresh);
+        if (running != null) {
+            return await(running);
+        }
+        try {
+            List<T> snapshot = merge(fetch.apply(since()));
+            refresh.complete(snapshot);
+            return snapshot;
+        } catch (RuntimeException | Error e) {
+            refresh.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.compareAndSet(refresh, null);
+        }
+    }
+
+    /**
+     * Drops a row deleted through this client.
+     *
+     * @param id the row ID
+     */
+    public void remove(Integer id) {
+        lock.lock();
+        try {
+            rows.remove(id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the highest timestamp merged so far, or {@code null} before any row was seen.
+     */
+    public Long getWatermark() {
+        lock.lock();
+        try {
+            return watermark;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of rows held locally.
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return rows.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the lower bound of the next delta query, or {@code null} before the first download.
+     */
+    private Long since() {
+        lock.lock();
+        try {
+            if (!loaded) {
+                return null;
+            }
+            return watermark != null ? watermark - 1 : 0L;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<T> merge(List<T> changed) {
+        lock.lock();
+        try {
+            for (T row : changed) {
+                Integer id = idOf.apply(row);
+                if (id == null) {
+                    continue;
+                }
+                rows.put(id, row);
+                Long timestamp = timestampOf.apply(row);
+                if (timestamp != null && (watermark == null || timestamp > watermark)) {
+                    watermark = timestamp;
+                }
+            }
+            loaded = true;
+            return new ArrayList<>(rows.values());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static <T> List<T> await(CompletableFuture<List<T>> refresh) {
+        try {
+            return refresh.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
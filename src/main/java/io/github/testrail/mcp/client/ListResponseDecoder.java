@@ -0,0 +1,218 @@
+package io.github.testrail.mcp.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.github.testrail.mcp.model.PaginatedResponse;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Incremental, non-blocking decoder for TestRail list responses.
+ *
+ * <p>TestRail returns lists either as a bare JSON array or wrapped in a paginated envelope
+ * such as {@code {"offset":0,"limit":250,"size":250,"_links":{...},"cases":[...]}}. This
+ * decoder feeds the response body, buffer by buffer as it arrives, into Jackson's
+ * non-blocking parser. The tokens of each array element are collected in a
+ * {@link TokenBuffer} and bound into the model class as soon as the element is complete, so
+ * neither the raw page nor a {@code JsonNode} tree of it is ever held: peak memory per page
+ * is one network buffer plus one element. Envelope fields other than the pagination metadata
+ * are skipped without being materialised.</p>
+ */
+final class ListResponseDecoder {
+
+    private final JsonFactory jsonFactory;
+
+    ListResponseDecoder(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    /**
+     * Decodes a list response, emitting each element as soon as its last token has arrived.
+     * Each body buffer is released once it has been fed to the parser.
+     *
+     * @param body the raw response body
+     * @param fieldName the envelope field holding the array, or {@code null} to accept only a bare array
+     * @param elementReader reader bound to the element type
+     * @param page receives the pagination metadata of the envelope; complete once the returned flux completes
+     * @return the elements in response order; empty when the body holds no matching array
+     * @throws TestrailApiException (as an error signal) if the body is not valid JSON or an element cannot be bound
+     */
+    <T> Flux<T> decode(Flux<DataBuffer> body, String fieldName, ObjectReader elementReader,
+                       PaginatedResponse<T> page) {
+        return Flux.defer(() -> {
+            Session<T> session;
+            try {
+                session = new Session<>(jsonFactory.createNonBlockingByteArrayParser(), fieldName, elementReader, page);
+            } catch (IOException e) {
+                return Flux.error(parseFailure(e));
+            }
+            return body.doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                    .concatMapIterable(session::feed)
+                    .concatWith(Flux.defer(() -> Flux.fromIterable(session.endOfInput())));
+        });
+    }
+
+    private static TestrailApiException parseFailure(IOException e) {
+        return new TestrailApiException("Failed to parse TestRail list response: " + e.getMessage(), e);
+    }
+
+    /**
+     * Parser state of one response body.
+     */
+    private static final class Session<T> {
+
+        private final JsonParser parser;
+        private final ByteArrayFeeder feeder;
+        private final String fieldName;
+        private final ObjectReader elementReader;
+        private final PaginatedResponse<T> page;
+
+        /** Number of containers currently open. */
+        private int depth;
+        /** Depth inside the list array while it is being read, otherwise -1. */
+        private int arrayDepth = -1;
+        /** Whether the root value is the envelope object. */
+        private boolean envelope;
+        /** Name of the current envelope field. */
+        private String field;
+        /** Name of the current {@code _links} field while inside {@code _links}, otherwise {@code null}. */
+        private String linkField;
+        private boolean inLinks;
+        /** Tokens of the element being read, or {@code null} between elements. */
+        private TokenBuffer element;
+
+        Session(JsonParser parser, String fieldName, ObjectReader elementReader, PaginatedResponse<T> page) {
+            this.parser = parser;
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+            this.fieldName = fieldName;
+            this.elementReader = elementReader;
+            this.page = page;
+        }
+
+        List<T> feed(DataBuffer buffer) {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            DataBufferUtils.release(buffer);
+            try {
+                feeder.feedInput(bytes, 0, bytes.length);
+                return drain();
+            } catch (IOException e) {
+                throw parseFailure(e);
+            }
+        }
+
+        List<T> endOfInput() {
+            feeder.endOfInput();
+            try {
+                List<T> elements = drain();
+                parser.close();
+                return elements;
+            } catch (IOException e) {
+                throw parseFailure(e);
+            }
+        }
+
+        private List<T> drain() throws IOException {
+            List<T> elements = new ArrayList<>();
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                T value = onToken(token);
+                if (value != null) {
+                    elements.add(value);
+                }
+            }
+            return elements;
+        }
+
+        /**
+         * Advances the state by one token and returns the element it completes, if any.
+         */
+        private T onToken(JsonToken token) throws IOException {
+            if (element != null) {
+                element.copyCurrentEvent(parser);
+                track(token);
+                return depth == arrayDepth ? completeElement() : null;
+            }
+
+            if (arrayDepth >= 0 && depth == arrayDepth) {
+                if (token == JsonToken.END_ARRAY) {
+                    arrayDepth = -1;
+                    track(token);
+                    return null;
+                }
+                element = new TokenBuffer(parser);
+                element.copyCurrentEvent(parser);
+                track(token);
+                return depth == arrayDepth ? completeElement() : null;
+            }
+
+            if (depth == 0) {
+                if (token == JsonToken.START_ARRAY) {
+                    arrayDepth = 1;
+                } else if (token == JsonToken.START_OBJECT) {
+                    envelope = fieldName != null;
+                }
+            } else if (envelope && depth == 1) {
+                onEnvelopeToken(token);
+            } else if (inLinks && depth == 2) {
+                onLinksToken(token);
+            }
+            track(token);
+            return null;
+        }
+
+        private void onEnvelopeToken(JsonToken token) throws IOException {
+            if (token == JsonToken.FIELD_NAME) {
+                field = parser.currentName();
+            } else if (token == JsonToken.START_ARRAY && fieldName.equals(field)) {
+                arrayDepth = 2;
+            } else if (token == JsonToken.START_OBJECT && "_links".equals(field)) {
+                inLinks = true;
+                page.setLinks(new PaginatedResponse.Links());
+            } else if (token == JsonToken.VALUE_NUMBER_INT && "offset".equals(field)) {
+                page.setOffset(parser.getIntValue());
+            } else if (token == JsonToken.VALUE_NUMBER_INT && "limit".equals(field)) {
+                page.setLimit(parser.getIntValue());
+            } else if (token == JsonToken.VALUE_NUMBER_INT && "size".equals(field)) {
+                page.setSize(parser.getIntValue());
+            }
+        }
+
+        private void onLinksToken(JsonToken token) throws IOException {
+            if (token == JsonToken.FIELD_NAME) {
+                linkField = parser.currentName();
+            } else if (token == JsonToken.END_OBJECT) {
+                inLinks = false;
+            } else if (token == JsonToken.VALUE_STRING && "next".equals(linkField)) {
+                page.getLinks().setNext(parser.getText().isEmpty() ? null : parser.getText());
+            } else if (token == JsonToken.VALUE_STRING && "prev".equals(linkField)) {
+                page.getLinks().setPrev(parser.getText());
+            }
+        }
+
+        private void track(JsonToken token) {
+            if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                depth++;
+            } else if (token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) {
+                depth--;
+            }
+        }
+
+        private T completeElement() throws IOException {
+            TokenBuffer tokens = element;
+            element = null;
+            try (JsonParser elementParser = tokens.asParser()) {
+                return elementReader.readValue(elementParser);
+            }
+        }
+    }
+}
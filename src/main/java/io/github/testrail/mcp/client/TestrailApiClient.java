@@ -1,36 +1,134 @@
 package io.github.testrail.mcp.client;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.github.testrail.mcp.cache.TtlCache;
+import io.github.testrail.mcp.cache.WatermarkedCollection;
+import io.github.testrail.mcp.config.TestrailProperties;
 import io.github.testrail.mcp.model.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Client for interacting with the TestRail API.
  *
  * <p>This client provides methods for all TestRail API operations including
  * test cases, projects, runs, results, and sections.</p>
+ *
+ * <p>Paginated list endpoints additionally offer {@code stream*} variants that walk every
+ * page lazily by following TestRail's {@code _links.next} pointers, so callers never have
+ * to drive {@code limit}/{@code offset} by hand. The heaviest endpoints also offer
+ * {@code getAll*} variants that fetch offset windows concurrently, bounded by
+ * {@code testrail.pagination.max-concurrent-pages}.</p>
+ *
+ * <p>The entities behind the most frequently called tools also have {@code *Async} variants
+ * that return {@link Mono} or {@link Flux} without blocking, so a tool invocation holds no
+ * thread while its TestRail request is in flight. The list variants emit each element as soon
+ * as it is decoded.</p>
+ *
+ * <p>Rarely changing lookups (statuses, priorities, case types, case and result fields,
+ * templates, roles and configurations) are served from a bounded TTL cache configured under
+ * {@code testrail.cache.*}; the matching mutators invalidate it. Cases, sections, suites and
+ * projects fetched by ID are held in a second, LRU-bounded entity cache whose entries are
+ * replaced by the response of {@code update_*}/{@code move_section} and evicted by
+ * {@code delete_*}.</p>
+ *
+ * <p>{@link #syncCases} keeps a local copy of a project's cases and refreshes it with
+ * {@code updated_after} delta queries instead of downloading it again.</p>
+ *
+ * <p>Every request first takes a token from a shared token-bucket limiter
+ * ({@code testrail.rate-limit.*}); throttled and transiently failing requests are retried with
+ * jittered exponential backoff, honouring {@code Retry-After}. Identical GETs issued while one
+ * is already in flight join that request instead of sending their own.</p>
  */
 @Component
 public class TestrailApiClient {
 
     private static final Logger log = LoggerFactory.getLogger(TestrailApiClient.class);
 
-    private final WebClient webClient;
+    /**
+     * Number of pages buffered ahead of the consumer when streaming paginated endpoints.
+     */
+    static final int PAGE_PREFETCH = 2;
 
-    public TestrailApiClient(WebClient testrailWebClient) {
+    private static final String API_PATH = "api/v2/";
+
+    private static final String CASE = "case";
+    private static final String SECTION = "section";
+    private static final String SUITE = "suite";
+    private static final String PROJECT = "project";
+
+    private static final String CASES_COLLECTION = "cases:";
+
+    private static final int CASE_COPY_BATCH = 250;
+
+    private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+    private final TestrailProperties properties;
+    private final ListResponseDecoder listDecoder;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final Map<Class<?>, ObjectReader> elementReaders = new ConcurrentHashMap<>();
+    private final TtlCache<String, List<?>> metadataCache;
+    private final TtlCache<String, Object> entityCache;
+    private final TtlCache<String, WatermarkedCollection<?>> collectionCache;
+    /** Keys of synced collections discarded because they alone exceed the row budget. */
+    private final Set<String> oversizedCollections = ConcurrentHashMap.newKeySet();
+    private final Map<String, Mono<?>> inFlightGets = new ConcurrentHashMap<>();
+
+    public TestrailApiClient(WebClient testrailWebClient, ObjectMapper objectMapper, TestrailProperties properties) {
         this.webClient = testrailWebClient;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.listDecoder = new ListResponseDecoder(objectMapper.getFactory());
+        this.rateLimiter = new TokenBucketRateLimiter(
+                properties.getRateLimit().getRequestsPerMinute(),
+                properties.getRateLimit().getBurst());
+        this.metadataCache = new TtlCache<>("metadata",
+                properties.getCache().getMetadataMaxEntries(),
+                properties.getCache().getMetadataTtl());
+        this.entityCache = new TtlCache<>("entities",
+                properties.getCache().getEntityMaxEntries(),
+                properties.getCache().getEntityTtl());
+        this.collectionCache = new TtlCache<>("collections",
+                properties.getCache().getCollectionMaxEntries(),
+                properties.getCache().getCollectionFullRefreshInterval());
     }
 
     // ==================== Cases API ====================
@@ -43,11 +141,15 @@ public class TestrailApiClient {
      */
     public TestCase getCase(Integer caseId) {
         log.debug("Getting test case: {}", caseId);
-        return get("get_case/" + caseId, TestCase.class);
+        return getEntity(CASE, caseId, "get_case/" + caseId, TestCase.class);
     }
 
     /**
-     * Gets test cases for a project with optional filters.
+     * Gets test cases for a project with optional filters. A page of a whole project or suite,
+     * with no section or other filter, is cut from the copy kept by {@link #syncCases}, so
+     * paging through it costs one delta query per page instead of a full page download. A
+     * project or suite too large for {@code testrail.cache.collection-max-rows} is paged from
+     * TestRail directly.
      *
      * @param projectId the project ID
      * @param suiteId optional suite ID
@@ -63,67 +165,20 @@ public class TestrailApiClient {
                                     Long updatedAfter, Long updatedBefore, String updatedBy) {
         log.debug("Getting test cases for project: {}", projectId);
 
-        StringBuilder uri = new StringBuilder("get_cases/" + projectId);
-        String separator = "?";
-
-        if (suiteId != null) {
-            uri.append(separator).append("suite_id=").append(suiteId);
-            separator = "&";
-        }
-        if (sectionId != null) {
-            uri.append(separator).append("section_id=").append(sectionId);
-            separator = "&";
-        }
-        if (limit != null) {
-            uri.append(separator).append("limit=").append(limit);
-            separator = "&";
-        }
-        if (offset != null) {
-            uri.append(separator).append("offset=").append(offset);
-            separator = "&";
-        }
-        if (createdAfter != null) {
-            uri.append(separator).append("created_after=").append(createdAfter);
-            separator = "&";
-        }
-        if (createdBefore != null) {
-            uri.append(separator).append("created_before=").append(createdBefore);
-            separator = "&";
-        }
-        if (createdBy != null) {
-            uri.append(separator).append("created_by=").append(createdBy);
-            separator = "&";
-        }
-        if (filter != null) {
-            uri.append(separator).append("filter=").append(filter);
-            separator = "&";
-        }
-        if (milestoneId != null) {
-            uri.append(separator).append("milestone_id=").append(milestoneId);
-            separator = "&";
-        }
-        if (priorityId != null) {
-            uri.append(separator).append("priority_id=").append(priorityId);
-            separator = "&";
-        }
-        if (typeId != null) {
-            uri.append(separator).append("type_id=").append(typeId);
-            separator = "&";
-        }
-        if (updatedAfter != null) {
-            uri.append(separator).append("updated_after=").append(updatedAfter);
-            separator = "&";
-        }
-        if (updatedBefore != null) {
-            uri.append(separator).append("updated_before=").append(updatedBefore);
-            separator = "&";
-        }
-        if (updatedBy != null) {
-            uri.append(separator).append("updated_by=").append(updatedBy);
+        boolean unfiltered = sectionId == null && createdAfter == null && createdBefore == null
+                && createdBy == null && filter == null && milestoneId == null && priorityId == null
+                && typeId == null && updatedAfter == null && updatedBefore == null && updatedBy == null;
+        if (unfiltered && !oversizedCollections.contains(CASES_COLLECTION + projectId + ":" + suiteId)) {
+            List<TestCase> all = syncCases(projectId, suiteId);
+            int from = Math.min(offset != null ? Math.max(offset, 0) : 0, all.size());
+            int count = limit != null ? Math.max(limit, 0) : properties.getPagination().getPageSize();
+            return new ArrayList<>(all.subList(from, (int) Math.min(all.size(), (long) from + count)));
         }
 
-        JsonNode response = get(uri.toString(), JsonNode.class);
-        return extractList(response, "cases", TestCase.class);
+        String uri = casesUri(projectId, suiteId, sectionId, limit, offset, createdAfter, createdBefore,
+                createdBy, filter, milestoneId, priorityId, typeId, updatedAfter, updatedBefore,
+                updatedBy);
+        return getList(uri, "cases", TestCase.class);
     }
 
     /**
@@ -147,7 +202,7 @@ public class TestrailApiClient {
      */
     public TestCase updateCase(Integer caseId, Map<String, Object> data) {
         log.info("Updating test case: {}", caseId);
-        return post("update_case/" + caseId, data, TestCase.class);
+        return putEntity(CASE, caseId, post("update_case/" + caseId, data, TestCase.class));
     }
 
     /**
@@ -158,6 +213,12 @@ public class TestrailApiClient {
     public void deleteCase(Integer caseId) {
         log.warn("Deleting test case: {}", caseId);
         post("delete_case/" + caseId, null, Void.class);
+        evictEntity(CASE, caseId);
+        collectionCache.forEach((key, cases) -> {
+            if (key.startsWith(CASES_COLLECTION)) {
+                cases.remove(caseId);
+            }
+        });
     }
 
     /**
@@ -183,7 +244,7 @@ public class TestrailApiClient {
      */
     public Project getProject(Integer projectId) {
         log.debug("Getting project: {}", projectId);
-        return get("get_project/" + projectId, Project.class);
+        return getEntity(PROJECT, projectId, "get_project/" + projectId, Project.class);
     }
 
     /**
@@ -197,23 +258,8 @@ public class TestrailApiClient {
     public List<Project> getProjects(Boolean isCompleted, Integer limit, Integer offset) {
         log.debug("Getting all projects");
 
-        StringBuilder uri = new StringBuilder("get_projects");
-        String separator = "?";
-
-        if (isCompleted != null) {
-            uri.append(separator).append("is_completed=").append(isCompleted ? 1 : 0);
-            separator = "&";
-        }
-        if (limit != null) {
-            uri.append(separator).append("limit=").append(limit);
-            separator = "&";
-        }
-        if (offset != null) {
-            uri.append(separator).append("offset=").append(offset);
-        }
-
-        JsonNode response = get(uri.toString(), JsonNode.class);
-        return extractList(response, "projects", Project.class);
+        String uri = projectsUri(isCompleted, limit, offset);
+        return getList(uri, "projects", Project.class);
     }
 
     /**
@@ -236,7 +282,7 @@ public class TestrailApiClient {
      */
     public Project updateProject(Integer projectId, Map<String, Object> data) {
         log.info("Updating project: {}", projectId);
-        return post("update_project/" + projectId, data, Project.class);
+        return putEntity(PROJECT, projectId, post("update_project/" + projectId, data, Project.class));
     }
 
     /**
@@ -247,6 +293,8 @@ public class TestrailApiClient {
     public void deleteProject(Integer projectId) {
         log.warn("Deleting project: {}", projectId);
         post("delete_project/" + projectId, null, Void.class);
+        entityCache.invalidateAll();
+        collectionCache.invalidateAll();
     }
 
     // ==================== Runs API ====================
@@ -281,43 +329,9 @@ public class TestrailApiClient {
                                   String suiteId, Integer limit, Integer offset) {
         log.debug("Getting runs for project: {}", projectId);
 
-        StringBuilder uri = new StringBuilder("get_runs/" + projectId);
-        String separator = "?";
-
-        if (isCompleted != null) {
-            uri.append(separator).append("is_completed=").append(isCompleted ? 1 : 0);
-            separator = "&";
-        }
-        if (createdAfter != null) {
-            uri.append(separator).append("created_after=").append(createdAfter);
-            separator = "&";
-        }
-        if (createdBefore != null) {
-            uri.append(separator).append("created_before=").append(createdBefore);
-            separator = "&";
-        }
-        if (createdBy != null) {
-            uri.append(separator).append("created_by=").append(createdBy);
-            separator = "&";
-        }
-        if (milestoneId != null) {
-            uri.append(separator).append("milestone_id=").append(milestoneId);
-            separator = "&";
-        }
-        if (suiteId != null) {
-            uri.append(separator).append("suite_id=").append(suiteId);
-            separator = "&";
-        }
-        if (limit != null) {
-            uri.append(separator).append("limit=").append(limit);
-            separator = "&";
-        }
-        if (offset != null) {
-            uri.append(separator).append("offset=").append(offset);
-        }
-
-        JsonNode response = get(uri.toString(), JsonNode.class);
-        return extractList(response, "runs", TestRun.class);
+        String uri = runsUri(projectId, isCompleted, createdAfter, createdBefore, createdBy, milestoneId,
+                suiteId, limit, offset);
+        return getList(uri, "runs", TestRun.class);
     }
 
     /**
@@ -381,27 +395,8 @@ public class TestrailApiClient {
                                         Integer limit, Integer offset) {
         log.debug("Getting results for test: {}", testId);
 
-        StringBuilder uri = new StringBuilder("get_results/" + testId);
-        String separator = "?";
-
-        if (defectsFilter != null) {
-            uri.append(separator).append("defects_filter=").append(defectsFilter);
-            separator = "&";
-        }
-        if (statusId != null) {
-            uri.append(separator).append("status_id=").append(statusId);
-            separator = "&";
-        }
-        if (limit != null) {
-            uri.append(separator).append("limit=").append(limit);
-            separator = "&";
-        }
-        if (offset != null) {
-            uri.append(separator).append("offset=").append(offset);
-        }
-
-        JsonNode response = get(uri.toString(), JsonNode.class);
-        return extractList(response, "results", TestResult.class);
+        String uri = resultsUri(testId, defectsFilter, statusId, limit, offset);
+        return getList(uri, "results", TestResult.class);
     }
 
     /**
@@ -422,39 +417,9 @@ public class TestrailApiClient {
                                               Integer limit, Integer offset) {
         log.debug("Getting results for run: {}", runId);
 
-        StringBuilder uri = new StringBuilder("get_results_for_run/" + runId);
-        String separator = "?";
-
-        if (createdAfter != null) {
-            uri.append(separator).append("created_after=").append(createdAfter);
-            separator = "&";
-        }
-        if (createdBefore != null) {
-            uri.append(separator).append("created_before=").append(createdBefore);
-            separator = "&";
-        }
-        if (createdBy != null) {
-            uri.append(separator).append("created_by=").append(createdBy);
-            separator = "&";
-        }
-        if (defectsFilter != null) {
-            uri.append(separator).append("defects_filter=").append(defectsFilter);
-            separator = "&";
-        }
-        if (statusId != null) {
-            uri.append(separator).append("status_id=").append(statusId);
-            separator = "&";
-        }
-        if (limit != null) {
-            uri.append(separator).append("limit=").append(limit);
-            separator = "&";
-        }
-        if (offset != null) {
-            uri.append(separator).append("offset=").append(offset);
-        }
-
-        JsonNode response = get(uri.toString(), JsonNode.class);
-        return extractList(response, "results", TestResult.class);
+        String uri = resultsForRunUri(runId, createdAfter, createdBefore, createdBy, defectsFilter,
+                statusId, limit, offset);
+        return getList(uri, "results", TestResult.class);
     }
 
     /**
@@ -480,8 +445,7 @@ public class TestrailApiClient {
         log.info("Adding {} results for run: {}", results.size(), runId);
         Map<String, Object> data = new HashMap<>();
         data.put("results", results);
-        JsonNode response = post("add_results/" + runId, data, JsonNode.class);
-        return extractListDirect(response, TestResult.class);
+        return postList("add_results/" + runId, data, TestResult.class);
     }
 
     /**
@@ -495,8 +459,7 @@ public class TestrailApiClient {
         log.info("Adding {} results for cases in run: {}", results.size(), runId);
         Map<String, Object> data = new HashMap<>();
         data.put("results", results);
-        JsonNode response = post("add_results_for_cases/" + runId, data, JsonNode.class);
-        return extractListDirect(response, TestResult.class);
+        return postList("add_results_for_cases/" + runId, data, TestResult.class);
     }
 
     /**
@@ -514,27 +477,8 @@ public class TestrailApiClient {
                                                String statusId, Integer limit, Integer offset) {
         log.debug("Getting results for run: {} and case: {}", runId, caseId);
 
-        StringBuilder uri = new StringBuilder("get_results_for_case/" + runId + "/" + caseId);
-        String separator = "?";
-
-        if (defectsFilter != null) {
-            uri.append(separator).append("defects_filter=").append(defectsFilter);
-            separator = "&";
-        }
-        if (statusId != null) {
-            uri.append(separator).append("status_id=").append(statusId);
-            separator = "&";
-        }
-        if (limit != null) {
-            uri.append(separator).append("limit=").append(limit);
-            separator = "&";
-        }
-        if (offset != null) {
-            uri.append(separator).append("offset=").append(offset);
-        }
-
-        JsonNode response = get(uri.toString(), JsonNode.class);
-        return extractList(response, "results", TestResult.class);
+        String uri = resultsForCaseUri(runId, caseId, defectsFilter, statusId, limit, offset);
+        return getList(uri, "results", TestResult.class);
     }
 
     // ==================== Sections API ====================
@@ -547,7 +491,7 @@ public class TestrailApiClient {
      */
     public Section getSection(Integer sectionId) {
         log.debug("Getting section: {}", sectionId);
-        return get("get_section/" + sectionId, Section.class);
+        return getEntity(SECTION, sectionId, "get_section/" + sectionId, Section.class);
     }
 
     /**
@@ -562,23 +506,8 @@ public class TestrailApiClient {
     public List<Section> getSections(Integer projectId, Integer suiteId, Integer limit, Integer offset) {
         log.debug("Getting sections for project: {}", projectId);
 
-        StringBuilder uri = new StringBuilder("get_sections/" + projectId);
-        String separator = "?";
-
-        if (suiteId != null) {
-            uri.append(separator).append("suite_id=").append(suiteId);
-            separator = "&";
-        }
-        if (limit != null) {
-            uri.append(separator).append("limit=").append(limit);
-            separator = "&";
-        }
-        if (offset != null) {
-            uri.append(separator).append("offset=").append(offset);
-        }
-
-        JsonNode response = get(uri.toString(), JsonNode.class);
-        return extractList(response, "sections", Section.class);
+        String uri = sectionsUri(projectId, suiteId, limit, offset);
+        return getList(uri, "sections", Section.class);
     }
 
     /**
@@ -602,7 +531,7 @@ public class TestrailApiClient {
      */
     public Section updateSection(Integer sectionId, Map<String, Object> data) {
         log.info("Updating section: {}", sectionId);
-        return post("update_section/" + sectionId, data, Section.class);
+        return putEntity(SECTION, sectionId, post("update_section/" + sectionId, data, Section.class));
     }
 
     /**
@@ -618,6 +547,10 @@ public class TestrailApiClient {
             uri += "?soft=1";
         }
         post(uri, null, Void.class);
+        // Child sections and their cases go with the section
+        evictEntities(SECTION);
+        evictEntities(CASE);
+        evictCollections(CASES_COLLECTION);
     }
 
     /**
@@ -629,7 +562,7 @@ public class TestrailApiClient {
      */
     public Section moveSection(Integer sectionId, Map<String, Object> data) {
         log.info("Moving section: {}", sectionId);
-        return post("move_section/" + sectionId, data, Section.class);
+        return putEntity(SECTION, sectionId, post("move_section/" + sectionId, data, Section.class));
     }
 
     // ==================== Plans API ====================
@@ -663,39 +596,9 @@ public class TestrailApiClient {
                                     Integer limit, Integer offset) {
         log.debug("Getting test plans for project: {}", projectId);
 
-        StringBuilder uri = new StringBuilder("get_plans/" + projectId);
-        String separator = "?";
-
-        if (createdAfter != null) {
-            uri.append(separator).append("created_after=").append(createdAfter);
-            separator = "&";
-        }
-        if (createdBefore != null) {
-            uri.append(separator).append("created_before=").append(createdBefore);
-            separator = "&";
-        }
-        if (createdBy != null && !createdBy.isEmpty()) {
-            uri.append(separator).append("created_by=").append(createdBy);
-            separator = "&";
-        }
-        if (isCompleted != null) {
-            uri.append(separator).append("is_completed=").append(isCompleted);
-            separator = "&";
-        }
-        if (milestoneId != null && !milestoneId.isEmpty()) {
-            uri.append(separator).append("milestone_id=").append(milestoneId);
-            separator = "&";
-        }
-        if (limit != null) {
-            uri.append(separator).append("limit=").append(limit);
-            separator = "&";
-        }
-        if (offset != null) {
-            uri.append(separator).append("offset=").append(offset);
-        }
-
-        JsonNode response = get(uri.toString(), JsonNode.class);
-        return extractList(response, "plans", TestPlan.class);
+        String uri = plansUri(projectId, createdAfter, createdBefore, createdBy, isCompleted,
+                milestoneId, limit, offset);
+        return getList(uri, "plans", TestPlan.class);
     }
 
     /**
@@ -787,8 +690,7 @@ public class TestrailApiClient {
         log.debug("Getting users for project: {}", projectId);
         String uri = projectId != null ? "get_users/" + projectId : "get_users";
         // get_users returns a direct array, not wrapped in a field
-        JsonNode response = get(uri, JsonNode.class);
-        return extractListDirect(response, User.class).toArray();
+        return getList(uri, null, User.class).toArray();
     }
 
     // ==================== Suites API ====================
@@ -801,7 +703,7 @@ public class TestrailApiClient {
      */
     public Suite getSuite(Integer suiteId) {
         log.debug("Getting suite: {}", suiteId);
-        return get("get_suite/" + suiteId, Suite.class);
+        return getEntity(SUITE, suiteId, "get_suite/" + suiteId, Suite.class);
     }
 
     /**
@@ -812,8 +714,7 @@ public class TestrailApiClient {
      */
     public Object[] getSuites(Integer projectId) {
         log.debug("Getting suites for project: {}", projectId);
-        JsonNode response = get("get_suites/" + projectId, JsonNode.class);
-        return extractList(response, "suites", Suite.class).toArray();
+        return getList("get_suites/" + projectId, "suites", Suite.class).toArray();
     }
 
     /**
@@ -837,7 +738,7 @@ public class TestrailApiClient {
      */
     public Suite updateSuite(Integer suiteId, Map<String, Object> suite) {
         log.info("Updating suite: {}", suiteId);
-        return post("update_suite/" + suiteId, suite, Suite.class);
+        return putEntity(SUITE, suiteId, post("update_suite/" + suiteId, suite, Suite.class));
     }
 
     /**
@@ -853,6 +754,10 @@ public class TestrailApiClient {
             uri += "?soft=" + soft;
         }
         post(uri, null, Void.class);
+        evictEntity(SUITE, suiteId);
+        evictEntities(SECTION);
+        evictEntities(CASE);
+        evictCollections(CASES_COLLECTION);
     }
 
     // ==================== Milestones API ====================
@@ -880,28 +785,9 @@ public class TestrailApiClient {
      */
     public Object[] getMilestones(Integer projectId, Boolean isCompleted, Boolean isStarted, Integer limit, Integer offset) {
         log.debug("Getting milestones for project: {}", projectId);
-        
-        StringBuilder uri = new StringBuilder("get_milestones/" + projectId);
-        String separator = "?";
-        
-        if (isCompleted != null) {
-            uri.append(separator).append("is_completed=").append(isCompleted ? 1 : 0);
-            separator = "&";
-        }
-        if (isStarted != null) {
-            uri.append(separator).append("is_started=").append(isStarted ? 1 : 0);
-            separator = "&";
-        }
-        if (limit != null) {
-            uri.append(separator).append("limit=").append(limit);
-            separator = "&";
-        }
-        if (offset != null) {
-            uri.append(separator).append("offset=").append(offset);
-        }
-        
-        JsonNode response = get(uri.toString(), JsonNode.class);
-        return extractList(response, "milestones", Milestone.class).toArray();
+
+        String uri = milestonesUri(projectId, isCompleted, isStarted, limit, offset);
+        return getList(uri, "milestones", Milestone.class).toArray();
     }
 
     /**
@@ -949,13 +835,7 @@ public class TestrailApiClient {
      */
     public Test getTest(Integer testId, String withData) {
         log.debug("Getting test: {}", testId);
-        
-        StringBuilder uri = new StringBuilder("get_test/" + testId);
-        if (withData != null && !withData.isEmpty()) {
-            uri.append("?with_data=").append(withData);
-        }
-        
-        return get(uri.toString(), Test.class);
+        return get(testUri(testId, withData), Test.class);
     }
 
     /**
@@ -972,27 +852,8 @@ public class TestrailApiClient {
                                 Integer limit, Integer offset) {
         log.debug("Getting tests for run: {}", runId);
 
-        StringBuilder uri = new StringBuilder("get_tests/" + runId);
-        String separator = "?";
-
-        if (statusId != null && !statusId.isEmpty()) {
-            uri.append(separator).append("status_id=").append(statusId);
-            separator = "&";
-        }
-        if (labelId != null && !labelId.isEmpty()) {
-            uri.append(separator).append("label_id=").append(labelId);
-            separator = "&";
-        }
-        if (limit != null) {
-            uri.append(separator).append("limit=").append(limit);
-            separator = "&";
-        }
-        if (offset != null) {
-            uri.append(separator).append("offset=").append(offset);
-        }
-
-        JsonNode response = get(uri.toString(), JsonNode.class);
-        return extractList(response, "tests", Test.class);
+        String uri = testsUri(runId, statusId, labelId, limit, offset);
+        return getList(uri, "tests", Test.class);
     }
 
     // ==================== Configurations API ====================
@@ -1005,8 +866,7 @@ public class TestrailApiClient {
      */
     public Object[] getConfigs(Integer projectId) {
         log.debug("Getting configuration groups for project: {}", projectId);
-        JsonNode response = get("get_configs/" + projectId, JsonNode.class);
-        return extractListDirect(response, ConfigurationGroup.class).toArray();
+        return getCachedList("get_configs/" + projectId, null, ConfigurationGroup.class).toArray();
     }
 
     /**
@@ -1018,7 +878,9 @@ public class TestrailApiClient {
      */
     public ConfigurationGroup addConfigGroup(Integer projectId, Map<String, Object> configGroup) {
         log.info("Adding configuration group to project: {}", projectId);
-        return post("add_config_group/" + projectId, configGroup, ConfigurationGroup.class);
+        ConfigurationGroup created = post("add_config_group/" + projectId, configGroup, ConfigurationGroup.class);
+        invalidateConfigs();
+        return created;
     }
 
     /**
@@ -1030,7 +892,9 @@ public class TestrailApiClient {
      */
     public Configuration addConfig(Integer configGroupId, Map<String, Object> config) {
         log.info("Adding configuration to group: {}", configGroupId);
-        return post("add_config/" + configGroupId, config, Configuration.class);
+        Configuration created = post("add_config/" + configGroupId, config, Configuration.class);
+        invalidateConfigs();
+        return created;
     }
 
     /**
@@ -1042,7 +906,10 @@ public class TestrailApiClient {
      */
     public ConfigurationGroup updateConfigGroup(Integer configGroupId, Map<String, Object> configGroup) {
         log.info("Updating configuration group: {}", configGroupId);
-        return post("update_config_group/" + configGroupId, configGroup, ConfigurationGroup.class);
+        ConfigurationGroup updated = post("update_config_group/" + configGroupId, configGroup,
+                ConfigurationGroup.class);
+        invalidateConfigs();
+        return updated;
     }
 
     /**
@@ -1054,7 +921,9 @@ public class TestrailApiClient {
      */
     public Configuration updateConfig(Integer configId, Map<String, Object> config) {
         log.info("Updating configuration: {}", configId);
-        return post("update_config/" + configId, config, Configuration.class);
+        Configuration updated = post("update_config/" + configId, config, Configuration.class);
+        invalidateConfigs();
+        return updated;
     }
 
     /**
@@ -1065,6 +934,7 @@ public class TestrailApiClient {
     public void deleteConfigGroup(Integer configGroupId) {
         log.info("Deleting configuration group: {}", configGroupId);
         post("delete_config_group/" + configGroupId, null, Void.class);
+        invalidateConfigs();
     }
 
     /**
@@ -1075,6 +945,7 @@ public class TestrailApiClient {
     public void deleteConfig(Integer configId) {
         log.info("Deleting configuration: {}", configId);
         post("delete_config/" + configId, null, Void.class);
+        invalidateConfigs();
     }
 
     // ==================== Case Fields API ====================
@@ -1086,8 +957,7 @@ public class TestrailApiClient {
      */
     public Object[] getCaseFields() {
         log.debug("Getting case fields");
-        JsonNode response = get("get_case_fields", JsonNode.class);
-        return extractListDirect(response, CaseField.class).toArray();
+        return getCachedList("get_case_fields", null, CaseField.class).toArray();
     }
 
     /**
@@ -1098,7 +968,9 @@ public class TestrailApiClient {
      */
     public CaseField addCaseField(Map<String, Object> caseField) {
         log.info("Adding case field");
-        return post("add_case_field", caseField, CaseField.class);
+        CaseField created = post("add_case_field", caseField, CaseField.class);
+        metadataCache.invalidate("get_case_fields");
+        return created;
     }
 
     // ==================== Case Types API ====================
@@ -1110,8 +982,7 @@ public class TestrailApiClient {
      */
     public Object[] getCaseTypes() {
         log.debug("Getting case types");
-        JsonNode response = get("get_case_types", JsonNode.class);
-        return extractListDirect(response, CaseType.class).toArray();
+        return getCachedList("get_case_types", null, CaseType.class).toArray();
     }
 
     // ==================== Priorities API ====================
@@ -1123,8 +994,7 @@ public class TestrailApiClient {
      */
     public Object[] getPriorities() {
         log.debug("Getting priorities");
-        JsonNode response = get("get_priorities", JsonNode.class);
-        return extractListDirect(response, Priority.class).toArray();
+        return getCachedList("get_priorities", null, Priority.class).toArray();
     }
 
     // ==================== Statuses API ====================
@@ -1136,8 +1006,7 @@ public class TestrailApiClient {
      */
     public Object[] getStatuses() {
         log.debug("Getting statuses");
-        JsonNode response = get("get_statuses", JsonNode.class);
-        return extractListDirect(response, Status.class).toArray();
+        return getCachedList("get_statuses", null, Status.class).toArray();
     }
 
     // ==================== Templates API ====================
@@ -1150,8 +1019,7 @@ public class TestrailApiClient {
      */
     public Object[] getTemplates(Integer projectId) {
         log.debug("Getting templates for project: {}", projectId);
-        JsonNode response = get("get_templates/" + projectId, JsonNode.class);
-        return extractListDirect(response, Template.class).toArray();
+        return getCachedList("get_templates/" + projectId, null, Template.class).toArray();
     }
 
     // ==================== Result Fields API ====================
@@ -1163,8 +1031,7 @@ public class TestrailApiClient {
      */
     public Object[] getResultFields() {
         log.debug("Getting result fields");
-        JsonNode response = get("get_result_fields", JsonNode.class);
-        return extractListDirect(response, ResultField.class).toArray();
+        return getCachedList("get_result_fields", null, ResultField.class).toArray();
     }
 
     // ==================== Attachments API ====================
@@ -1188,8 +1055,7 @@ public class TestrailApiClient {
         if (offset != null) {
             uri.append(separator).append("offset=").append(offset);
         }
-        JsonNode response = get(uri.toString(), JsonNode.class);
-        return extractList(response, "attachments", Attachment.class);
+        return getList(uri.toString(), "attachments", Attachment.class);
     }
 
     /**
@@ -1211,8 +1077,7 @@ public class TestrailApiClient {
         if (offset != null) {
             uri.append(separator).append("offset=").append(offset);
         }
-        JsonNode response = get(uri.toString(), JsonNode.class);
-        return extractListDirect(response, Attachment.class);
+        return getList(uri.toString(), null, Attachment.class);
     }
 
     /**
@@ -1224,8 +1089,7 @@ public class TestrailApiClient {
      */
     public List<Attachment> getAttachmentsForPlanEntry(Integer planId, String entryId) {
         log.debug("Getting attachments for plan entry: {}/{}", planId, entryId);
-        JsonNode response = get("get_attachments_for_plan_entry/" + planId + "/" + entryId, JsonNode.class);
-        return extractListDirect(response, Attachment.class);
+        return getList("get_attachments_for_plan_entry/" + planId + "/" + entryId, null, Attachment.class);
     }
 
     /**
@@ -1247,8 +1111,7 @@ public class TestrailApiClient {
         if (offset != null) {
             uri.append(separator).append("offset=").append(offset);
         }
-        JsonNode response = get(uri.toString(), JsonNode.class);
-        return extractList(response, "attachments", Attachment.class);
+        return getList(uri.toString(), "attachments", Attachment.class);
     }
 
     /**
@@ -1259,8 +1122,7 @@ public class TestrailApiClient {
      */
     public List<Attachment> getAttachmentsForTest(Integer testId) {
         log.debug("Getting attachments for test: {}", testId);
-        JsonNode response = get("get_attachments_for_test/" + testId, JsonNode.class);
-        return extractList(response, "attachments", Attachment.class);
+        return getList("get_attachments_for_test/" + testId, "attachments", Attachment.class);
     }
 
     /**
@@ -1308,8 +1170,7 @@ public class TestrailApiClient {
      */
     public List<SharedStepHistory> getSharedStepHistory(Integer sharedStepId) {
         log.debug("Getting shared step history: {}", sharedStepId);
-        JsonNode response = get("get_shared_step_history/" + sharedStepId, JsonNode.class);
-        return extractListDirect(response, SharedStepHistory.class);
+        return getList("get_shared_step_history/" + sharedStepId, null, SharedStepHistory.class);
     }
 
     /**
@@ -1320,8 +1181,7 @@ public class TestrailApiClient {
      */
     public List<SharedStep> getSharedSteps(Integer projectId) {
         log.debug("Getting shared steps for project: {}", projectId);
-        JsonNode response = get("get_shared_steps/" + projectId, JsonNode.class);
-        return extractListDirect(response, SharedStep.class);
+        return getList("get_shared_steps/" + projectId, null, SharedStep.class);
     }
 
     /**
@@ -1368,8 +1228,7 @@ public class TestrailApiClient {
      */
     public List<Report> getReports(Integer projectId) {
         log.debug("Getting reports for project: {}", projectId);
-        JsonNode response = get("get_reports/" + projectId, JsonNode.class);
-        return extractListDirect(response, Report.class);
+        return getList("get_reports/" + projectId, null, Report.class);
     }
 
     /**
@@ -1390,8 +1249,7 @@ public class TestrailApiClient {
      */
     public List<Report> getCrossProjectReports() {
         log.debug("Getting cross-project reports");
-        JsonNode response = get("get_cross_project_reports/", JsonNode.class);
-        return extractListDirect(response, Report.class);
+        return getList("get_cross_project_reports/", null, Report.class);
     }
 
     /**
@@ -1414,8 +1272,7 @@ public class TestrailApiClient {
      */
     public List<Role> getRoles() {
         log.debug("Getting roles");
-        JsonNode response = get("get_roles", JsonNode.class);
-        return extractList(response, "roles", Role.class);
+        return getCachedList("get_roles", "roles", Role.class);
     }
 
     // ==================== Phase 5: BDDs, Datasets, Groups, Labels, Variables ====================
@@ -1439,8 +1296,7 @@ public class TestrailApiClient {
 
     public List<Dataset> getDatasets(int projectId) {
         log.debug("Getting datasets for project {}", projectId);
-        JsonNode response = get("get_datasets/" + projectId, JsonNode.class);
-        return extractList(response, "datasets", Dataset.class);
+        return getList("get_datasets/" + projectId, "datasets", Dataset.class);
     }
 
     public Dataset addDataset(int projectId, Map<String, Object> dataset) {
@@ -1466,8 +1322,7 @@ public class TestrailApiClient {
 
     public List<Group> getGroups() {
         log.debug("Getting groups");
-        JsonNode response = get("get_groups", JsonNode.class);
-        return extractList(response, "groups", Group.class);
+        return getList("get_groups", "groups", Group.class);
     }
 
     public Group addGroup(Map<String, Object> group) {
@@ -1493,15 +1348,8 @@ public class TestrailApiClient {
 
     public List<Label> getLabels(int projectId, Integer limit, Integer offset) {
         log.debug("Getting labels for project {}", projectId);
-        StringBuilder url = new StringBuilder("get_labels/" + projectId);
-        List<String> params = new ArrayList<>();
-        if (limit != null) params.add("limit=" + limit);
-        if (offset != null) params.add("offset=" + offset);
-        if (!params.isEmpty()) {
-            url.append("?").append(String.join("&", params));
-        }
-        JsonNode response = get(url.toString(), JsonNode.class);
-        return extractList(response, "labels", Label.class);
+        String uri = labelsUri(projectId, limit, offset);
+        return getList(uri, "labels", Label.class);
     }
 
     public Label updateLabel(int labelId, Map<String, Object> label) {
@@ -1512,8 +1360,7 @@ public class TestrailApiClient {
     // Variables API
     public List<Variable> getVariables(int projectId) {
         log.debug("Getting variables for project {}", projectId);
-        JsonNode response = get("get_variables/" + projectId, JsonNode.class);
-        return extractList(response, "variables", Variable.class);
+        return getList("get_variables/" + projectId, "variables", Variable.class);
     }
 
     public Variable addVariable(int projectId, Map<String, Object> variable) {
@@ -1531,107 +1378,1590 @@ public class TestrailApiClient {
         post("delete_variable/" + variableId, null, Void.class);
     }
 
-    // ==================== Helper Methods ====================
+    // ==================== Streaming Pagination ====================
 
-    private <T> T get(String uri, Class<T> responseType) {
-        try {
-            return webClient.get()
-                    .uri(uri)
-                    .retrieve()
-                    .onStatus(HttpStatusCode::isError, response ->
-                            response.bodyToMono(String.class)
-                                    .flatMap(body -> Mono.error(new TestrailApiException(
-                                            "TestRail API error: " + body,
-                                            response.statusCode().value(),
-                                            body))))
-                    .bodyToMono(responseType)
-                    .block();
-        } catch (WebClientResponseException e) {
-            throw new TestrailApiException(
-                    "TestRail API returned HTTP " + e.getStatusCode().value() + ": " + e.getResponseBodyAsString(),
-                    e.getStatusCode().value(),
-                    e.getResponseBodyAsString(),
-                    e);
-        } catch (TestrailApiException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new TestrailApiException("Failed to call TestRail API: " + e.getMessage(), e);
-        }
+    /**
+     * Lazily streams every test case matching the given filters, following {@code _links.next}
+     * across pages. The next page is prefetched while the current one is consumed and no more
+     * than {@value #PAGE_PREFETCH} pages are buffered at a time. Close the stream to stop paging early.
+     *
+     * @param projectId the project ID
+     * @param suiteId optional suite ID
+     * @param sectionId optional section ID
+     * @return lazy stream of test cases
+     */
+    public Stream<TestCase> streamCases(Integer projectId, Integer suiteId, Integer sectionId,
+                                        Long createdAfter, Long createdBefore, String createdBy,
+                                        String filter, Integer milestoneId, String priorityId,
+                                        String typeId, Long updatedAfter, Long updatedBefore,
+                                        String updatedBy) {
+        log.debug("Streaming test cases for project: {}", projectId);
+        String uri = casesUri(projectId, suiteId, sectionId, null, null, createdAfter, createdBefore,
+                createdBy, filter, milestoneId, priorityId, typeId, updatedAfter, updatedBefore,
+                updatedBy);
+        return stream(uri, "cases", TestCase.class);
     }
 
-    private <T> T post(String uri, Object data, Class<T> responseType) {
-        try {
-            WebClient.RequestBodySpec requestBodySpec = webClient.post().uri(uri);
-            WebClient.RequestHeadersSpec<?> requestSpec = data != null
-                    ? requestBodySpec.bodyValue(data)
-                    : requestBodySpec;
-
-            if (responseType == Void.class) {
-                requestSpec.retrieve()
-                        .onStatus(HttpStatusCode::isError, response ->
-                                response.bodyToMono(String.class)
-                                        .flatMap(body -> Mono.error(new TestrailApiException(
-                                                "TestRail API error: " + body,
-                                                response.statusCode().value(),
-                                                body))))
-                        .toBodilessEntity()
-                        .block();
-                return null;
-            }
+    /**
+     * Lazily streams all projects across pages.
+     *
+     * @param isCompleted filter by completion status (null for all)
+     * @return lazy stream of projects
+     */
+    public Stream<Project> streamProjects(Boolean isCompleted) {
+        log.debug("Streaming all projects");
+        return stream(projectsUri(isCompleted, null, null), "projects", Project.class);
+    }
 
-            return requestSpec.retrieve()
-                    .onStatus(HttpStatusCode::isError, response ->
-                            response.bodyToMono(String.class)
-                                    .flatMap(body -> Mono.error(new TestrailApiException(
-                                            "TestRail API error: " + body,
-                                            response.statusCode().value(),
-                                            body))))
-                    .bodyToMono(responseType)
-                    .block();
-        } catch (WebClientResponseException e) {
-            throw new TestrailApiException(
-                    "TestRail API returned HTTP " + e.getStatusCode().value() + ": " + e.getResponseBodyAsString(),
-                    e.getStatusCode().value(),
-                    e.getResponseBodyAsString(),
-                    e);
-        } catch (TestrailApiException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new TestrailApiException("Failed to call TestRail API: " + e.getMessage(), e);
-        }
+    /**
+     * Lazily streams all test runs of a project matching the given filters.
+     *
+     * @param projectId the project ID
+     * @return lazy stream of test runs
+     */
+    public Stream<TestRun> streamRuns(Integer projectId, Boolean isCompleted, Long createdAfter,
+                                      Long createdBefore, String createdBy, String milestoneId,
+                                      String suiteId) {
+        log.debug("Streaming runs for project: {}", projectId);
+        String uri = runsUri(projectId, isCompleted, createdAfter, createdBefore, createdBy, milestoneId,
+                suiteId, null, null);
+        return stream(uri, "runs", TestRun.class);
     }
 
-    private <T> List<T> extractList(JsonNode response, String fieldName, Class<T> elementType) {
-        if (response == null) {
-            return List.of();
-        }
+    /**
+     * Lazily streams all results of a test.
+     *
+     * @param testId the test ID
+     * @return lazy stream of results
+     */
+    public Stream<TestResult> streamResults(Integer testId, String defectsFilter, String statusId) {
+        log.debug("Streaming results for test: {}", testId);
+        return stream(resultsUri(testId, defectsFilter, statusId, null, null), "results", TestResult.class);
+    }
+
+    /**
+     * Lazily streams all results of a run matching the given filters.
+     *
+     * @param runId the run ID
+     * @return lazy stream of results
+     */
+    public Stream<TestResult> streamResultsForRun(Integer runId, Long createdAfter, Long createdBefore,
+                                                  String createdBy, String defectsFilter, String statusId) {
+        log.debug("Streaming results for run: {}", runId);
+        String uri = resultsForRunUri(runId, createdAfter, createdBefore, createdBy, defectsFilter,
+                statusId, null, null);
+        return stream(uri, "results", TestResult.class);
+    }
+
+    /**
+     * Lazily streams all results for a run and case combination.
+     *
+     * @param runId the run ID
+     * @param caseId the case ID
+     * @return lazy stream of results
+     */
+    public Stream<TestResult> streamResultsForCase(Integer runId, Integer caseId, String defectsFilter,
+                                                   String statusId) {
+        log.debug("Streaming results for run: {} and case: {}", runId, caseId);
+        String uri = resultsForCaseUri(runId, caseId, defectsFilter, statusId, null, null);
+        return stream(uri, "results", TestResult.class);
+    }
+
+    /**
+     * Lazily streams all sections of a project or suite.
+     *
+     * @param projectId the project ID
+     * @param suiteId optional suite ID
+     * @return lazy stream of sections
+     */
+    public Stream<Section> streamSections(Integer projectId, Integer suiteId) {
+        log.debug("Streaming sections for project: {}", projectId);
+        return stream(sectionsUri(projectId, suiteId, null, null), "sections", Section.class);
+    }
+
+    /**
+     * Lazily streams all test plans of a project matching the given filters.
+     *
+     * @param projectId the project ID
+     * @return lazy stream of test plans
+     */
+    public Stream<TestPlan> streamPlans(Integer projectId, Long createdAfter, Long createdBefore,
+                                        String createdBy, Integer isCompleted, String milestoneId) {
+        log.debug("Streaming test plans for project: {}", projectId);
+        String uri = plansUri(projectId, createdAfter, createdBefore, createdBy, isCompleted,
+                milestoneId, null, null);
+        return stream(uri, "plans", TestPlan.class);
+    }
+
+    /**
+     * Lazily streams all milestones of a project.
+     *
+     * @param projectId the project ID
+     * @return lazy stream of milestones
+     */
+    public Stream<Milestone> streamMilestones(Integer projectId, Boolean isCompleted, Boolean isStarted) {
+        log.debug("Streaming milestones for project: {}", projectId);
+        String uri = milestonesUri(projectId, isCompleted, isStarted, null, null);
+        return stream(uri, "milestones", Milestone.class);
+    }
+
+    /**
+     * Lazily streams all tests of a run matching the given filters.
+     *
+     * @param runId the test run ID
+     * @return lazy stream of tests
+     */
+    public Stream<Test> streamTests(Integer runId, String statusId, String labelId) {
+        log.debug("Streaming tests for run: {}", runId);
+        return stream(testsUri(runId, statusId, labelId, null, null), "tests", Test.class);
+    }
+
+    /**
+     * Lazily streams all labels of a project.
+     *
+     * @param projectId the project ID
+     * @return lazy stream of labels
+     */
+    public Stream<Label> streamLabels(int projectId) {
+        log.debug("Streaming labels for project {}", projectId);
+        return stream(labelsUri(projectId, null, null), "labels", Label.class);
+    }
+
+    // ==================== Parallel Bulk Fetch ====================
+
+    /**
+     * Fetches every test case matching the given filters. After probing the first page, the
+     * remaining offset windows are requested concurrently (bounded by
+     * {@code testrail.pagination.max-concurrent-pages}) and reassembled in order.
+     *
+     * @param projectId the project ID
+     * @param suiteId optional suite ID
+     * @param sectionId optional section ID
+     * @return all matching test cases in server order
+     */
+    public List<TestCase> getAllCases(Integer projectId, Integer suiteId, Integer sectionId,
+                                      Long createdAfter, Long createdBefore, String createdBy,
+                                      String filter, Integer milestoneId, String priorityId,
+                                      String typeId, Long updatedAfter, Long updatedBefore,
+                                      String updatedBy) {
+        log.debug("Fetching all test cases for project: {}", projectId);
+        int pageSize = properties.getPagination().getPageSize();
+        return fetchAll(offset -> casesUri(projectId, suiteId, sectionId, pageSize, offset, createdAfter,
+                createdBefore, createdBy, filter, milestoneId, priorityId, typeId, updatedAfter,
+                updatedBefore, updatedBy), "cases", TestCase.class);
+    }
+
+    /**
+     * Fetches every result of a run matching the given filters using concurrent offset windows.
+     *
+     * @param runId the run ID
+     * @return all matching results in server order
+     */
+    public List<TestResult> getAllResultsForRun(Integer runId, Long createdAfter, Long createdBefore,
+                                                String createdBy, String defectsFilter, String statusId) {
+        log.debug("Fetching all results for run: {}", runId);
+        int pageSize = properties.getPagination().getPageSize();
+        return fetchAll(offset -> resultsForRunUri(runId, createdAfter, createdBefore, createdBy,
+                defectsFilter, statusId, pageSize, offset), "results", TestResult.class);
+    }
+
+    /**
+     * Fetches every test of a run matching the given filters using concurrent offset windows.
+     *
+     * @param runId the test run ID
+     * @return all matching tests in server order
+     */
+    public List<Test> getAllTests(Integer runId, String statusId, String labelId) {
+        log.debug("Fetching all tests for run: {}", runId);
+        int pageSize = properties.getPagination().getPageSize();
+        return fetchAll(offset -> testsUri(runId, statusId, labelId, pageSize, offset), "tests", Test.class);
+    }
 
-        JsonNode arrayNode = response.has(fieldName) ? response.get(fieldName) : response;
+    // ==================== Reactive API ====================
 
-        if (arrayNode == null || !arrayNode.isArray()) {
-            return List.of();
+    /**
+     * Reactive variant of {@link #getCase(Integer)}. Nothing is sent until the returned
+     * {@code Mono} is subscribed, and no thread is held while the response is in flight.
+     *
+     * @param caseId the test case ID
+     * @return the test case
+     */
+    public Mono<TestCase> getCaseAsync(Integer caseId) {
+        log.debug("Getting test case: {}", caseId);
+        return getEntityAsync(CASE, caseId, "get_case/" + caseId, TestCase.class);
+    }
+
+    /**
+     * Reactive variant of {@link #getRun(Integer)}.
+     *
+     * @param runId the run ID
+     * @return the test run
+     */
+    public Mono<TestRun> getRunAsync(Integer runId) {
+        log.debug("Getting run: {}", runId);
+        return retrieve("get_run/" + runId, TestRun.class);
+    }
+
+    /**
+     * Reactive variant of {@link #getTest(Integer, String)}.
+     *
+     * @param testId the test ID
+     * @param withData optional parameter to get data
+     * @return the test
+     */
+    public Mono<Test> getTestAsync(Integer testId, String withData) {
+        log.debug("Getting test: {}", testId);
+        return retrieve(testUri(testId, withData), Test.class);
+    }
+
+    /**
+     * Reactive variant of {@link #getTests(Integer, String, String, Integer, Integer)}. Tests
+     * are emitted one by one as the page is decoded, before the rest of it has arrived.
+     *
+     * @param runId the test run ID
+     * @param statusId optional comma-separated list of status IDs
+     * @param labelId optional comma-separated list of label IDs
+     * @param limit maximum results (default 250)
+     * @param offset pagination offset
+     * @return tests in server order
+     */
+    public Flux<Test> getTestsAsync(Integer runId, String statusId, String labelId,
+                                    Integer limit, Integer offset) {
+        log.debug("Getting tests for run: {}", runId);
+        return page(testsUri(runId, statusId, labelId, limit, offset), "tests", Test.class);
+    }
+
+    /**
+     * Reactive variant of {@link #getResultsForRun}. Results are emitted one by one as the page
+     * is decoded, before the rest of it has arrived.
+     *
+     * @param runId the run ID
+     * @param createdAfter only return results created after this timestamp
+     * @param createdBefore only return results created before this timestamp
+     * @param createdBy comma-separated list of creator user IDs
+     * @param defectsFilter single Defect ID (e.g. TR-1, 4291, etc.)
+     * @param statusId comma-separated list of status IDs to filter by
+     * @param limit maximum results (1-250)
+     * @param offset pagination offset
+     * @return results in server order
+     */
+    public Flux<TestResult> getResultsForRunAsync(Integer runId, Long createdAfter, Long createdBefore,
+                                                  String createdBy, String defectsFilter, String statusId,
+                                                  Integer limit, Integer offset) {
+        log.debug("Getting results for run: {}", runId);
+        String uri = resultsForRunUri(runId, createdAfter, createdBefore, createdBy, defectsFilter,
+                statusId, limit, offset);
+        return page(uri, "results", TestResult.class);
+    }
+
+    /**
+     * Reactive form of {@link #addCase(Integer, Map)}.
+     */
+    private Mono<TestCase> addCaseAsync(Integer sectionId, Map<String, Object> data) {
+        log.info("Adding test case to section: {}", sectionId);
+        return send("add_case/" + sectionId, data, TestCase.class);
+    }
+
+    /**
+     * Reactive form of {@link #updateCase(Integer, Map)}.
+     */
+    private Mono<TestCase> updateCaseAsync(Integer caseId, Map<String, Object> data) {
+        log.info("Updating test case: {}", caseId);
+        return send("update_case/" + caseId, data, TestCase.class)
+                .doOnNext(updated -> putEntity(CASE, caseId, updated));
+    }
+
+    /**
+     * Reactive form of {@link #streamSections(Integer, Integer)}.
+     */
+    private Flux<Section> getSectionsAsync(Integer projectId, Integer suiteId) {
+        log.debug("Getting sections for project: {}", projectId);
+        return flux(sectionsUri(projectId, suiteId, null, null), "sections", Section.class);
+    }
+
+    // ==================== Incremental Sync ====================
+
+    /**
+     * Returns every test case of a project (and optional suite), keeping a local copy between
+     * calls. The first call downloads all cases; later calls fetch only cases with
+     * {@code updated_on} after the highest value seen so far and merge them in. The copy is
+     * discarded and rebuilt after {@code testrail.cache.collection-full-refresh-interval}, which
+     * also drops cases deleted outside this server. All copies together are kept within
+     * {@code testrail.cache.collection-max-rows}.
+     *
+     * @param projectId the project ID
+     * @param suiteId optional suite ID
+     * @return all cases of the project or suite
+     */
+    public List<TestCase> syncCases(Integer projectId, Integer suiteId) {
+        log.debug("Syncing test cases for project: {}, suite: {}", projectId, suiteId);
+        String key = CASES_COLLECTION + projectId + ":" + suiteId;
+        WatermarkedCollection<TestCase> cases = collection(key, TestCase::getId, TestCase::getUpdatedOn);
+        List<TestCase> synced = cases.refresh(updatedAfter -> getAllCases(projectId, suiteId, null, null, null, null,
+                null, null, null, null, updatedAfter, null, null));
+        trimCollections(key);
+        return synced;
+    }
+
+    // ==================== Bulk Operations ====================
+
+    /**
+     * Fetches many test cases by ID in one call. TestRail has no ID filter on
+     * {@code get_cases}, so when a project is given the cases are taken from a listing, but
+     * only where that costs no more requests than fetching each ID: the whole section when one
+     * is given, the synced copy from {@link #syncCases} when one is already held, and otherwise
+     * project pages until every ID was seen or as many pages as IDs were read. IDs not found
+     * there, or every ID if the listing fails, are fetched individually, with at most
+     * {@code testrail.bulk.max-concurrency} requests in flight.
+     *
+     * @param caseIds the case IDs, in the order results should be returned
+     * @param projectId optional project to list cases from
+     * @param suiteId optional suite to list cases from
+     * @param sectionId optional section to list cases from
+     * @return one item per requested ID, in request order, each holding the case or the error
+     */
+    public BulkResult<TestCase> getCasesByIds(List<Integer> caseIds, Integer projectId,
+                                              Integer suiteId, Integer sectionId) {
+        log.debug("Getting {} test cases by ID", caseIds.size());
+        Map<Integer, BulkItemResult<TestCase>> byId = new HashMap<>();
+
+        if (projectId != null) {
+            Set<Integer> wanted = new HashSet<>(caseIds);
+            try {
+                for (TestCase testCase : listCases(wanted, projectId, suiteId, sectionId)) {
+                    if (wanted.contains(testCase.getId())) {
+                        byId.put(testCase.getId(), BulkItemResult.success(testCase.getId(), testCase));
+                    }
+                }
+            } catch (TestrailApiException e) {
+                log.debug("Listing cases of project {} failed, fetching them by ID: {}", projectId, e.getMessage());
+            }
         }
 
-        try {
-            com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
-            return mapper.readerForListOf(elementType).readValue(arrayNode);
-        } catch (Exception e) {
-            log.error("Failed to parse list response", e);
-            return List.of();
+        List<Integer> remaining = caseIds.stream().distinct().filter(id -> !byId.containsKey(id)).toList();
+        Map<Integer, BulkItemResult<TestCase>> fetched = block(Flux.fromIterable(remaining)
+                .flatMap(id -> getCaseAsync(id)
+                                .map(testCase -> BulkItemResult.success(id, testCase))
+                                .defaultIfEmpty(BulkItemResult.failure(id, "Test case C" + id + " not found"))
+                                .onErrorResume(e -> Mono.just(BulkItemResult.failure(id, e.getMessage()))),
+                        Math.max(1, properties.getBulk().getMaxConcurrency()))
+                .collectMap(BulkItemResult::getId));
+        byId.putAll(fetched);
+
+        return BulkResult.of(caseIds.stream().map(byId::get).toList());
+    }
+
+    /**
+     * Lists the cases that may hold {@code wanted}, reading no more pages than there are IDs.
+     */
+    private List<TestCase> listCases(Set<Integer> wanted, Integer projectId, Integer suiteId, Integer sectionId) {
+        if (sectionId != null) {
+            return getAllCases(projectId, suiteId, sectionId, null, null, null, null, null, null,
+                    null, null, null, null);
         }
+        if (collectionCache.getIfPresent(CASES_COLLECTION + projectId + ":" + suiteId) != null) {
+            return syncCases(projectId, suiteId);
+        }
+
+        Set<Integer> missing = new HashSet<>(wanted);
+        String firstPage = casesUri(projectId, suiteId, null, properties.getPagination().getPageSize(), 0,
+                null, null, null, null, null, null, null, null, null, null);
+        return block(pages(firstPage, "cases", TestCase.class)
+                .take(wanted.size())
+                .concatMapIterable(PaginatedResponse::getItems)
+                .doOnNext(testCase -> missing.remove(testCase.getId()))
+                .takeUntil(testCase -> missing.isEmpty())
+                .collectList());
+    }
+
+    /**
+     * Submits a result list of any size to {@code add_results} in chunks of
+     * {@code testrail.bulk.result-chunk-size}, with up to {@code testrail.bulk.max-concurrency}
+     * chunks in flight. A chunk that fails with a server error or lost response is checked
+     * against the newest results of its tests before it is resent, so results TestRail already
+     * recorded are not added twice. Results are sent unchanged.
+     *
+     * @param runId the run ID
+     * @param results result objects, each with a {@code test_id}
+     * @return a report per chunk, in submission order
+     */
+    public ChunkedSubmitResult addResultsInChunks(Integer runId, List<Map<String, Object>> results) {
+        log.info("Adding {} results for run {} in chunks", results.size(), runId);
+        return submitResultChunks(runId, Flux.fromIterable(results), false);
+    }
+
+    /**
+     * Chunked variant of {@link #addResultsForCases}; see {@link #addResultsInChunks}.
+     *
+     * @param runId the run ID
+     * @param results result objects, each with a {@code case_id}
+     * @return a report per chunk, in submission order
+     */
+    public ChunkedSubmitResult addResultsForCasesInChunks(Integer runId, List<Map<String, Object>> results) {
+        log.info("Adding {} results for cases in run {} in chunks", results.size(), runId);
+        return submitResultChunks(runId, Flux.fromIterable(results), true);
+    }
+
+    /**
+     * Streaming variant of {@link #addResultsForCasesInChunks(Integer, List)}. Results are pulled
+     * from {@code results} one chunk at a time as earlier chunks complete, so at most
+     * {@code max-concurrency} chunks are held in memory however long the stream is.
+     *
+     * @param runId the run ID
+     * @param results result objects, each with a {@code case_id}
+     * @return a report per chunk, in submission order
+     */
+    public ChunkedSubmitResult addResultsForCasesInChunks(Integer runId, Flux<Map<String, Object>> results) {
+        log.info("Streaming results for cases in run {} in chunks", runId);
+        return submitResultChunks(runId, results, true);
+    }
+
+    /**
+     * Creates many test cases, keeping at most {@code testrail.bulk.max-concurrency}
+     * {@code add_case} requests in flight under the shared rate limit. Each item holds a
+     * {@code section_id}, a {@code title} and any other case fields; a failing item is
+     * reported without stopping the others. In dry-run mode nothing is written: each item is
+     * validated, its section looked up, and the case is returned as it would be sent.
+     *
+     * @param cases case field maps, each with {@code section_id} and {@code title}
+     * @param dryRun validate and preview only
+     * @return one item per requested case, in request order, holding the created case or the error
+     */
+    public BulkResult<TestCase> addCasesBulk(List<Map<String, Object>> cases, boolean dryRun) {
+        log.info("Adding {} test cases in bulk{}", cases.size(), dryRun ? " (dry run)" : "");
+        BulkResult<TestCase> result = bulk(cases, item -> null, item -> {
+            Integer sectionId = toInteger(item.get("section_id"), "section_id");
+            Object title = item.get("title");
+            if (title == null || title.toString().isBlank()) {
+                throw new IllegalArgumentException("title is required");
+            }
+            Map<String, Object> data = new HashMap<>(item);
+            data.remove("section_id");
+            if (dryRun) {
+                return getEntityAsync(SECTION, sectionId, "get_section/" + sectionId, Section.class)
+                        .map(section -> {
+                            TestCase preview = objectMapper.convertValue(data, TestCase.class);
+                            preview.setSectionId(sectionId);
+                            return preview;
+                        });
+            }
+            return addCaseAsync(sectionId, data);
+        }, TestCase::getId);
+        result.setDryRun(dryRun);
+        return result;
+    }
+
+    /**
+     * Updates many test cases, keeping at most {@code testrail.bulk.max-concurrency}
+     * {@code update_case} requests in flight under the shared rate limit. Each item holds a
+     * {@code case_id} and the fields to change. In dry-run mode nothing is written: each case
+     * is fetched and returned with the changes applied locally.
+     *
+     * @param cases field maps, each with {@code case_id}
+     * @param dryRun validate and preview only
+     * @return one item per requested case, in request order, holding the updated case or the error
+     */
+    public BulkResult<TestCase> updateCasesBulk(List<Map<String, Object>> cases, boolean dryRun) {
+        log.info("Updating {} test cases in bulk{}", cases.size(), dryRun ? " (dry run)" : "");
+        BulkResult<TestCase> result = bulk(cases, item -> toIntegerOrNull(item.get("case_id")), item -> {
+            Integer caseId = toInteger(item.get("case_id"), "case_id");
+            Map<String, Object> data = new HashMap<>(item);
+            data.remove("case_id");
+            if (data.isEmpty()) {
+                throw new IllegalArgumentException("No fields to update");
+            }
+            if (dryRun) {
+                return getCaseAsync(caseId).map(current -> {
+                    Map<String, Object> merged = objectMapper.convertValue(current, new TypeReference<Map<String, Object>>() {});
+                    merged.putAll(data);
+                    return objectMapper.convertValue(merged, TestCase.class);
+                });
+            }
+            return updateCaseAsync(caseId, data);
+        }, TestCase::getId);
+        result.setDryRun(dryRun);
+        return result;
     }
 
-    private <T> List<T> extractListDirect(JsonNode response, Class<T> elementType) {
-        if (response == null || !response.isArray()) {
-            return List.of();
+    /**
+     * Deep-clones a section with all of its sub-sections and cases. The hierarchy is
+     * recreated top-down one depth level at a time: sections of a level are created in
+     * parallel (siblings in their original order), with parent IDs remapped to the new
+     * sections, and the level's cases are then copied with {@code copy_cases_to_section} in
+     * batches of {@value #CASE_COPY_BATCH}. Up to {@code testrail.bulk.max-concurrency}
+     * requests run at once. A section that cannot be created is reported and its subtree
+     * skipped; the rest of the tree is still cloned. Cases are listed only for the sections of
+     * the tree, one {@code get_cases} query per section, and are not cached.
+     *
+     * @param projectId the project ID
+     * @param sourceSectionId the root of the tree to clone
+     * @param targetSuiteId suite to clone into; defaults to the source suite
+     * @param targetParentId section to create the clone under; {@code null} for top level
+     * @param newName name for the cloned root; defaults to the source name
+     * @return counts, per-stage timings and errors
+     */
+    public CloneSectionTreeResult cloneSectionTree(Integer projectId, Integer sourceSectionId, Integer targetSuiteId,
+                                                   Integer targetParentId, String newName) {
+        log.info("Cloning section tree {} in project {}", sourceSectionId, projectId);
+        long started = System.nanoTime();
+        int concurrency = Math.max(1, properties.getBulk().getMaxConcurrency());
+        CloneSectionTreeResult result = new CloneSectionTreeResult(sourceSectionId);
+
+        Section root = getSection(sourceSectionId);
+        Integer suiteId = root.getSuiteId();
+        Integer suiteForClone = targetSuiteId != null ? targetSuiteId : suiteId;
+        Map<Integer, List<Section>> children = new HashMap<>();
+        List<Section> allSections = block(getSectionsAsync(projectId, suiteId).collectList());
+        for (Section section : allSections != null ? allSections : List.<Section>of()) {
+            if (section.getParentId() != null) {
+                children.computeIfAbsent(section.getParentId(), parent -> new ArrayList<>()).add(section);
+            }
+        }
+        children.values().forEach(siblings -> siblings.sort(Comparator.comparing(Section::getDisplayOrder,
+                Comparator.nullsLast(Comparator.naturalOrder()))));
+
+        List<List<Section>> levels = new ArrayList<>();
+        for (List<Section> level = List.of(root); !level.isEmpty(); ) {
+            levels.add(level);
+            level = level.stream()
+                    .flatMap(section -> children.getOrDefault(section.getId(), List.of()).stream())
+                    .toList();
+        }
+        Set<Integer> treeIds = levels.stream().flatMap(List::stream).map(Section::getId).collect(Collectors.toSet());
+        int pageSize = properties.getPagination().getPageSize();
+        List<TestCase> treeCases = block(Flux.fromIterable(treeIds)
+                .flatMap(sectionId -> flux(casesUri(projectId, suiteId, sectionId, pageSize, 0, null, null, null, null,
+                                null, null, null, null, null, null), "cases", TestCase.class)
+                        .filter(testCase -> sectionId.equals(testCase.getSectionId())), concurrency)
+                .collectList());
+        Map<Integer, List<Integer>> caseIdsBySection = new HashMap<>();
+        for (TestCase testCase : treeCases != null ? treeCases : List.<TestCase>of()) {
+            caseIdsBySection.computeIfAbsent(testCase.getSectionId(), section -> new ArrayList<>()).add(testCase.getId());
+        }
+        result.getStages().add(new CloneSectionTreeResult.Stage("load", treeIds.size(),
+                caseIdsBySection.values().stream().mapToInt(List::size).sum(), elapsedMillis(started)));
+
+        Map<Integer, Integer> clonedIds = new ConcurrentHashMap<>();
+        for (int depth = 0; depth < levels.size(); depth++) {
+            long levelStarted = System.nanoTime();
+            List<Section> level = levels.get(depth);
+            boolean isRoot = depth == 0;
+
+            Map<Integer, List<Section>> byParent = new LinkedHashMap<>();
+            for (Section section : level) {
+                byParent.computeIfAbsent(isRoot ? -1 : section.getParentId(), parent -> new ArrayList<>()).add(section);
+            }
+            Long created = block(Flux.fromIterable(byParent.values())
+                    .flatMap(siblings -> Flux.fromIterable(siblings).concatMap(section -> {
+                        Integer parentId = isRoot ? targetParentId : clonedIds.get(section.getParentId());
+                        if (!isRoot && parentId == null) {
+                            result.getErrors().add("Section " + section.getId() + " skipped: its parent was not cloned");
+                            return Mono.empty();
+                        }
+                        Map<String, Object> data = new HashMap<>();
+                        data.put("name", isRoot && newName != null ? newName : section.getName());
+                        if (section.getDescription() != null) data.put("description", section.getDescription());
+                        if (suiteForClone != null) data.put("suite_id", suiteForClone);
+                        if (parentId != null) data.put("parent_id", parentId);
+                        return send("add_section/" + projectId, data, Section.class)
+                                .doOnNext(clone -> clonedIds.put(section.getId(), clone.getId()))
+                                .onErrorResume(e -> {
+                                    result.getErrors().add("Section " + section.getId() + " '" + section.getName()
+                                            + "': " + e.getMessage());
+                                    return Mono.empty();
+                                });
+                    }), concurrency)
+                    .count());
+
+            Long copied = block(Flux.fromIterable(level)
+                    .filter(section -> clonedIds.containsKey(section.getId()))
+                    .filter(section -> caseIdsBySection.containsKey(section.getId()))
+                    .flatMap(section -> Flux.fromIterable(partition(caseIdsBySection.get(section.getId()), CASE_COPY_BATCH))
+                            .concatMap(batch -> sendBodiless("copy_cases_to_section/" + clonedIds.get(section.getId()),
+                                    Map.of("case_ids", batch))
+                                    .thenReturn(batch.size())
+                                    .onErrorResume(e -> {
+                                        result.getErrors().add("Cases of section " + section.getId() + " ("
+                                                + batch.size() + "): " + e.getMessage());
+                                        return Mono.just(0);
+                                    })), concurrency)
+                    .reduce(0L, Long::sum));
+
+            result.setSectionsCreated(result.getSectionsCreated() + (created != null ? created.intValue() : 0));
+            result.setCasesCopied(result.getCasesCopied() + (copied != null ? copied.intValue() : 0));
+            result.getStages().add(new CloneSectionTreeResult.Stage("level " + depth,
+                    created != null ? created.intValue() : 0, copied != null ? copied.intValue() : 0,
+                    elapsedMillis(levelStarted)));
+        }
+
+        result.setTargetSectionId(clonedIds.get(sourceSectionId));
+        result.setDurationMs(elapsedMillis(started));
+        if (result.getCasesCopied() > 0) {
+            evictCollections(CASES_COLLECTION);
+        }
+        return result;
+    }
+
+    private static <T> List<List<T>> partition(List<T> items, int size) {
+        List<List<T>> batches = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += size) {
+            batches.add(items.subList(from, Math.min(items.size(), from + size)));
+        }
+        return batches;
+    }
+
+    private static long elapsedMillis(long startedNanos) {
+        return Duration.ofNanos(System.nanoTime() - startedNanos).toMillis();
+    }
+
+    /**
+     * Runs {@code operation} for every item with at most {@code testrail.bulk.max-concurrency}
+     * in flight, turning each outcome into a {@link BulkItemResult} in request order.
+     */
+    private <T> BulkResult<T> bulk(List<Map<String, Object>> items,
+                                   Function<Map<String, Object>, Integer> requestedId,
+                                   Function<Map<String, Object>, Mono<T>> operation,
+                                   Function<T, Integer> idOf) {
+        List<BulkItemResult<T>> results = block(Flux.fromIterable(items)
+                .flatMapSequential(item -> Mono.defer(() -> operation.apply(item))
+                        .map(value -> BulkItemResult.success(idOf.apply(value), value))
+                        .switchIfEmpty(Mono.fromSupplier(() -> BulkItemResult.failure(requestedId.apply(item),
+                                "TestRail returned an empty response")))
+                        .onErrorResume(e -> Mono.just(BulkItemResult.failure(requestedId.apply(item), e.getMessage()))),
+                        Math.max(1, properties.getBulk().getMaxConcurrency()))
+                .collectList());
+        return BulkResult.of(results != null ? results : List.of());
+    }
+
+    private static Integer toInteger(Object value, String field) {
+        if (value == null) {
+            throw new IllegalArgumentException(field + " is required");
+        }
+        Integer parsed = toIntegerOrNull(value);
+        if (parsed == null) {
+            throw new IllegalArgumentException(field + " must be an integer, got: " + value);
+        }
+        return parsed;
+    }
+
+    private static Integer toIntegerOrNull(Object value) {
+        if (value instanceof Number number) {
+            return number.intValue();
+        }
+        if (value instanceof String text) {
+            try {
+                return Integer.valueOf(text.trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private ChunkedSubmitResult submitResultChunks(Integer runId, Flux<Map<String, Object>> results, boolean byCase) {
+        int chunkSize = Math.max(1, properties.getBulk().getResultChunkSize());
+
+        List<ChunkReport> reports = block(latestResultTime(runId)
+                .flatMapMany(submittedAfter -> results
+                        .buffer(chunkSize)
+                        .index()
+                        .flatMapSequential(indexed -> {
+                            long index = indexed.getT1();
+                            List<Map<String, Object>> chunk = indexed.getT2();
+                            ChunkReport report = new ChunkReport((int) index, index * chunkSize, chunk.size());
+                            return submitResultChunk(runId, byCase, chunk, submittedAfter, report);
+                        }, Math.max(1, properties.getBulk().getMaxConcurrency()), 1))
+                .collectList());
+        return ChunkedSubmitResult.of(reports != null ? reports : List.of());
+    }
+
+    /**
+     * Returns a second before the newest result already in the run, by TestRail's clock, or 0
+     * when the run has none or the probe fails. Results of a submission started afterwards
+     * are all created after this time.
+     */
+    private Mono<Long> latestResultTime(Integer runId) {
+        return fetchPage(resultsForRunUri(runId, null, null, null, null, null, 1, null), "results", TestResult.class)
+                .map(page -> page.getItems().isEmpty() || page.getItems().get(0).getCreatedOn() == null
+                        ? 0L
+                        : page.getItems().get(0).getCreatedOn() - 1)
+                .onErrorReturn(0L);
+    }
+
+    private Mono<ChunkReport> submitResultChunk(Integer runId, boolean byCase, List<Map<String, Object>> pending,
+                                                long submittedAfter, ChunkReport report) {
+        report.setAttempts(report.getAttempts() + 1);
+        String endpoint = (byCase ? "add_results_for_cases/" : "add_results/") + runId;
+
+        return sendPage(endpoint, Map.of("results", pending), TestResult.class)
+                .map(page -> {
+                    report.setSubmitted(page.getItems().size());
+                    report.setSuccess(true);
+                    report.setError(null);
+                    return report;
+                })
+                .onErrorResume(e -> {
+                    report.setError(e.getMessage());
+                    boolean outcomeUnknown = e instanceof TestrailApiException apiException
+                            && (apiException.getStatusCode() == 0 || apiException.getStatusCode() >= 500);
+                    if (!outcomeUnknown || report.getAttempts() > properties.getBulk().getChunkRetries()) {
+                        log.warn("Result chunk {} for run {} failed: {}", report.getIndex(), runId, e.getMessage());
+                        return Mono.just(report);
+                    }
+                    Duration delay = backoff(properties.getRateLimit().getInitialBackoff(),
+                            properties.getRateLimit().getMaxBackoff(), report.getAttempts());
+                    return Mono.delay(delay)
+                            .then(unrecordedResults(runId, byCase, pending, submittedAfter))
+                            .flatMap(unrecorded -> {
+                                report.setRecovered(report.getRecovered() + pending.size() - unrecorded.size());
+                                if (unrecorded.isEmpty()) {
+                                    report.setSuccess(true);
+                                    report.setError(null);
+                                    return Mono.just(report);
+                                }
+                                return submitResultChunk(runId, byCase, unrecorded, submittedAfter, report);
+                            })
+                            .onErrorResume(checkFailure -> Mono.just(report));
+                });
+    }
+
+    /**
+     * Returns the items of a chunk that TestRail has not recorded. Used after a failed attempt,
+     * whose request may still have been applied. For each test (or case) in the chunk, only its
+     * newest results are read, as many as the chunk holds for it, and those created since the
+     * submission started are matched to the items by status and comment. The reads bypass
+     * {@link #singleFlight}, so they never join a request sent before the failed attempt.
+     */
+    private Mono<List<Map<String, Object>>> unrecordedResults(Integer runId, boolean byCase,
+                                                              List<Map<String, Object>> pending, long submittedAfter) {
+        String idField = byCase ? "case_id" : "test_id";
+        Map<Integer, List<Map<String, Object>>> byTarget = new LinkedHashMap<>();
+        for (Map<String, Object> item : pending) {
+            Integer id = toIntegerOrNull(item.get(idField));
+            if (id != null) {
+                byTarget.computeIfAbsent(id, target -> new ArrayList<>()).add(item);
+            }
         }
 
-        try {
-            com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
-            return mapper.readerForListOf(elementType).readValue(response);
-        } catch (Exception e) {
-            log.error("Failed to parse list response", e);
-            return List.of();
+        return Flux.fromIterable(byTarget.entrySet())
+                .flatMap(target -> {
+                    List<Map<String, Object>> items = target.getValue();
+                    String uri = byCase
+                            ? resultsForCaseUri(runId, target.getKey(), null, null, items.size(), null)
+                            : resultsUri(target.getKey(), null, null, items.size(), null);
+                    return page(uri, "results", TestResult.class)
+                            .filter(result -> result.getCreatedOn() != null && result.getCreatedOn() > submittedAfter)
+                            .map(result -> resultFingerprint(result.getStatusId(), result.getComment()))
+                            .collectList()
+                            .flatMapIterable(recorded -> recordedItems(items, recorded));
+                }, Math.max(1, properties.getBulk().getMaxConcurrency()))
+                .collect(() -> Collections.newSetFromMap(new IdentityHashMap<Map<String, Object>, Boolean>()), Set::add)
+                .map(recorded -> pending.stream().filter(item -> !recorded.contains(item)).toList());
+    }
+
+    /**
+     * Returns the items matched by a recorded result, each recorded result matching one item.
+     */
+    private static List<Map<String, Object>> recordedItems(List<Map<String, Object>> items, List<String> recorded) {
+        List<String> unmatched = new ArrayList<>(recorded);
+        List<Map<String, Object>> matched = new ArrayList<>();
+        for (Map<String, Object> item : items) {
+            if (unmatched.remove(resultFingerprint(toIntegerOrNull(item.get("status_id")), item.get("comment")))) {
+                matched.add(item);
+            }
         }
+        return matched;
+    }
+
+    private static String resultFingerprint(Integer statusId, Object comment) {
+        return statusId + "|" + (comment != null ? comment.toString().strip() : "");
+    }
+
+    // ==================== Query Builders ====================
+
+    private String casesUri(Integer projectId, Integer suiteId, Integer sectionId, Integer limit,
+                            Integer offset, Long createdAfter, Long createdBefore, String createdBy,
+                            String filter, Integer milestoneId, String priorityId, String typeId,
+                            Long updatedAfter, Long updatedBefore, String updatedBy) {
+        StringBuilder uri = new StringBuilder("get_cases/" + projectId);
+        String separator = "?";
+
+        if (suiteId != null) {
+            uri.append(separator).append("suite_id=").append(suiteId);
+            separator = "&";
+        }
+        if (sectionId != null) {
+            uri.append(separator).append("section_id=").append(sectionId);
+            separator = "&";
+        }
+        if (limit != null) {
+            uri.append(separator).append("limit=").append(limit);
+            separator = "&";
+        }
+        if (offset != null) {
+            uri.append(separator).append("offset=").append(offset);
+            separator = "&";
+        }
+        if (createdAfter != null) {
+            uri.append(separator).append("created_after=").append(createdAfter);
+            separator = "&";
+        }
+        if (createdBefore != null) {
+            uri.append(separator).append("created_before=").append(createdBefore);
+            separator = "&";
+        }
+        if (createdBy != null) {
+            uri.append(separator).append("created_by=").append(createdBy);
+            separator = "&";
+        }
+        if (filter != null) {
+            uri.append(separator).append("filter=").append(filter);
+            separator = "&";
+        }
+        if (milestoneId != null) {
+            uri.append(separator).append("milestone_id=").append(milestoneId);
+            separator = "&";
+        }
+        if (priorityId != null) {
+            uri.append(separator).append("priority_id=").append(priorityId);
+            separator = "&";
+        }
+        if (typeId != null) {
+            uri.append(separator).append("type_id=").append(typeId);
+            separator = "&";
+        }
+        if (updatedAfter != null) {
+            uri.append(separator).append("updated_after=").append(updatedAfter);
+            separator = "&";
+        }
+        if (updatedBefore != null) {
+            uri.append(separator).append("updated_before=").append(updatedBefore);
+            separator = "&";
+        }
+        if (updatedBy != null) {
+            uri.append(separator).append("updated_by=").append(updatedBy);
+        }
+        return uri.toString();
+    }
+
+    private String projectsUri(Boolean isCompleted, Integer limit, Integer offset) {
+        StringBuilder uri = new StringBuilder("get_projects");
+        String separator = "?";
+
+        if (isCompleted != null) {
+            uri.append(separator).append("is_completed=").append(isCompleted ? 1 : 0);
+            separator = "&";
+        }
+        if (limit != null) {
+            uri.append(separator).append("limit=").append(limit);
+            separator = "&";
+        }
+        if (offset != null) {
+            uri.append(separator).append("offset=").append(offset);
+        }
+        return uri.toString();
+    }
+
+    private String runsUri(Integer projectId, Boolean isCompleted, Long createdAfter, Long createdBefore,
+                           String createdBy, String milestoneId, String suiteId, Integer limit,
+                           Integer offset) {
+        StringBuilder uri = new StringBuilder("get_runs/" + projectId);
+        String separator = "?";
+
+        if (isCompleted != null) {
+            uri.append(separator).append("is_completed=").append(isCompleted ? 1 : 0);
+            separator = "&";
+        }
+        if (createdAfter != null) {
+            uri.append(separator).append("created_after=").append(createdAfter);
+            separator = "&";
+        }
+        if (createdBefore != null) {
+            uri.append(separator).append("created_before=").append(createdBefore);
+            separator = "&";
+        }
+        if (createdBy != null) {
+            uri.append(separator).append("created_by=").append(createdBy);
+            separator = "&";
+        }
+        if (milestoneId != null) {
+            uri.append(separator).append("milestone_id=").append(milestoneId);
+            separator = "&";
+        }
+        if (suiteId != null) {
+            uri.append(separator).append("suite_id=").append(suiteId);
+            separator = "&";
+        }
+        if (limit != null) {
+            uri.append(separator).append("limit=").append(limit);
+            separator = "&";
+        }
+        if (offset != null) {
+            uri.append(separator).append("offset=").append(offset);
+        }
+        return uri.toString();
+    }
+
+    private String resultsUri(Integer testId, String defectsFilter, String statusId, Integer limit,
+                              Integer offset) {
+        StringBuilder uri = new StringBuilder("get_results/" + testId);
+        String separator = "?";
+
+        if (defectsFilter != null) {
+            uri.append(separator).append("defects_filter=").append(defectsFilter);
+            separator = "&";
+        }
+        if (statusId != null) {
+            uri.append(separator).append("status_id=").append(statusId);
+            separator = "&";
+        }
+        if (limit != null) {
+            uri.append(separator).append("limit=").append(limit);
+            separator = "&";
+        }
+        if (offset != null) {
+            uri.append(separator).append("offset=").append(offset);
+        }
+        return uri.toString();
+    }
+
+    private String resultsForRunUri(Integer runId, Long createdAfter, Long createdBefore,
+                                    String createdBy, String defectsFilter, String statusId,
+                                    Integer limit, Integer offset) {
+        StringBuilder uri = new StringBuilder("get_results_for_run/" + runId);
+        String separator = "?";
+
+        if (createdAfter != null) {
+            uri.append(separator).append("created_after=").append(createdAfter);
+            separator = "&";
+        }
+        if (createdBefore != null) {
+            uri.append(separator).append("created_before=").append(createdBefore);
+            separator = "&";
+        }
+        if (createdBy != null) {
+            uri.append(separator).append("created_by=").append(createdBy);
+            separator = "&";
+        }
+        if (defectsFilter != null) {
+            uri.append(separator).append("defects_filter=").append(defectsFilter);
+            separator = "&";
+        }
+        if (statusId != null) {
+            uri.append(separator).append("status_id=").append(statusId);
+            separator = "&";
+        }
+        if (limit != null) {
+            uri.append(separator).append("limit=").append(limit);
+            separator = "&";
+        }
+        if (offset != null) {
+            uri.append(separator).append("offset=").append(offset);
+        }
+        return uri.toString();
+    }
+
+    private String resultsForCaseUri(Integer runId, Integer caseId, String defectsFilter,
+                                     String statusId, Integer limit, Integer offset) {
+        StringBuilder uri = new StringBuilder("get_results_for_case/" + runId + "/" + caseId);
+        String separator = "?";
+
+        if (defectsFilter != null) {
+            uri.append(separator).append("defects_filter=").append(defectsFilter);
+            separator = "&";
+        }
+        if (statusId != null) {
+            uri.append(separator).append("status_id=").append(statusId);
+            separator = "&";
+        }
+        if (limit != null) {
+            uri.append(separator).append("limit=").append(limit);
+            separator = "&";
+        }
+        if (offset != null) {
+            uri.append(separator).append("offset=").append(offset);
+        }
+        return uri.toString();
+    }
+
+    private String sectionsUri(Integer projectId, Integer suiteId, Integer limit, Integer offset) {
+        StringBuilder uri = new StringBuilder("get_sections/" + projectId);
+        String separator = "?";
+
+        if (suiteId != null) {
+            uri.append(separator).append("suite_id=").append(suiteId);
+            separator = "&";
+        }
+        if (limit != null) {
+            uri.append(separator).append("limit=").append(limit);
+            separator = "&";
+        }
+        if (offset != null) {
+            uri.append(separator).append("offset=").append(offset);
+        }
+        return uri.toString();
+    }
+
+    private String plansUri(Integer projectId, Long createdAfter, Long createdBefore, String createdBy,
+                            Integer isCompleted, String milestoneId, Integer limit, Integer offset) {
+        StringBuilder uri = new StringBuilder("get_plans/" + projectId);
+        String separator = "?";
+
+        if (createdAfter != null) {
+            uri.append(separator).append("created_after=").append(createdAfter);
+            separator = "&";
+        }
+        if (createdBefore != null) {
+            uri.append(separator).append("created_before=").append(createdBefore);
+            separator = "&";
+        }
+        if (createdBy != null && !createdBy.isEmpty()) {
+            uri.append(separator).append("created_by=").append(createdBy);
+            separator = "&";
+        }
+        if (isCompleted != null) {
+            uri.append(separator).append("is_completed=").append(isCompleted);
+            separator = "&";
+        }
+        if (milestoneId != null && !milestoneId.isEmpty()) {
+            uri.append(separator).append("milestone_id=").append(milestoneId);
+            separator = "&";
+        }
+        if (limit != null) {
+            uri.append(separator).append("limit=").append(limit);
+            separator = "&";
+        }
+        if (offset != null) {
+            uri.append(separator).append("offset=").append(offset);
+        }
+        return uri.toString();
+    }
+
+    private String milestonesUri(Integer projectId, Boolean isCompleted, Boolean isStarted,
+                                 Integer limit, Integer offset) {
+        StringBuilder uri = new StringBuilder("get_milestones/" + projectId);
+        String separator = "?";
+
+        if (isCompleted != null) {
+            uri.append(separator).append("is_completed=").append(isCompleted ? 1 : 0);
+            separator = "&";
+        }
+        if (isStarted != null) {
+            uri.append(separator).append("is_started=").append(isStarted ? 1 : 0);
+            separator = "&";
+        }
+        if (limit != null) {
+            uri.append(separator).append("limit=").append(limit);
+            separator = "&";
+        }
+        if (offset != null) {
+            uri.append(separator).append("offset=").append(offset);
+        }
+
+        return uri.toString();
+    }
+
+    private String testUri(Integer testId, String withData) {
+        StringBuilder uri = new StringBuilder("get_test/" + testId);
+        if (withData != null && !withData.isEmpty()) {
+            uri.append("?with_data=").append(withData);
+        }
+        return uri.toString();
+    }
+
+    private String testsUri(Integer runId, String statusId, String labelId, Integer limit, Integer offset) {
+        StringBuilder uri = new StringBuilder("get_tests/" + runId);
+        String separator = "?";
+
+        if (statusId != null && !statusId.isEmpty()) {
+            uri.append(separator).append("status_id=").append(statusId);
+            separator = "&";
+        }
+        if (labelId != null && !labelId.isEmpty()) {
+            uri.append(separator).append("label_id=").append(labelId);
+            separator = "&";
+        }
+        if (limit != null) {
+            uri.append(separator).append("limit=").append(limit);
+            separator = "&";
+        }
+        if (offset != null) {
+            uri.append(separator).append("offset=").append(offset);
+        }
+        return uri.toString();
+    }
+
+    private String labelsUri(int projectId, Integer limit, Integer offset) {
+        StringBuilder url = new StringBuilder("get_labels/" + projectId);
+        List<String> params = new ArrayList<>();
+        if (limit != null) params.add("limit=" + limit);
+        if (offset != null) params.add("offset=" + offset);
+        if (!params.isEmpty()) {
+            url.append("?").append(String.join("&", params));
+        }
+        return url.toString();
+    }
+
+    // ==================== Caching ====================
+
+    /**
+     * Returns hit, miss and eviction counters for the metadata cache.
+     *
+     * @return metadata cache statistics
+     */
+    public TtlCache.Stats getMetadataCacheStats() {
+        return metadataCache.stats();
+    }
+
+    /**
+     * Drops every cached metadata response so the next lookup goes to TestRail.
+     */
+    public void invalidateMetadataCache() {
+        log.info("Invalidating metadata cache");
+        metadataCache.invalidateAll();
+    }
+
+    /**
+     * Returns hit, miss and eviction counters for the entity cache.
+     *
+     * @return entity cache statistics
+     */
+    public TtlCache.Stats getEntityCacheStats() {
+        return entityCache.stats();
+    }
+
+    /**
+     * Drops every cached case, section, suite and project.
+     */
+    public void invalidateEntityCache() {
+        log.info("Invalidating entity cache");
+        entityCache.invalidateAll();
+    }
+
+    private <T> T getEntity(String kind, Integer id, String uri, Class<T> type) {
+        return type.cast(entityCache.get(kind + ":" + id, () -> get(uri, type)));
+    }
+
+    private <T> T putEntity(String kind, Integer id, T entity) {
+        if (entity != null) {
+            entityCache.put(kind + ":" + id, entity);
+        } else {
+            evictEntity(kind, id);
+        }
+        return entity;
+    }
+
+    /**
+     * Reactive counterpart of {@link #getEntity}. Like {@link TtlCache#get}, it captures the
+     * cache generation before the request, so a load overtaken by an update, delete or move
+     * does not put the stale entity back.
+     */
+    private <T> Mono<T> getEntityAsync(String kind, Integer id, String uri, Class<T> type) {
+        return Mono.defer(() -> {
+            String key = kind + ":" + id;
+            Object cached = entityCache.getIfPresent(key);
+            if (cached != null) {
+                return Mono.just(type.cast(cached));
+            }
+            long loadGeneration = entityCache.currentGeneration();
+            return retrieve(uri, type).doOnNext(entity -> entityCache.putIfCurrent(key, entity, loadGeneration));
+        });
+    }
+
+    private void evictEntity(String kind, Integer id) {
+        entityCache.invalidate(kind + ":" + id);
+    }
+
+    private void evictEntities(String kind) {
+        entityCache.invalidateIf(key -> key.startsWith(kind + ":"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> WatermarkedCollection<T> collection(String key, Function<T, Integer> idOf,
+                                                    Function<T, Long> timestampOf) {
+        return (WatermarkedCollection<T>) collectionCache.get(key,
+                () -> new WatermarkedCollection<>(idOf, timestampOf));
+    }
+
+    private void evictCollections(String prefix) {
+        collectionCache.invalidateIf(key -> key.startsWith(prefix));
+    }
+
+    /**
+     * Keeps the synced collections within {@code testrail.cache.collection-max-rows} in total by
+     * discarding the largest collections other than {@code refreshedKey}, and that one too if it
+     * alone is over the budget.
+     */
+    private void trimCollections(String refreshedKey) {
+        long maxRows = properties.getCache().getCollectionMaxRows();
+        Map<String, Integer> sizes = new HashMap<>();
+        collectionCache.forEach((key, collection) -> sizes.put(key, collection.size()));
+        long total = sizes.values().stream().mapToLong(Integer::longValue).sum();
+        if (total <= maxRows) {
+            return;
+        }
+
+        List<Map.Entry<String, Integer>> largestFirst = sizes.entrySet().stream()
+                .filter(entry -> !entry.getKey().equals(refreshedKey))
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .toList();
+        for (Map.Entry<String, Integer> entry : largestFirst) {
+            if (total <= maxRows) {
+                break;
+            }
+            collectionCache.invalidate(entry.getKey());
+            total -= entry.getValue();
+        }
+        if (total > maxRows) {
+            log.debug("Synced collection {} exceeds the row budget of {}; not keeping it", refreshedKey, maxRows);
+            collectionCache.invalidate(refreshedKey);
+            if (sizes.getOrDefault(refreshedKey, 0) > maxRows) {
+                oversizedCollections.add(refreshedKey);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> getCachedList(String uri, String fieldName, Class<T> elementType) {
+        return (List<T>) metadataCache.get(uri,
+                () -> Collections.unmodifiableList(getList(uri, fieldName, elementType)));
+    }
+
+    private void invalidateConfigs() {
+        metadataCache.invalidateIf(uri -> uri.startsWith("get_configs/"));
+    }
+
+    // ==================== Helper Methods ====================
+
+    private <T> T get(String uri, Class<T> responseType) {
+        return block(retrieve(uri, responseType));
+    }
+
+    private <T> List<T> getList(String uri, String fieldName, Class<T> elementType) {
+        PaginatedResponse<T> page = block(fetchPage(uri, fieldName, elementType));
+        return page != null ? page.getItems() : List.of();
+    }
+
+    private <T> T post(String uri, Object data, Class<T> responseType) {
+        if (responseType == Void.class) {
+            block(sendBodiless(uri, data));
+            return null;
+        }
+        return block(send(uri, data, responseType));
+    }
+
+    private <T> List<T> postList(String uri, Object data, Class<T> elementType) {
+        PaginatedResponse<T> page = block(sendPage(uri, data, elementType));
+        return page != null ? page.getItems() : List.of();
+    }
+
+    private <T> T block(Mono<T> mono) {
+        try {
+            return mono.block();
+        } catch (TestrailApiException e) {
+            throw e;
+        } catch (Exception e) {
+            throw toApiException(e);
+        }
+    }
+
+    private <T> Mono<T> retrieve(String uri, Class<T> responseType) {
+        return singleFlight(uri + "|" + responseType.getName(),
+                throttled(Mono.defer(() -> getSpec(uri).bodyToMono(responseType))
+                        .onErrorMap(e -> !(e instanceof TestrailApiException), this::toApiException), true));
+    }
+
+    private <T> Mono<T> send(String uri, Object data, Class<T> responseType) {
+        return throttled(Mono.defer(() -> postSpec(uri, data).bodyToMono(responseType))
+                .onErrorMap(e -> !(e instanceof TestrailApiException), this::toApiException), false);
+    }
+
+    private Mono<Void> sendBodiless(String uri, Object data) {
+        return throttled(Mono.defer(() -> postSpec(uri, data).toBodilessEntity()), false).then();
+    }
+
+    private <T> Mono<PaginatedResponse<T>> sendPage(String uri, Object data, Class<T> elementType) {
+        return throttled(Mono.defer(() -> decodeList(postSpec(uri, data), null, elementType)), false);
+    }
+
+    /**
+     * Takes a token from the shared rate limiter before each (re)subscription of
+     * {@code request}, and retries failures that are safe to repeat. GETs are retried after
+     * 429, 502, 503, 504 and connection failures; POSTs only after 429, which TestRail sends
+     * before processing the request. A {@code Retry-After} delay is honoured and pauses the
+     * limiter for every caller; otherwise the delay grows exponentially with full jitter.
+     */
+    private <T> Mono<T> throttled(Mono<T> request, boolean idempotent) {
+        return rateLimiter.acquire()
+                .then(request)
+                .retryWhen(retry(idempotent, () -> false));
+    }
+
+    /**
+     * Variant of {@link #throttled} for a GET whose elements are emitted as they are decoded.
+     * A failure is only retried while nothing has been emitted, so no element is delivered twice.
+     */
+    private <T> Flux<T> throttledMany(Flux<T> request) {
+        return Flux.defer(() -> {
+            AtomicBoolean emitted = new AtomicBoolean();
+            return rateLimiter.acquire()
+                    .thenMany(request)
+                    .doOnNext(element -> emitted.set(true))
+                    .retryWhen(retry(true, emitted::get));
+        });
+    }
+
+    private Retry retry(boolean idempotent, BooleanSupplier emitted) {
+        TestrailProperties.RateLimit rateLimit = properties.getRateLimit();
+        Duration maxBackoff = rateLimit.getMaxBackoff();
+
+        return Retry.from(signals -> signals.concatMap(signal -> {
+            Throwable failure = signal.failure();
+            if (signal.totalRetries() >= rateLimit.getMaxRetries() || emitted.getAsBoolean()
+                    || !isRetryable(failure, idempotent)) {
+                return Mono.error(failure);
+            }
+            Duration retryAfter = ((TestrailApiException) failure).getRetryAfter();
+            if (retryAfter != null && retryAfter.compareTo(maxBackoff) > 0) {
+                return Mono.error(failure);
+            }
+            Duration delay = retryAfter != null
+                    ? retryAfter
+                    : backoff(rateLimit.getInitialBackoff(), maxBackoff, signal.totalRetries());
+            if (retryAfter != null) {
+                rateLimiter.pause(retryAfter);
+            }
+            log.warn("Retrying TestRail request in {} ms after: {}", delay.toMillis(), failure.getMessage());
+            return Mono.delay(delay);
+        }));
+    }
+
+    private static boolean isRetryable(Throwable failure, boolean idempotent) {
+        if (!(failure instanceof TestrailApiException apiException)) {
+            return false;
+        }
+        int status = apiException.getStatusCode();
+        if (status == 429) {
+            return true;
+        }
+        if (!idempotent) {
+            return false;
+        }
+        return status == 502 || status == 503 || status == 504
+                || (status == 0 && apiException.getCause() instanceof WebClientRequestException);
+    }
+
+    /**
+     * Exponential backoff with full jitter: a random delay between zero and
+     * {@code initial * 2^attempt}, capped at {@code max}.
+     */
+    static Duration backoff(Duration initial, Duration max, long attempt) {
+        long ceiling = Math.min(max.toMillis(), initial.toMillis() << Math.min(attempt, 20));
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(ceiling + 1));
+    }
+
+    /**
+     * Parses a {@code Retry-After} header given either as delta-seconds or as an HTTP date.
+     */
+    static Duration parseRetryAfter(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException e) {
+            try {
+                ZonedDateTime retryAt = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                Duration delay = Duration.between(ZonedDateTime.now(retryAt.getZone()), retryAt);
+                return delay.isNegative() ? Duration.ZERO : delay;
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
+        }
+    }
+
+    private WebClient.ResponseSpec getSpec(String uri) {
+        return handleErrors(webClient.get().uri(uri).retrieve());
+    }
+
+    private WebClient.ResponseSpec postSpec(String uri, Object data) {
+        WebClient.RequestBodySpec requestBodySpec = webClient.post().uri(uri);
+        WebClient.RequestHeadersSpec<?> requestSpec = data != null
+                ? requestBodySpec.bodyValue(data)
+                : requestBodySpec;
+        return handleErrors(requestSpec.retrieve());
+    }
+
+    private WebClient.ResponseSpec handleErrors(WebClient.ResponseSpec responseSpec) {
+        return responseSpec.onStatus(HttpStatusCode::isError, response ->
+                response.bodyToMono(String.class)
+                        .defaultIfEmpty("")
+                        .flatMap(body -> Mono.error(new TestrailApiException(
+                                "TestRail API error: " + body,
+                                response.statusCode().value(),
+                                body,
+                                parseRetryAfter(response.headers().asHttpHeaders()
+                                        .getFirst(HttpHeaders.RETRY_AFTER))))));
+    }
+
+    private TestrailApiException toApiException(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            return new TestrailApiException(
+                    "TestRail API returned HTTP " + responseException.getStatusCode().value() + ": "
+                            + responseException.getResponseBodyAsString(),
+                    responseException.getStatusCode().value(),
+                    responseException.getResponseBodyAsString(),
+                    responseException);
+        }
+        return new TestrailApiException("Failed to call TestRail API: " + e.getMessage(), e);
+    }
+
+    private <T> Stream<T> stream(String uri, String fieldName, Class<T> elementType) {
+        return pages(uri, fieldName, elementType)
+                .toStream(PAGE_PREFETCH)
+                .flatMap(page -> page.getItems().stream());
+    }
+
+    private <T> Flux<PaginatedResponse<T>> pages(String uri, String fieldName, Class<T> elementType) {
+        return fetchPage(uri, fieldName, elementType)
+                .expand(page -> page.hasMore()
+                        ? fetchPage(nextPageUri(page.getLinks().getNext()), fieldName, elementType)
+                        : Mono.empty());
+    }
+
+    /**
+     * Probes the first page, then requests the following offset windows concurrently and
+     * reassembles them in order, stopping at the first page without a {@code _links.next}
+     * pointer. Windows advance by the {@code limit} TestRail reports for the first page, so a
+     * server-side cap on the page size cannot leave gaps between them.
+     */
+    private <T> List<T> fetchAll(IntFunction<String> pageUri, String fieldName, Class<T> elementType) {
+        int concurrency = Math.max(1, properties.getPagination().getMaxConcurrentPages());
+
+        Flux<PaginatedResponse<T>> pages = fetchPage(pageUri.apply(0), fieldName, elementType)
+                .flatMapMany(first -> {
+                    int step = pageStep(first);
+                    if (!first.hasMore() || step <= 0) {
+                        return Flux.just(first);
+                    }
+                    Flux<PaginatedResponse<T>> remaining = Flux.range(1, Integer.MAX_VALUE / step)
+                            .map(index -> pageUri.apply(index * step))
+                            .flatMapSequential(uri -> fetchPage(uri, fieldName, elementType), concurrency)
+                            .takeUntil(page -> !page.hasMore() || page.getItems().isEmpty());
+                    return Flux.concat(Mono.just(first), remaining);
+                });
+
+        return block(pages.concatMapIterable(PaginatedResponse::getItems).collectList());
+    }
+
+    /**
+     * Returns how far apart page offsets are: the page's reported {@code limit}, or its
+     * element count when TestRail omits it.
+     */
+    private static int pageStep(PaginatedResponse<?> page) {
+        return page.getLimit() != null && page.getLimit() > 0 ? page.getLimit() : page.getItems().size();
+    }
+
+    /**
+     * Streams every element of a paginated list, emitting each one as soon as it is decoded
+     * and requesting the next page once the current one has been read. Pages are not shared
+     * through {@link #singleFlight}, since their elements are handed out as they arrive.
+     */
+    private <T> Flux<T> flux(String firstPageUri, String fieldName, Class<T> elementType) {
+        return Flux.defer(() -> {
+            PaginatedResponse<T> page = new PaginatedResponse<>();
+            return throttledMany(Flux.defer(() -> decodeElements(getSpec(firstPageUri), fieldName, elementType, page)))
+                    .concatWith(Flux.defer(() -> page.hasMore()
+                            ? flux(nextPageUri(page.getLinks().getNext()), fieldName, elementType)
+                            : Flux.empty()));
+        });
+    }
+
+    /**
+     * Emits the elements of the single page at {@code uri} as they are decoded, without
+     * following {@code _links.next}. Like {@link #flux}, it bypasses {@link #singleFlight}.
+     */
+    private <T> Flux<T> page(String uri, String fieldName, Class<T> elementType) {
+        return throttledMany(Flux.defer(() ->
+                decodeElements(getSpec(uri), fieldName, elementType, new PaginatedResponse<>())));
+    }
+
+    private <T> Mono<PaginatedResponse<T>> fetchPage(String uri, String fieldName, Class<T> elementType) {
+        return singleFlight(uri + "|" + fieldName + "|" + elementType.getName(),
+                throttled(Mono.defer(() -> decodeList(getSpec(uri), fieldName, elementType)), true));
+    }
+
+    /**
+     * Coalesces concurrent subscriptions for the same {@code key} onto one execution of
+     * {@code request}. The first subscriber starts the request; anyone subscribing before it
+     * terminates receives the same decoded result (or error) instead of sending a duplicate.
+     * The entry is dropped on termination, so later calls always go to the network.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Mono<T> singleFlight(String key, Mono<T> request) {
+        return Mono.defer(() -> {
+            Mono<?>[] created = new Mono<?>[1];
+            Mono<?> shared = inFlightGets.computeIfAbsent(key, k -> created[0] = request
+                    .doFinally(signal -> inFlightGets.remove(k, created[0]))
+                    .cache());
+            if (shared != created[0]) {
+                log.debug("Joining in-flight request: {}", key);
+            }
+            return (Mono<T>) shared;
+        });
+    }
+
+    /**
+     * Decodes a list response into one page. The body is parsed incrementally as it arrives,
+     * so only the decoded elements are held, never the raw page.
+     */
+    private <T> Mono<PaginatedResponse<T>> decodeList(WebClient.ResponseSpec responseSpec, String fieldName,
+                                                      Class<T> elementType) {
+        return Mono.defer(() -> {
+            PaginatedResponse<T> page = new PaginatedResponse<>();
+            return decodeElements(responseSpec, fieldName, elementType, page)
+                    .collectList()
+                    .map(items -> {
+                        page.setItems(items);
+                        return page;
+                    });
+        });
+    }
+
+    /**
+     * Emits the elements of a list response as they are parsed from the body, filling in the
+     * pagination metadata of {@code page} along the way.
+     */
+    private <T> Flux<T> decodeElements(WebClient.ResponseSpec responseSpec, String fieldName, Class<T> elementType,
+                                       PaginatedResponse<T> page) {
+        return listDecoder.decode(responseSpec.bodyToFlux(DataBuffer.class), fieldName, elementReader(elementType), page)
+                .onErrorMap(e -> !(e instanceof TestrailApiException), this::toApiException);
+    }
+
+    /**
+     * Converts a {@code _links.next} value such as {@code /api/v2/get_cases/1&limit=250&offset=250}
+     * into a URI relative to the client's base URL ({@code get_cases/1?limit=250&offset=250}).
+     */
+    static String nextPageUri(String next) {
+        String uri = next;
+        int apiIndex = uri.indexOf(API_PATH);
+        if (apiIndex >= 0) {
+            uri = uri.substring(apiIndex + API_PATH.length());
+        }
+        int ampersand = uri.indexOf('&');
+        if (uri.indexOf('?') < 0 && ampersand >= 0) {
+            uri = uri.substring(0, ampersand) + "?" + uri.substring(ampersand + 1);
+        }
+        return uri;
+    }
+
+    /**
+     * Returns the cached reader for the given element type. Readers are immutable and
+     * thread-safe, so each model class is introspected once and its deserializers are reused
+     * for every subsequent list response.
+     */
+    private ObjectReader elementReader(Class<?> elementType) {
+        return elementReaders.computeIfAbsent(elementType, type -> objectMapper.readerFor(type)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
     }
 }
@@ -1,5 +1,7 @@
 package io.github.testrail.mcp.client;
 
+import java.time.Duration;
+
 /**
  * Exception thrown when a TestRail API call fails.
  */
@@ -7,29 +9,38 @@ public class TestrailApiException extends RuntimeException {
 
     private final int statusCode;
     private final String responseBody;
+    private final Duration retryAfter;
 
     public TestrailApiException(String message) {
         super(message);
         this.statusCode = 0;
         this.responseBody = null;
+        this.retryAfter = null;
     }
 
     public TestrailApiException(String message, int statusCode, String responseBody) {
+        this(message, statusCode, responseBody, (Duration) null);
+    }
+
+    public TestrailApiException(String message, int statusCode, String responseBody, Duration retryAfter) {
         super(message);
         this.statusCode = statusCode;
         this.responseBody = responseBody;
+        this.retryAfter = retryAfter;
     }
 
     public TestrailApiException(String message, Throwable cause) {
         super(message, cause);
         this.statusCode = 0;
         this.responseBody = null;
+        this.retryAfter = null;
     }
 
     public TestrailApiException(String message, int statusCode, String responseBody, Throwable cause) {
         super(message, cause);
         this.statusCode = statusCode;
         this.responseBody = responseBody;
+        this.retryAfter = null;
     }
 
     public int getStatusCode() {
@@ -40,6 +51,24 @@ public class TestrailApiException extends RuntimeException {
         return responseBody;
     }
 
+    /**
+     * Returns the delay requested by the server's {@code Retry-After} header, if any.
+     *
+     * @return the requested delay, or {@code null} when the response carried none
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    /**
+     * Returns whether TestRail rejected the request because of rate limiting (HTTP 429).
+     *
+     * @return true if the request was throttled
+     */
+    public boolean isRateLimited() {
+        return statusCode == 429;
+    }
+
     /**
      * Returns whether this is a "not found" error (HTTP 400 with specific message or 404).
      *
@@ -0,0 +1,99 @@
+package io.github.testrail.mcp.client;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Token-bucket rate limiter shared by every request the client sends.
+ *
+ * <p>Tokens are refilled at a steady rate up to a burst capacity. Each request reserves one
+ * token; when the bucket is empty the reservation is pushed to the time the next token becomes
+ * available and the caller is delayed until then, without blocking a thread. A server-side
+ * {@code Retry-After} can {@link #pause(Duration) pause} the bucket so that every caller backs
+ * off together instead of each one discovering the limit separately.</p>
+ */
+final class TokenBucketRateLimiter {
+
+    private final double capacity;
+    private final long nanosPerToken;
+    private final LongSupplier ticker;
+
+    private double storedTokens;
+    private long nextFreeNanos;
+
+    /**
+     * @param requestsPerMinute sustained request rate; zero or less disables limiting
+     * @param burst tokens that may accumulate while idle
+     */
+    TokenBucketRateLimiter(int requestsPerMinute, int burst) {
+        this(requestsPerMinute, burst, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(int requestsPerMinute, int burst, LongSupplier ticker) {
+        this.capacity = Math.max(1, burst);
+        this.nanosPerToken = requestsPerMinute > 0 ? Duration.ofMinutes(1).toNanos() / requestsPerMinute : 0;
+        this.ticker = ticker;
+        this.storedTokens = capacity;
+        this.nextFreeNanos = ticker.getAsLong();
+    }
+
+    boolean isEnabled() {
+        return nanosPerToken > 0;
+    }
+
+    /**
+     * Returns a {@code Mono} that completes once a token has been reserved for the subscriber.
+     * The reservation is made at subscription time, so resubscribing (e.g. on retry) takes a
+     * new token.
+     */
+    Mono<Void> acquire() {
+        if (!isEnabled()) {
+            return Mono.empty();
+        }
+        return Mono.defer(() -> {
+            long waitNanos = reserve();
+            return waitNanos > 0 ? Mono.delay(Duration.ofNanos(waitNanos)).then() : Mono.empty();
+        });
+    }
+
+    /**
+     * Reserves one token and returns how long the caller must wait before using it.
+     *
+     * @return wait time in nanoseconds, zero when a token is available now
+     */
+    synchronized long reserve() {
+        long now = ticker.getAsLong();
+        refill(now);
+
+        long waitNanos = Math.max(0, nextFreeNanos - now);
+        double fromStore = Math.min(1.0, storedTokens);
+        storedTokens -= fromStore;
+        nextFreeNanos += (long) ((1.0 - fromStore) * nanosPerToken);
+        return waitNanos;
+    }
+
+    /**
+     * Stops handing out tokens for {@code duration} and drains any burst allowance, so that
+     * every caller waits out a server-imposed cool-down.
+     *
+     * @param duration how long to pause
+     */
+    synchronized void pause(Duration duration) {
+        if (!isEnabled()) {
+            return;
+        }
+        long now = ticker.getAsLong();
+        refill(now);
+        storedTokens = 0;
+        nextFreeNanos = Math.max(nextFreeNanos, now + duration.toNanos());
+    }
+
+    private void refill(long now) {
+        if (now > nextFreeNanos) {
+            storedTokens = Math.min(capacity, storedTokens + (double) (now - nextFreeNanos) / nanosPerToken);
+            nextFreeNanos = now;
+        }
+    }
+}
@@ -14,18 +14,19 @@ import org.springframework.context.annotation.Configuration;
  * {@link MethodToolCallbackProvider} that scans {@link McpExposedTools} for
  * {@code @Tool} annotated methods and registers them as MCP tool callbacks.</p>
  *
- * <p>Only the two methods on {@link McpExposedTools} ({@code search_tools} and
- * {@code execute_tool}) are exposed to MCP clients. The 101 internal tools
+ * <p>{@code execute_tool} is not among these callbacks: it is declared with
+ * {@code @McpTool} and returns a {@code Mono}, so Spring AI's annotation scanner
+ * registers it directly on the asynchronous MCP server. The internal tools
  * annotated with {@code @InternalTool} remain hidden and are only accessible
- * through these two gateway methods.</p>
+ * through the gateway methods.</p>
  */
 @Configuration
 public class McpToolConfig {
 
     /**
      * Creates a {@link ToolCallbackProvider} that wraps the {@link McpExposedTools}
-     * component, enabling Spring AI's MCP server to discover and register the
-     * {@code search_tools} and {@code execute_tool} methods as MCP tool callbacks.
+     * component, enabling Spring AI's MCP server to discover and register its
+     * {@code @Tool} methods as MCP tool callbacks.
      */
     @Bean
     public ToolCallbackProvider mcpToolCallbackProvider(McpExposedTools mcpExposedTools) {
@@ -1,10 +1,14 @@
 package io.github.testrail.mcp.config;
 
+import io.netty.channel.ChannelOption;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.util.Base64;
 
@@ -23,6 +27,29 @@ public class TestrailClientConfig {
         this.properties = properties;
     }
 
+    /**
+     * Creates the connection pool shared by all TestRail requests.
+     *
+     * <p>Connections are kept alive and reused across calls so that TCP and TLS handshakes are
+     * paid once per connection rather than once per request. Idle and long-lived connections
+     * are evicted in the background before the server or a proxy closes them.</p>
+     *
+     * @return pooled connection provider, disposed with the application context
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider testrailConnectionProvider() {
+        TestrailProperties.Http http = properties.getHttp();
+
+        return ConnectionProvider.builder("testrail")
+                .maxConnections(http.getMaxConnections())
+                .pendingAcquireMaxCount(http.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(http.getPendingAcquireTimeout())
+                .maxIdleTime(http.getMaxIdleTime())
+                .maxLifeTime(http.getMaxLifeTime())
+                .evictInBackground(http.getEvictionInterval())
+                .build();
+    }
+
     /**
      * Creates a WebClient configured for TestRail API calls.
      *
@@ -31,17 +58,28 @@ public class TestrailClientConfig {
      *   <li>Base URL pointing to TestRail API v2</li>
      *   <li>Basic Authentication header</li>
      *   <li>JSON content type</li>
+     *   <li>Pooled keep-alive connections with connect and response timeouts</li>
+     *   <li>gzip response compression when {@code testrail.http.compression} is enabled</li>
      * </ul>
      *
+     * @param testrailConnectionProvider the shared connection pool
      * @return configured WebClient instance
      */
     @Bean
-    public WebClient testrailWebClient() {
+    public WebClient testrailWebClient(ConnectionProvider testrailConnectionProvider) {
         String credentials = properties.getUsername() + ":" + properties.getApiKey();
         String encodedCredentials = Base64.getEncoder().encodeToString(credentials.getBytes());
+        TestrailProperties.Http http = properties.getHttp();
+
+        HttpClient httpClient = HttpClient.create(testrailConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) http.getConnectTimeout().toMillis())
+                .responseTimeout(http.getResponseTimeout())
+                .keepAlive(true)
+                .compress(http.isCompression());
 
         return WebClient.builder()
                 .baseUrl(properties.getApiUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .defaultHeader(HttpHeaders.AUTHORIZATION, "Basic " + encodedCredentials)
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
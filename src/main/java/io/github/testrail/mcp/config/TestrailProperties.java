@@ -1,9 +1,14 @@
 package io.github.testrail.mcp.config;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
+import java.time.Duration;
+
 /**
  * Configuration properties for TestRail API connection.
  *
@@ -13,6 +18,10 @@ import org.springframework.validation.annotation.Validated;
  *   <li>TESTRAIL_USERNAME or testrail.username</li>
  *   <li>TESTRAIL_API_KEY or testrail.api-key</li>
  * </ul>
+ *
+ * <p>Optional tuning settings are grouped under nested prefixes such as
+ * {@code testrail.pagination.*}, {@code testrail.execution.*}, {@code testrail.http.*},
+ * {@code testrail.cache.*}, {@code testrail.rate-limit.*} and {@code testrail.bulk.*}.</p>
  */
 @Validated
 @ConfigurationProperties(prefix = "testrail")
@@ -27,6 +36,19 @@ public class TestrailProperties {
     @NotBlank(message = "TestRail API key is required. Set TESTRAIL_API_KEY environment variable.")
     private String apiKey;
 
+    @Valid
+    private final Pagination pagination = new Pagination();
+
+    private final Execution execution = new Execution();
+
+    private final Http http = new Http();
+
+    private final Cache cache = new Cache();
+
+    private final RateLimit rateLimit = new RateLimit();
+
+    private final Bulk bulk = new Bulk();
+
     public String getBaseUrl() {
         return baseUrl;
     }
@@ -51,6 +73,30 @@ public class TestrailProperties {
         this.apiKey = apiKey;
     }
 
+    public Pagination getPagination() {
+        return pagination;
+    }
+
+    public Execution getExecution() {
+        return execution;
+    }
+
+    public Http getHttp() {
+        return http;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public RateLimit getRateLimit() {
+        return rateLimit;
+    }
+
+    public Bulk getBulk() {
+        return bulk;
+    }
+
     /**
      * Returns the full API base URL with the API v2 path appended.
      *
@@ -63,4 +109,505 @@ public class TestrailProperties {
         }
         return url + "index.php?/api/v2/";
     }
+
+    /**
+     * Settings for bulk list fetches that walk every page of a paginated endpoint.
+     */
+    public static class Pagination {
+
+        /**
+         * Number of rows requested per page, between 1 and TestRail's cap of 250.
+         */
+        @Min(value = 1, message = "testrail.pagination.page-size must be at least 1")
+        @Max(value = 250, message = "testrail.pagination.page-size must not exceed TestRail's limit of 250")
+        private int pageSize = 250;
+
+        /**
+         * Maximum number of page requests in flight at once during parallel bulk fetches.
+         */
+        private int maxConcurrentPages = 4;
+
+        public int getPageSize() {
+            return pageSize;
+        }
+
+        public void setPageSize(int pageSize) {
+            this.pageSize = pageSize;
+        }
+
+        public int getMaxConcurrentPages() {
+            return maxConcurrentPages;
+        }
+
+        public void setMaxConcurrentPages(int maxConcurrentPages) {
+            this.maxConcurrentPages = maxConcurrentPages;
+        }
+    }
+
+    /**
+     * Settings for the threads that run internal tool invocations.
+     */
+    public static class Execution {
+
+        /**
+         * Kind of thread each tool invocation, and the blocking TestRail calls it makes, runs on.
+         */
+        private ThreadMode threadMode = ThreadMode.PLATFORM;
+
+        /**
+         * Upper bound on platform threads when {@link ThreadMode#PLATFORM} is selected, and so
+         * on tool invocations running at once; 0 picks ten per available processor. Virtual
+         * threads are not pooled and ignore this limit.
+         */
+        private int maxPlatformThreads = 0;
+
+        /**
+         * Tool invocations allowed to wait for a platform thread once all are busy; further
+         * invocations are rejected. Ignored for virtual threads.
+         */
+        private int maxQueuedInvocations = 100_000;
+
+        /**
+         * Maximum number of invocations of one {@code execute_tools_batch} call that run at once.
+         */
+        private int batchConcurrency = 8;
+
+        /**
+         * Maximum number of invocations accepted by one {@code execute_tools_batch} call.
+         */
+        private int maxBatchSize = 50;
+
+        /**
+         * How long the rest of a truncated {@code execute_tool} result stays parked for
+         * {@code fetch_more} after its last page was returned.
+         */
+        private Duration cursorTtl = Duration.ofMinutes(5);
+
+        /**
+         * Estimated memory, in bytes, that all parked results may hold together. The least
+         * recently used results are dropped to make room; 0 disables parking.
+         */
+        private long maxCursorBytes = 64L * 1024 * 1024;
+
+        public ThreadMode getThreadMode() {
+            return threadMode;
+        }
+
+        public void setThreadMode(ThreadMode threadMode) {
+            this.threadMode = threadMode;
+        }
+
+        public int getMaxPlatformThreads() {
+            return maxPlatformThreads;
+        }
+
+        public void setMaxPlatformThreads(int maxPlatformThreads) {
+            this.maxPlatformThreads = maxPlatformThreads;
+        }
+
+        public int getMaxQueuedInvocations() {
+            return maxQueuedInvocations;
+        }
+
+        public void setMaxQueuedInvocations(int maxQueuedInvocations) {
+            this.maxQueuedInvocations = maxQueuedInvocations;
+        }
+
+        public int getBatchConcurrency() {
+            return batchConcurrency;
+        }
+
+        public void setBatchConcurrency(int batchConcurrency) {
+            this.batchConcurrency = batchConcurrency;
+        }
+
+        public int getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+        public void setMaxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+        }
+
+        public Duration getCursorTtl() {
+            return cursorTtl;
+        }
+
+        public void setCursorTtl(Duration cursorTtl) {
+            this.cursorTtl = cursorTtl;
+        }
+
+        public long getMaxCursorBytes() {
+            return maxCursorBytes;
+        }
+
+        public void setMaxCursorBytes(long maxCursorBytes) {
+            this.maxCursorBytes = maxCursorBytes;
+        }
+    }
+
+    /**
+     * Connection pool, timeout and compression settings for the TestRail HTTP client.
+     */
+    public static class Http {
+
+        /**
+         * Maximum number of pooled connections to the TestRail host.
+         */
+        private int maxConnections = 50;
+
+        /**
+         * Requests allowed to wait for a free connection before new ones are rejected.
+         */
+        private int pendingAcquireMaxCount = 500;
+
+        /**
+         * How long a request may wait for a free connection.
+         */
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(45);
+
+        /**
+         * Idle time after which a pooled connection is closed.
+         */
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+
+        /**
+         * Total lifetime after which a pooled connection is retired, even if busy recently.
+         */
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+
+        /**
+         * Interval of the background sweep that evicts idle and expired connections.
+         */
+        private Duration evictionInterval = Duration.ofSeconds(30);
+
+        /**
+         * Timeout for establishing a TCP connection.
+         */
+        private Duration connectTimeout = Duration.ofSeconds(10);
+
+        /**
+         * Timeout for receiving a response once the request has been sent.
+         */
+        private Duration responseTimeout = Duration.ofSeconds(60);
+
+        /**
+         * Whether to send {@code Accept-Encoding: gzip} and inflate compressed responses.
+         */
+        private boolean compression = true;
+
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        public void setMaxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        public int getPendingAcquireMaxCount() {
+            return pendingAcquireMaxCount;
+        }
+
+        public void setPendingAcquireMaxCount(int pendingAcquireMaxCount) {
+            this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+        }
+
+        public Duration getPendingAcquireTimeout() {
+            return pendingAcquireTimeout;
+        }
+
+        public void setPendingAcquireTimeout(Duration pendingAcquireTimeout) {
+            this.pendingAcquireTimeout = pendingAcquireTimeout;
+        }
+
+        public Duration getMaxIdleTime() {
+            return maxIdleTime;
+        }
+
+        public void setMaxIdleTime(Duration maxIdleTime) {
+            this.maxIdleTime = maxIdleTime;
+        }
+
+        public Duration getMaxLifeTime() {
+            return maxLifeTime;
+        }
+
+        public void setMaxLifeTime(Duration maxLifeTime) {
+            this.maxLifeTime = maxLifeTime;
+        }
+
+        public Duration getEvictionInterval() {
+            return evictionInterval;
+        }
+
+        public void setEvictionInterval(Duration evictionInterval) {
+            this.evictionInterval = evictionInterval;
+        }
+
+        public Duration getConnectTimeout() {
+            return connectTimeout;
+        }
+
+        public void setConnectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+        }
+
+        public Duration getResponseTimeout() {
+            return responseTimeout;
+        }
+
+        public void setResponseTimeout(Duration responseTimeout) {
+            this.responseTimeout = responseTimeout;
+        }
+
+        public boolean isCompression() {
+            return compression;
+        }
+
+        public void setCompression(boolean compression) {
+            this.compression = compression;
+        }
+    }
+
+    /**
+     * Settings for the in-process caches in front of {@code TestrailApiClient}.
+     */
+    public static class Cache {
+
+        /**
+         * How long rarely changing lookups (statuses, priorities, case types, fields, templates,
+         * roles, configurations) are served from memory. Zero disables the metadata cache.
+         */
+        private Duration metadataTtl = Duration.ofHours(1);
+
+        /**
+         * Maximum number of cached metadata responses.
+         */
+        private int metadataMaxEntries = 256;
+
+        /**
+         * Staleness window for cases, sections, suites and projects fetched by ID. Updates made
+         * through this server refresh entries immediately; changes made elsewhere become visible
+         * once an entry is older than this. Zero disables the entity cache.
+         */
+        private Duration entityTtl = Duration.ofMinutes(5);
+
+        /**
+         * Maximum number of cached entities; the least recently used are evicted first.
+         */
+        private int entityMaxEntries = 2_000;
+
+        /**
+         * How long a synced collection (see {@code syncCases}) is refreshed with delta queries
+         * before it is discarded and downloaded in full again, which also drops rows deleted
+         * outside this server. Zero disables incremental sync.
+         */
+        private Duration collectionFullRefreshInterval = Duration.ofHours(1);
+
+        /**
+         * Maximum number of synced collections held in memory.
+         */
+        private int collectionMaxEntries = 32;
+
+        /**
+         * Maximum number of rows all synced collections may hold together. The largest
+         * collections are discarded to stay within it, and a collection larger than the whole
+         * budget is returned but not kept.
+         */
+        private long collectionMaxRows = 100_000;
+
+        public Duration getMetadataTtl() {
+            return metadataTtl;
+        }
+
+        public void setMetadataTtl(Duration metadataTtl) {
+            this.metadataTtl = metadataTtl;
+        }
+
+        public int getMetadataMaxEntries() {
+            return metadataMaxEntries;
+        }
+
+        public void setMetadataMaxEntries(int metadataMaxEntries) {
+            this.metadataMaxEntries = metadataMaxEntries;
+        }
+
+        public Duration getEntityTtl() {
+            return entityTtl;
+        }
+
+        public void setEntityTtl(Duration entityTtl) {
+            this.entityTtl = entityTtl;
+        }
+
+        public int getEntityMaxEntries() {
+            return entityMaxEntries;
+        }
+
+        public void setEntityMaxEntries(int entityMaxEntries) {
+            this.entityMaxEntries = entityMaxEntries;
+        }
+
+        public Duration getCollectionFullRefreshInterval() {
+            return collectionFullRefreshInterval;
+        }
+
+        public void setCollectionFullRefreshInterval(Duration collectionFullRefreshInterval) {
+            this.collectionFullRefreshInterval = collectionFullRefreshInterval;
+        }
+
+        public int getCollectionMaxEntries() {
+            return collectionMaxEntries;
+        }
+
+        public void setCollectionMaxEntries(int collectionMaxEntries) {
+            this.collectionMaxEntries = collectionMaxEntries;
+        }
+
+        public long getCollectionMaxRows() {
+            return collectionMaxRows;
+        }
+
+        public void setCollectionMaxRows(long collectionMaxRows) {
+            this.collectionMaxRows = collectionMaxRows;
+        }
+    }
+
+    /**
+     * Client-side throttling and retry settings for TestRail's per-user rate limit.
+     */
+    public static class RateLimit {
+
+        /**
+         * Sustained request budget shared by all calls. Zero or less disables client-side
+         * throttling; 429 responses are still retried.
+         */
+        private int requestsPerMinute = 0;
+
+        /**
+         * Requests that may be sent back-to-back after an idle period.
+         */
+        private int burst = 10;
+
+        /**
+         * Retries for throttled (429), unavailable (502/503/504) or unreachable requests.
+         * GETs are retried for all of these; POSTs only after a 429, which TestRail returns
+         * before processing the request.
+         */
+        private int maxRetries = 3;
+
+        /**
+         * First backoff delay; each retry doubles it, with jitter, up to {@code maxBackoff}.
+         */
+        private Duration initialBackoff = Duration.ofMillis(500);
+
+        /**
+         * Upper bound for a single backoff. A {@code Retry-After} longer than this is not
+         * waited out; the error is returned with the requested delay instead.
+         */
+        private Duration maxBackoff = Duration.ofSeconds(30);
+
+        public int getRequestsPerMinute() {
+            return requestsPerMinute;
+        }
+
+        public void setRequestsPerMinute(int requestsPerMinute) {
+            this.requestsPerMinute = requestsPerMinute;
+        }
+
+        public int getBurst() {
+            return burst;
+        }
+
+        public void setBurst(int burst) {
+            this.burst = burst;
+        }
+
+        public int getMaxRetries() {
+            return maxRetries;
+        }
+
+        public void setMaxRetries(int maxRetries) {
+            this.maxRetries = maxRetries;
+        }
+
+        public Duration getInitialBackoff() {
+            return initialBackoff;
+        }
+
+        public void setInitialBackoff(Duration initialBackoff) {
+            this.initialBackoff = initialBackoff;
+        }
+
+        public Duration getMaxBackoff() {
+            return maxBackoff;
+        }
+
+        public void setMaxBackoff(Duration maxBackoff) {
+            this.maxBackoff = maxBackoff;
+        }
+    }
+
+    /**
+     * Settings for tools that fan one call out into many TestRail requests.
+     */
+    public static class Bulk {
+
+        /**
+         * Per-item requests a single bulk tool call keeps in flight at once.
+         */
+        private int maxConcurrency = 4;
+
+        /**
+         * Results sent per {@code add_results} / {@code add_results_for_cases} request when a
+         * large result list is submitted in chunks.
+         */
+        private int resultChunkSize = 250;
+
+        /**
+         * Times a chunk is resent after a server error or lost response. Items TestRail
+         * already recorded are dropped from the chunk before it is resent.
+         */
+        private int chunkRetries = 2;
+
+        public int getMaxConcurrency() {
+            return maxConcurrency;
+        }
+
+        public void setMaxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        public int getResultChunkSize() {
+            return resultChunkSize;
+        }
+
+        public void setResultChunkSize(int resultChunkSize) {
+            this.resultChunkSize = resultChunkSize;
+        }
+
+        public int getChunkRetries() {
+            return chunkRetries;
+        }
+
+        public void setChunkRetries(int chunkRetries) {
+            this.chunkRetries = chunkRetries;
+        }
+    }
+
+    /**
+     * Thread kinds available for tool execution.
+     */
+    public enum ThreadMode {
+
+        /**
+         * A bounded pool of platform threads.
+         */
+        PLATFORM,
+
+        /**
+         * One virtual thread per invocation. Requires Java 21 or later at runtime.
+         */
+        VIRTUAL
+    }
 }
@@ -0,0 +1,82 @@
+package io.github.testrail.mcp.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Configuration for executing internal tools off the caller's thread.
+ *
+ * <p>Every {@code execute_tool} invocation, together with the blocking
+ * {@code TestrailApiClient} calls it makes, runs on the scheduler created here. The kind of
+ * thread is chosen with {@code testrail.execution.thread-mode}:</p>
+ * <ul>
+ *   <li>{@code platform} — a bounded-elastic pool capped at
+ *       {@code testrail.execution.max-platform-threads} (ten per processor by default). This
+ *       also caps how many tool invocations run at once; up to
+ *       {@code testrail.execution.max-queued-invocations} more wait for a free thread.</li>
+ *   <li>{@code virtual} — one virtual thread per invocation, so thousands of concurrent
+ *       TestRail round trips need no pool sizing (Java 21+)</li>
+ * </ul>
+ */
+@Configuration
+public class ToolExecutionConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ToolExecutionConfig.class);
+
+    private static final String THREAD_NAME_PREFIX = "testrail-tool";
+
+    private final TestrailProperties properties;
+
+    public ToolExecutionConfig(TestrailProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Creates the scheduler used for tool invocations.
+     *
+     * @return scheduler disposed with the application context
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler toolExecutionScheduler() {
+        TestrailProperties.Execution execution = properties.getExecution();
+
+        if (execution.getThreadMode() == TestrailProperties.ThreadMode.VIRTUAL) {
+            ExecutorService virtualThreads = newVirtualThreadExecutor();
+            if (virtualThreads != null) {
+                log.info("Executing tools on virtual threads");
+                return Schedulers.fromExecutorService(virtualThreads, THREAD_NAME_PREFIX);
+            }
+            log.warn("Virtual threads require Java 21 or later (running {}); falling back to platform threads",
+                    Runtime.version());
+        }
+
+        int maxThreads = execution.getMaxPlatformThreads() > 0
+                ? execution.getMaxPlatformThreads()
+                : 10 * Runtime.getRuntime().availableProcessors();
+        log.info("Executing tools on up to {} platform threads", maxThreads);
+        return Schedulers.newBoundedElastic(maxThreads, execution.getMaxQueuedInvocations(), THREAD_NAME_PREFIX);
+    }
+
+    /**
+     * Looks up {@code Executors.newVirtualThreadPerTaskExecutor()} at runtime so the server
+     * still compiles for and runs on Java 17.
+     *
+     * @return a virtual-thread-per-task executor, or {@code null} when the JVM has none
+     */
+    static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.testrail.mcp.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Outcome of one item within a bulk operation.
+ *
+ * @param <T> the type of entity returned for a successful item
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkItemResult<T> {
+
+    private Integer id;
+    private boolean success;
+    private T data;
+    private String error;
+
+    public BulkItemResult() {
+    }
+
+    private BulkItemResult(Integer id, boolean success, T data, String error) {
+        this.id = id;
+        this.success = success;
+        this.data = data;
+        this.error = error;
+    }
+
+    /**
+     * Creates a successful item result.
+     *
+     * @param id the ID of the item
+     * @param data the entity returned for the item
+     * @return the item result
+     */
+    public static <T> BulkItemResult<T> success(Integer id, T data) {
+        return new BulkItemResult<>(id, true, data, null);
+    }
+
+    /**
+     * Creates a failed item result.
+     *
+     * @param id the ID of the item, or {@code null} if it has none yet
+     * @param error why the item failed
+     * @return the item result
+     */
+    public static <T> BulkItemResult<T> failure(Integer id, String error) {
+        return new BulkItemResult<>(id, false, null, error);
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+
+    public T getData() {
+        return data;
+    }
+
+    public void setData(T data) {
+        this.data = data;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkItemResult{" +
+                "id=" + id +
+                ", success=" + success +
+                ", error='" + error + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.testrail.mcp.model;
+
+import java.util.List;
+
+/**
+ * Result of a bulk operation: one {@link BulkItemResult} per requested item, in request
+ * order, plus success and failure counts.
+ *
+ * @param <T> the type of entity returned for a successful item
+ */
+public class BulkResult<T> {
+
+    private int total;
+    private int succeeded;
+    private int failed;
+    private boolean dryRun;
+    private List<BulkItemResult<T>> items;
+
+    public BulkResult() {
+    }
+
+    /**
+     * Creates a bulk result from its items, counting successes and failures.
+     *
+     * @param items the item results, in request order
+     * @return the bulk result
+     */
+    public static <T> BulkResult<T> of(List<BulkItemResult<T>> items) {
+        BulkResult<T> result = new BulkResult<>();
+        result.items = items;
+        result.total = items.size();
+        result.succeeded = (int) items.stream().filter(BulkItemResult::isSuccess).count();
+        result.failed = result.total - result.succeeded;
+        return result;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public void setSucceeded(int succeeded) {
+        this.succeeded = succeeded;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    /**
+     * Whether the operation only validated and previewed the items without writing them.
+     */
+    public boolean isDryRun() {
+        return dryRun;
+    }
+
+    public void setDryRun(boolean dryRun) {
+        this.dryRun = dryRun;
+    }
+
+    public List<BulkItemResult<T>> getItems() {
+        return items;
+    }
+
+    public void setItems(List<BulkItemResult<T>> items) {
+        this.items = items;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkResult{" +
+                "total=" + total +
+                ", succeeded=" + succeeded +
+                ", failed=" + failed +
+                ", dryRun=" + dryRun +
+                '}';
+    }
+}
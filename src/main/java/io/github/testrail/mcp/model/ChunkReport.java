@@ -0,0 +1,117 @@
+package io.github.testrail.mcp.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Outcome of one chunk of a chunked bulk submission.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChunkReport {
+
+    private int index;
+    private long offset;
+    private int size;
+    private int attempts;
+    private int submitted;
+    private int recovered;
+    private boolean success;
+    private String error;
+
+    public ChunkReport() {
+    }
+
+    /**
+     * @param index position of the chunk within the submission
+     * @param offset position of the chunk's first item within the submitted list
+     * @param size number of items in the chunk
+     */
+    public ChunkReport(int index, long offset, int size) {
+        this.index = index;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public long getOffset() {
+        return offset;
+    }
+
+    public void setOffset(long offset) {
+        this.offset = offset;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    /**
+     * Number of times the chunk was sent.
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    /**
+     * Number of items TestRail acknowledged in a successful response.
+     */
+    public int getSubmitted() {
+        return submitted;
+    }
+
+    public void setSubmitted(int submitted) {
+        this.submitted = submitted;
+    }
+
+    /**
+     * Number of items found already recorded after a failed attempt, and therefore not resent.
+     */
+    public int getRecovered() {
+        return recovered;
+    }
+
+    public void setRecovered(int recovered) {
+        this.recovered = recovered;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    @Override
+    public String toString() {
+        return "ChunkReport{" +
+                "index=" + index +
+                ", offset=" + offset +
+                ", size=" + size +
+                ", attempts=" + attempts +
+                ", success=" + success +
+                '}';
+    }
+}
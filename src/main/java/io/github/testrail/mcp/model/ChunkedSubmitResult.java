@@ -0,0 +1,79 @@
+package io.github.testrail.mcp.model;
+
+import java.util.List;
+
+/**
+ * Merged report of a submission that was split into chunks: totals over all items plus one
+ * {@link ChunkReport} per chunk, in submission order.
+ */
+public class ChunkedSubmitResult {
+
+    private int total;
+    private int submitted;
+    private int failed;
+    private List<ChunkReport> chunks;
+
+    public ChunkedSubmitResult() {
+    }
+
+    /**
+     * Merges per-chunk reports into one result.
+     *
+     * @param chunks the chunk reports, in submission order
+     * @return the merged result
+     */
+    public static ChunkedSubmitResult of(List<ChunkReport> chunks) {
+        ChunkedSubmitResult result = new ChunkedSubmitResult();
+        result.chunks = chunks;
+        for (ChunkReport chunk : chunks) {
+            result.total += chunk.getSize();
+            if (chunk.isSuccess()) {
+                result.submitted += chunk.getSize();
+            } else {
+                result.failed += chunk.getSize();
+            }
+        }
+        return result;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public int getSubmitted() {
+        return submitted;
+    }
+
+    public void setSubmitted(int submitted) {
+        this.submitted = submitted;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<ChunkReport> getChunks() {
+        return chunks;
+    }
+
+    public void setChunks(List<ChunkReport> chunks) {
+        this.chunks = chunks;
+    }
+
+    @Override
+    public String toString() {
+        return "ChunkedSubmitResult{" +
+                "total=" + total +
+                ", submitted=" + submitted +
+                ", failed=" + failed +
+                '}';
+    }
+}
@@ -0,0 +1,150 @@
+package io.github.testrail.mcp.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Report of a section tree clone: the new root section, totals, timing per stage and any
+ * sections or case batches that could not be cloned.
+ */
+public class CloneSectionTreeResult {
+
+    private Integer sourceSectionId;
+    private Integer targetSectionId;
+    private int sectionsCreated;
+    private int casesCopied;
+    private long durationMs;
+    private List<Stage> stages = new ArrayList<>();
+    private List<String> errors = Collections.synchronizedList(new ArrayList<>());
+
+    public CloneSectionTreeResult() {
+    }
+
+    public CloneSectionTreeResult(Integer sourceSectionId) {
+        this.sourceSectionId = sourceSectionId;
+    }
+
+    /**
+     * One stage of the clone: loading the source tree, or one depth level of the hierarchy.
+     */
+    public static class Stage {
+
+        private String name;
+        private int sections;
+        private int cases;
+        private long durationMs;
+
+        public Stage() {
+        }
+
+        public Stage(String name, int sections, int cases, long durationMs) {
+            this.name = name;
+            this.sections = sections;
+            this.cases = cases;
+            this.durationMs = durationMs;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getSections() {
+            return sections;
+        }
+
+        public void setSections(int sections) {
+            this.sections = sections;
+        }
+
+        public int getCases() {
+            return cases;
+        }
+
+        public void setCases(int cases) {
+            this.cases = cases;
+        }
+
+        public long getDurationMs() {
+            return durationMs;
+        }
+
+        public void setDurationMs(long durationMs) {
+            this.durationMs = durationMs;
+        }
+    }
+
+    public Integer getSourceSectionId() {
+        return sourceSectionId;
+    }
+
+    public void setSourceSectionId(Integer sourceSectionId) {
+        this.sourceSectionId = sourceSectionId;
+    }
+
+    /**
+     * ID of the newly created root section, or {@code null} if it could not be created.
+     */
+    public Integer getTargetSectionId() {
+        return targetSectionId;
+    }
+
+    public void setTargetSectionId(Integer targetSectionId) {
+        this.targetSectionId = targetSectionId;
+    }
+
+    public int getSectionsCreated() {
+        return sectionsCreated;
+    }
+
+    public void setSectionsCreated(int sectionsCreated) {
+        this.sectionsCreated = sectionsCreated;
+    }
+
+    public int getCasesCopied() {
+        return casesCopied;
+    }
+
+    public void setCasesCopied(int casesCopied) {
+        this.casesCopied = casesCopied;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public void setDurationMs(long durationMs) {
+        this.durationMs = durationMs;
+    }
+
+    public List<Stage> getStages() {
+        return stages;
+    }
+
+    public void setStages(List<Stage> stages) {
+        this.stages = stages;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<String> errors) {
+        this.errors = errors;
+    }
+
+    @Override
+    public String toString() {
+        return "CloneSectionTreeResult{" +
+                "sourceSectionId=" + sourceSectionId +
+                ", targetSectionId=" + targetSectionId +
+                ", sectionsCreated=" + sectionsCreated +
+                ", casesCopied=" + casesCopied +
+                ", errors=" + errors.size() +
+                '}';
+    }
+}
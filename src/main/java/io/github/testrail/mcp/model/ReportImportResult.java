@@ -0,0 +1,103 @@
+package io.github.testrail.mcp.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Summary of a test report imported into a run: how many tests were read, matched to cases
+ * and submitted, plus the chunked submission report.
+ */
+public class ReportImportResult {
+
+    /**
+     * Most unmatched test names listed in {@link #getUnmatchedTests()}.
+     */
+    public static final int MAX_UNMATCHED_LISTED = 20;
+
+    private int parsed;
+    private int matched;
+    private int unmatched;
+    private int skipped;
+    private List<String> unmatchedTests = new ArrayList<>();
+    private ChunkedSubmitResult submission;
+
+    /**
+     * Records a test that could not be matched to a case in the run. Only the first
+     * {@link #MAX_UNMATCHED_LISTED} names are kept.
+     *
+     * @param testName the name of the test in the report
+     */
+    public void addUnmatched(String testName) {
+        unmatched++;
+        if (unmatchedTests.size() < MAX_UNMATCHED_LISTED) {
+            unmatchedTests.add(testName);
+        }
+    }
+
+    /**
+     * Number of tests read from the report.
+     */
+    public int getParsed() {
+        return parsed;
+    }
+
+    public void setParsed(int parsed) {
+        this.parsed = parsed;
+    }
+
+    /**
+     * Number of tests matched to a case in the run and submitted as results.
+     */
+    public int getMatched() {
+        return matched;
+    }
+
+    public void setMatched(int matched) {
+        this.matched = matched;
+    }
+
+    public int getUnmatched() {
+        return unmatched;
+    }
+
+    public void setUnmatched(int unmatched) {
+        this.unmatched = unmatched;
+    }
+
+    /**
+     * Number of matched tests not submitted because they were skipped in the report.
+     */
+    public int getSkipped() {
+        return skipped;
+    }
+
+    public void setSkipped(int skipped) {
+        this.skipped = skipped;
+    }
+
+    public List<String> getUnmatchedTests() {
+        return unmatchedTests;
+    }
+
+    public void setUnmatchedTests(List<String> unmatchedTests) {
+        this.unmatchedTests = unmatchedTests;
+    }
+
+    public ChunkedSubmitResult getSubmission() {
+        return submission;
+    }
+
+    public void setSubmission(ChunkedSubmitResult submission) {
+        this.submission = submission;
+    }
+
+    @Override
+    public String toString() {
+        return "ReportImportResult{" +
+                "parsed=" + parsed +
+                ", matched=" + matched +
+                ", unmatched=" + unmatched +
+                ", skipped=" + skipped +
+                '}';
+    }
+}
@@ -8,8 +8,14 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.util.*;
 import java.util.LinkedHashMap;
 import java.util.concurrent.ConcurrentHashMap;
@@ -20,8 +26,13 @@ import java.util.concurrent.ConcurrentHashMap;
  * <p>At startup, this component scans all Spring-managed beans for methods carrying the
  * {@code @InternalTool} annotation. For each discovered method it builds a
  * {@link ToolDefinition} containing the tool's metadata (name, description, category,
- * keywords, examples) together with the reflective handles needed for invocation
- * (the owning bean instance, the {@link Method} reference, and parameter descriptors).</p>
+ * keywords, examples) together with the handles needed for invocation (the owning bean
+ * instance, the {@link Method} reference, and parameter descriptors).</p>
+ *
+ * <p>Invocation is prepared once at registration: each tool gets a {@link MethodHandle}
+ * bound to its bean and spread over an argument array, and each parameter gets a
+ * {@link ParameterConverter} chosen from its declared type. The per-call path therefore
+ * performs no reflective access checks and no type dispatch beyond the value itself.</p>
  *
  * <p>The registry is the single source of truth for tool metadata and is consumed by
  * both the Lucene indexing service (for search) and the {@code execute_tool} MCP
@@ -122,6 +133,7 @@ public class InternalToolRegistry {
             params.add(new ParameterDefinition(
                     param.getName(),
                     param.getType(),
+                    param.getParameterizedType(),
                     description,
                     required,
                     defaultValue
@@ -190,6 +202,7 @@ public class InternalToolRegistry {
         private final Object bean;
         private final Method method;
         private final List<ParameterDefinition> parameters;
+        private final MethodHandle invoker;
 
         public ToolDefinition(String name, String description, String category,
                               List<String> examples, List<String> keywords,
@@ -202,6 +215,7 @@ public class InternalToolRegistry {
             this.bean = bean;
             this.method = method;
             this.parameters = Collections.unmodifiableList(parameters);
+            this.invoker = method != null ? createInvoker(bean, method) : null;
         }
 
         public String getName() { return name; }
@@ -213,6 +227,45 @@ public class InternalToolRegistry {
         public Method getMethod() { return method; }
         public List<ParameterDefinition> getParameters() { return parameters; }
 
+        /**
+         * Invokes the tool method on its bean.
+         *
+         * @param args arguments in declaration order, already converted to the parameter types
+         * @return the method's result, boxed, or {@code null} for {@code void} methods
+         * @throws Exception whatever exception the tool method throws, unwrapped; an
+         *         {@link Error} is rethrown as is
+         */
+        public Object invoke(Object[] args) throws Exception {
+            if (invoker == null) {
+                throw new IllegalStateException("Tool '" + name + "' has no method to invoke");
+            }
+            try {
+                return (Object) invoker.invokeExact(args);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new UndeclaredThrowableException(e);
+            }
+        }
+
+        /**
+         * Builds a handle of type {@code (Object[])Object} that calls {@code method} on
+         * {@code bean} with the array spread over its parameters.
+         */
+        private static MethodHandle createInvoker(Object bean, Method method) {
+            try {
+                method.setAccessible(true);
+                MethodHandle handle = MethodHandles.lookup().unreflect(method);
+                if (!Modifier.isStatic(method.getModifiers())) {
+                    handle = handle.bindTo(bean);
+                }
+                return handle.asSpreader(Object[].class, method.getParameterCount())
+                        .asType(MethodType.methodType(Object.class, Object[].class));
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot access tool method " + method, e);
+            }
+        }
+
         /**
          * Converts this tool definition to a Map containing all annotation metadata,
          * suitable for serialization and returning to the LLM via search_tools.
@@ -250,23 +303,34 @@ public class InternalToolRegistry {
     public static class ParameterDefinition {
         private final String name;
         private final Class<?> type;
+        private final Type genericType;
         private final String description;
         private final boolean required;
         private final String defaultValue;
+        private final ParameterConverter converter;
 
         public ParameterDefinition(String name, Class<?> type, String description,
                                    boolean required, String defaultValue) {
+            this(name, type, type, description, required, defaultValue);
+        }
+
+        public ParameterDefinition(String name, Class<?> type, Type genericType, String description,
+                                   boolean required, String defaultValue) {
             this.name = name;
             this.type = type;
+            this.genericType = genericType;
             this.description = description;
             this.required = required;
             this.defaultValue = defaultValue;
+            this.converter = ParameterConverter.forType(genericType);
         }
 
         public String getName() { return name; }
         public Class<?> getType() { return type; }
+        public Type getGenericType() { return genericType; }
         public String getDescription() { return description; }
         public boolean isRequired() { return required; }
         public String getDefaultValue() { return defaultValue; }
+        public ParameterConverter getConverter() { return converter; }
     }
 }
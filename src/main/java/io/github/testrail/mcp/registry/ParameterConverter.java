@@ -0,0 +1,137 @@
+package io.github.testrail.mcp.registry;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.lang.reflect.Type;
+import java.util.function.Function;
+
+/**
+ * Converts a raw parameter value, as decoded from an MCP request, to the type declared by
+ * the tool method.
+ *
+ * <p>A converter is chosen once per parameter when the tool is registered, so the
+ * {@code execute_tool} path does not re-derive the conversion from the target type on every
+ * call. The rules are those of the gateway: values already of the target type pass through,
+ * numbers are narrowed or widened, numeric and boolean strings are parsed, numbers and
+ * booleans are rendered as strings, and anything else is handed to Jackson.</p>
+ *
+ * <p>Structured parameters ({@code Map<String, Object>} bodies, {@code List<Map<...>>}
+ * batches, arrays) get a {@link StructuredValueConverter}, which passes conforming values
+ * through untouched and binds JSON trees and JSON strings straight into the declared
+ * generic type instead of round-tripping them through {@code convertValue}.</p>
+ */
+@FunctionalInterface
+public interface ParameterConverter {
+
+    /**
+     * Converts a non-null value.
+     *
+     * @param value the raw value
+     * @param paramName the parameter name, used in error messages
+     * @param objectMapper mapper for conversions without a dedicated rule
+     * @return the converted value
+     * @throws IllegalArgumentException if the value cannot be converted
+     */
+    Object convert(Object value, String paramName, ObjectMapper objectMapper);
+
+    /**
+     * Returns the converter for a parameter of the given type.
+     *
+     * @param targetType the declared parameter type
+     * @return a converter producing values assignable to {@code targetType}
+     */
+    static ParameterConverter forType(Class<?> targetType) {
+        return forType((Type) targetType);
+    }
+
+    /**
+     * Returns the converter for a parameter of the given, possibly generic, type.
+     *
+     * @param genericType the declared parameter type, e.g. {@code List<Map<String, Object>>}
+     * @return a converter producing values assignable to the raw type of {@code genericType}
+     */
+    static ParameterConverter forType(Type genericType) {
+        Class<?> targetType = StructuredValueConverter.rawType(genericType);
+        Class<?> boxedType = box(targetType);
+        if (fromNumber(boxedType) == null && fromString(boxedType) == null) {
+            return new StructuredValueConverter(genericType, targetType);
+        }
+        return scalar(targetType, boxedType);
+    }
+
+    private static ParameterConverter scalar(Class<?> targetType, Class<?> boxedType) {
+        Function<Number, Object> fromNumber = fromNumber(boxedType);
+        Function<String, Object> fromString = fromString(boxedType);
+        Function<Boolean, Object> fromBoolean = boxedType == String.class ? String::valueOf : null;
+        String typeName = targetType.getSimpleName();
+
+        return (value, paramName, objectMapper) -> {
+            if (value instanceof JsonNode node && node.isValueNode()) {
+                value = node.isNumber() ? node.numberValue()
+                        : node.isBoolean() ? (Object) node.booleanValue()
+                        : node.isNull() ? null
+                        : node.asText();
+                if (value == null) {
+                    return null;
+                }
+            }
+            if (boxedType.isInstance(value)) {
+                return value;
+            }
+            if (fromNumber != null && value instanceof Number number) {
+                return fromNumber.apply(number);
+            }
+            if (fromString != null && value instanceof String text) {
+                try {
+                    return fromString.apply(text);
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException(
+                            "Cannot convert parameter '" + paramName + "' value '" + text + "' to " + typeName);
+                }
+            }
+            if (fromBoolean != null && value instanceof Boolean bool) {
+                return fromBoolean.apply(bool);
+            }
+            try {
+                return objectMapper.convertValue(value, targetType);
+            } catch (Exception e) {
+                throw new IllegalArgumentException(
+                        "Cannot convert parameter '" + paramName + "' from " + value.getClass().getSimpleName()
+                                + " to " + typeName);
+            }
+        };
+    }
+
+    private static Function<Number, Object> fromNumber(Class<?> type) {
+        if (type == Integer.class) return Number::intValue;
+        if (type == Long.class) return Number::longValue;
+        if (type == Double.class) return Number::doubleValue;
+        if (type == Float.class) return Number::floatValue;
+        if (type == Boolean.class) return number -> number.intValue() != 0;
+        if (type == String.class) return Number::toString;
+        return null;
+    }
+
+    private static Function<String, Object> fromString(Class<?> type) {
+        if (type == Integer.class) return Integer::parseInt;
+        if (type == Long.class) return Long::parseLong;
+        if (type == Double.class) return Double::parseDouble;
+        if (type == Float.class) return Float::parseFloat;
+        if (type == Boolean.class) return Boolean::parseBoolean;
+        return null;
+    }
+
+    private static Class<?> box(Class<?> type) {
+        if (!type.isPrimitive()) return type;
+        if (type == int.class) return Integer.class;
+        if (type == long.class) return Long.class;
+        if (type == double.class) return Double.class;
+        if (type == float.class) return Float.class;
+        if (type == boolean.class) return Boolean.class;
+        if (type == short.class) return Short.class;
+        if (type == byte.class) return Byte.class;
+        if (type == char.class) return Character.class;
+        return Void.class;
+    }
+}
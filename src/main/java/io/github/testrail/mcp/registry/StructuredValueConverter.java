@@ -0,0 +1,131 @@
+package io.github.testrail.mcp.registry;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * {@link ParameterConverter} for structured parameters such as request-body maps, lists of
+ * result maps and arrays.
+ *
+ * <p>Values handed over by the MCP layer usually already have the declared shape, so a
+ * value that is an instance of the raw type (and, for {@code Collection<E>} and
+ * {@code Map<K, V>}, whose elements are instances of {@code E} / {@code V}) is passed
+ * through as is. A {@link JsonNode} is bound straight from the tree and a JSON string is
+ * parsed straight into the declared type, both with an {@link ObjectReader} resolved once
+ * for the parameter. Only other shapes fall back to {@code ObjectMapper.convertValue},
+ * which copies the value through an intermediate token buffer.</p>
+ */
+final class StructuredValueConverter implements ParameterConverter {
+
+    private final Type genericType;
+    private final Class<?> rawType;
+    private final Class<?> elementType;
+    private final String typeName;
+    private volatile Binding binding;
+
+    StructuredValueConverter(Type genericType, Class<?> rawType) {
+        this.genericType = genericType;
+        this.rawType = rawType;
+        this.elementType = elementType(genericType, rawType);
+        this.typeName = rawType.getSimpleName();
+    }
+
+    @Override
+    public Object convert(Object value, String paramName, ObjectMapper objectMapper) {
+        if (conforms(value)) {
+            return value;
+        }
+        try {
+            if (value instanceof JsonNode node) {
+                return binding(objectMapper).reader.readValue(node);
+            }
+            if (value instanceof String text) {
+                return binding(objectMapper).reader.readValue(text);
+            }
+            return objectMapper.convertValue(value, binding(objectMapper).type);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                    "Cannot convert parameter '" + paramName + "' from " + value.getClass().getSimpleName()
+                            + " to " + typeName);
+        }
+    }
+
+    private boolean conforms(Object value) {
+        if (!rawType.isInstance(value)) {
+            return false;
+        }
+        if (elementType == null) {
+            return true;
+        }
+        Collection<?> elements = value instanceof Map<?, ?> map ? map.values() : (Collection<?>) value;
+        for (Object element : elements) {
+            if (element != null && !elementType.isInstance(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Binding binding(ObjectMapper objectMapper) {
+        Binding current = binding;
+        if (current == null || current.objectMapper != objectMapper) {
+            JavaType type = objectMapper.constructType(genericType);
+            current = new Binding(objectMapper, type, objectMapper.readerFor(type));
+            binding = current;
+        }
+        return current;
+    }
+
+    /**
+     * Returns the class every element must have for a value to pass through, or
+     * {@code null} when elements need no check ({@code Object} elements, non-container types).
+     */
+    private static Class<?> elementType(Type genericType, Class<?> rawType) {
+        if (!(genericType instanceof ParameterizedType parameterized)) {
+            return null;
+        }
+        Type[] arguments = parameterized.getActualTypeArguments();
+        Type element;
+        if (Collection.class.isAssignableFrom(rawType) && arguments.length == 1) {
+            element = arguments[0];
+        } else if (Map.class.isAssignableFrom(rawType) && arguments.length == 2) {
+            element = arguments[1];
+        } else {
+            return null;
+        }
+        Class<?> elementClass = rawType(element);
+        return elementClass == Object.class ? null : elementClass;
+    }
+
+    /**
+     * Returns the class a (possibly parameterized) type erases to.
+     */
+    static Class<?> rawType(Type type) {
+        if (type instanceof Class<?> cls) return cls;
+        if (type instanceof ParameterizedType parameterized) return rawType(parameterized.getRawType());
+        return Object.class;
+    }
+
+    /**
+     * Reader and resolved type for one {@link ObjectMapper}; in practice there is only one.
+     */
+    private static final class Binding {
+        private final ObjectMapper objectMapper;
+        private final JavaType type;
+        private final ObjectReader reader;
+
+        Binding(ObjectMapper objectMapper, JavaType type, ObjectReader reader) {
+            this.objectMapper = objectMapper;
+            this.type = type;
+            this.reader = reader;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package io.github.testrail.mcp.tools;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Compact encoding of a list result for the {@code columnar} response format.
+ *
+ * <p>A list of objects is written as a header of column names plus one array of values per
+ * row, so property names appear once instead of once per row:</p>
+ * <pre>{@code
+ * {"format": "columnar",
+ *  "columns": ["id", "title", "type_id", "refs"],
+ *  "dictionaries": {"refs": ["JIRA-1", "JIRA-2"]},
+ *  "rows": [[1, "Login", 3, 0], [2, "Logout", 3]]}
+ * }</pre>
+ *
+ * <p>Nulls are elided: a column that is null or missing in every row is left out, and each
+ * row is cut after its last non-null value, so missing trailing values read as null. A column
+ * whose values are all strings with at least one repeat is dictionary-encoded: its distinct
+ * strings are listed once under {@code dictionaries} and rows hold their index. Nested
+ * objects and arrays are written as JSON. If any row is not an object, the rows are written
+ * as a plain JSON array instead.</p>
+ *
+ * <p>The table is built from the rows of one response page, so memory use is bounded by the
+ * page rather than the whole result.</p>
+ */
+final class ColumnarTable {
+
+    private final List<JsonNode> rows = new ArrayList<>();
+
+    /**
+     * Adds a row, typically the projected tree of one list element.
+     */
+    void add(JsonNode row) {
+        rows.add(row);
+    }
+
+    /**
+     * Returns the number of rows added.
+     */
+    int size() {
+        return rows.size();
+    }
+
+    /**
+     * Writes the table as the next value of {@code generator}.
+     */
+    void write(JsonGenerator generator) throws IOException {
+        for (JsonNode row : rows) {
+            if (!row.isObject()) {
+                writePlain(generator);
+                return;
+            }
+        }
+
+        Map<String, Column> columnsByName = new LinkedHashMap<>();
+        for (JsonNode row : rows) {
+            Iterator<Map.Entry<String, JsonNode>> fields = row.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if (!field.getValue().isNull()) {
+                    columnsByName.computeIfAbsent(field.getKey(), Column::new).add(field.getValue());
+                }
+            }
+        }
+        List<Column> columns = new ArrayList<>(columnsByName.values());
+
+        generator.writeStartObject();
+        generator.writeStringField("format", "columnar");
+        generator.writeArrayFieldStart("columns");
+        for (Column column : columns) {
+            generator.writeString(column.name);
+        }
+        generator.writeEndArray();
+
+        boolean dictionaries = false;
+        for (Column column : columns) {
+            if (column.isEncoded()) {
+                if (!dictionaries) {
+                    generator.writeObjectFieldStart("dictionaries");
+                    dictionaries = true;
+                }
+                generator.writeArrayFieldStart(column.name);
+                for (String value : column.dictionary.keySet()) {
+                    generator.writeString(value);
+                }
+                generator.writeEndArray();
+            }
+        }
+        if (dictionaries) {
+            generator.writeEndObject();
+        }
+
+        generator.writeArrayFieldStart("rows");
+        JsonNode[] values = new JsonNode[columns.size()];
+        for (JsonNode row : rows) {
+            int last = -1;
+            for (int i = 0; i < values.length; i++) {
+                JsonNode value = row.get(columns.get(i).name);
+                values[i] = value != null && !value.isNull() ? value : null;
+                if (values[i] != null) {
+                    last = i;
+                }
+            }
+            generator.writeStartArray();
+            for (int i = 0; i <= last; i++) {
+                Column column = columns.get(i);
+                if (values[i] == null) {
+                    generator.writeNull();
+                } else if (column.isEncoded()) {
+                    generator.writeNumber(column.dictionary.get(values[i].textValue()));
+                } else {
+                    generator.writeTree(values[i]);
+                }
+            }
+            generator.writeEndArray();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private void writePlain(JsonGenerator generator) throws IOException {
+        generator.writeStartArray();
+        for (JsonNode row : rows) {
+            generator.writeTree(row);
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * One column: its name, how many rows have a value for it and, while every value seen is
+     * a string, the distinct values in first-seen order.
+     */
+    private static final class Column {
+
+        private final String name;
+        private int count;
+        private Map<String, Integer> dictionary = new LinkedHashMap<>();
+
+        Column(String name) {
+            this.name = name;
+        }
+
+        void add(JsonNode value) {
+            count++;
+            if (dictionary != null) {
+                if (value.isTextual()) {
+                    dictionary.putIfAbsent(value.textValue(), dictionary.size());
+                } else {
+                    dictionary = null;
+                }
+            }
+        }
+
+        boolean isEncoded() {
+            return dictionary != null && dictionary.size() < count;
+        }
+    }
+}
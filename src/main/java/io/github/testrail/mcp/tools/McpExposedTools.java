@@ -1,50 +1,122 @@
 package io.github.testrail.mcp.tools;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.filter.FilteringGeneratorDelegate;
+import com.fasterxml.jackson.core.filter.TokenFilter;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.github.testrail.mcp.cache.ParkedValueStore;
+import io.github.testrail.mcp.config.TestrailProperties;
 import io.github.testrail.mcp.registry.InternalToolRegistry;
 import io.github.testrail.mcp.registry.LuceneToolIndexService;
+import io.github.testrail.mcp.registry.ParameterConverter;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springaicommunity.mcp.annotation.McpTool;
+import org.springaicommunity.mcp.annotation.McpToolParam;
 import org.springframework.ai.tool.annotation.Tool;
 import org.springframework.ai.tool.annotation.ToolParam;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
- * The four tools exposed to MCP clients via Spring AI's {@code @Tool} auto-discovery.
+ * The gateway tools exposed to MCP clients via Spring AI's {@code @Tool} auto-discovery.
  *
- * <p>All 101 internal TestRail tools are hidden behind these gateway methods:
+ * <p>All internal TestRail tools are hidden behind these seven gateway methods:
  * <ul>
  *   <li>{@link #searchTools(String)} — semantic search via Lucene index, returns full tool details.</li>
  *   <li>{@link #getCategories()} — lists all tool categories with tool counts.</li>
  *   <li>{@link #getToolsByCategory(String)} — lists all tools in a specific category with full details.</li>
- *   <li>{@link #executeTool(String, Map)} — executes a specific tool by name with parameters.</li>
+ *   <li>{@link #executeToolAsync(String, Map, Map)} — executes a specific tool by name with parameters.</li>
+ *   <li>{@link #executeToolsBatch(List)} — executes several tools in one call, concurrently.</li>
+ *   <li>{@link #executeToolPipeline(List)} — executes dependent steps that reference earlier results.</li>
+ *   <li>{@link #fetchMore(String)} — continues a truncated {@code execute_tool} result.</li>
  * </ul>
  *
  * <p>Spring AI's MCP server auto-configuration discovers these {@code @Tool} methods
- * and exposes them as MCP tool callbacks. The internal tools annotated with
- * {@code @InternalTool} are invisible to Spring AI and only accessible through this class.</p>
+ * and exposes them as MCP tool callbacks. {@code execute_tool} is instead an {@code @McpTool}
+ * returning a {@link Mono}, which the asynchronous MCP server
+ * ({@code spring.ai.mcp.server.type: ASYNC}) subscribes to without blocking a thread. The
+ * internal tools annotated with {@code @InternalTool} are invisible to Spring AI and only
+ * accessible through this class.</p>
+ *
+ * <p>Single-tool responses are written by one JSON generator: results of tools returning a
+ * multi-element {@link Publisher} are written element by element as they arrive rather than
+ * collected into a list first, and a stream that fails midway ends with the error next to the
+ * elements already written. The MCP transport takes the response as a String, so the
+ * generator writes into a byte buffer that is decoded once at the end.</p>
+ *
+ * <p>{@code execute_tool} also accepts {@link ResponseOptions}: a {@code fields} projection,
+ * a {@code maxItems}/{@code maxBytes} budget on list results, applied as the elements are
+ * written, and an opt-in {@link ColumnarTable columnar} format for lists of objects. A
+ * response cut short by the budget carries {@code "truncated": true} and a
+ * {@code nextCursor}. The rest of the result stays parked server-side, with its subscription
+ * paused, for {@code testrail.execution.cursor-ttl} and within
+ * {@code testrail.execution.max-cursor-bytes} of estimated memory, so {@code fetch_more}
+ * continues it without running the tool, and its TestRail pagination, again. A result too
+ * large to park has no {@code nextCursor}; its {@code resumeCursor} continues it by running
+ * the tool again.</p>
  */
 @Component
 public class McpExposedTools {
 
     private static final Logger log = LoggerFactory.getLogger(McpExposedTools.class);
 
+    /**
+     * A whole-value reference to an earlier pipeline step, e.g. {@code $steps[0].result.id}.
+     */
+    private static final Pattern STEP_REFERENCE =
+            Pattern.compile("\\$steps\\[(\\d+)]((?:\\.[A-Za-z_][A-Za-z0-9_]*|\\[\\d+])*)");
+    private static final Pattern PATH_SEGMENT = Pattern.compile("\\.([A-Za-z_][A-Za-z0-9_]*)|\\[(\\d+)]");
+    private static final String STEP_REFERENCE_PREFIX = "$steps[";
+    private static final int RESPONSE_BUFFER_SIZE = 8 * 1024;
+
     private final InternalToolRegistry toolRegistry;
     private final LuceneToolIndexService luceneToolIndexService;
     private final ObjectMapper objectMapper;
+    private final ObjectWriter valueWriter;
+    private final Scheduler toolScheduler;
+    private final TestrailProperties.Execution execution;
+    private final ParkedValueStore<PagedResult> cursors;
 
     public McpExposedTools(InternalToolRegistry toolRegistry,
                            LuceneToolIndexService luceneToolIndexService,
-                           ObjectMapper objectMapper) {
+                           ObjectMapper objectMapper,
+                           Scheduler toolExecutionScheduler,
+                           TestrailProperties properties) {
         this.toolRegistry = toolRegistry;
         this.luceneToolIndexService = luceneToolIndexService;
         this.objectMapper = objectMapper;
+        this.valueWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.toolScheduler = toolExecutionScheduler;
+        this.execution = properties.getExecution();
+        this.cursors = new ParkedValueStore<>("cursors", execution.getMaxCursorBytes(), execution.getCursorTtl(),
+                PagedResult::dispose);
     }
 
     // ── Discovery: Semantic Search ─────────────────────────────────────────
@@ -191,9 +263,12 @@ public class McpExposedTools {
     // ── Execution ──────────────────────────────────────────────────────────
 
     /**
-     * Executes a TestRail tool by name with the provided parameters.
+     * Executes a TestRail tool by name with the provided parameters. This is the MCP entry
+     * point: it is registered through {@code @McpTool} on the asynchronous MCP server, so a
+     * tool returning a {@link Publisher} holds no thread while its TestRail calls are in flight,
+     * and blocking tools run on the tool execution scheduler.
      */
-    @Tool(name = "execute_tool", description = """
+    @McpTool(name = "execute_tool", description = """
             Executes a specific TestRail tool by name with the provided parameters.
             Use search_tools, get_categories + get_tools_by_category to discover tool names
             and their required parameters before calling this tool.
@@ -203,62 +278,908 @@ public class McpExposedTools {
             - execute_tool(toolName: "get_case", parameters: {"caseId": 123})
             - execute_tool(toolName: "add_result", parameters: {"testId": 5, "statusId": 1, "comment": "Passed"})
             - execute_tool(toolName: "get_cases", parameters: {"projectId": 1, "suiteId": 5})
+            
+            For large list results, pass "options" to keep the response small:
+            - "fields": property names to keep on each item, e.g. ["id", "title"]
+            - "maxItems": maximum number of items to return
+            - "maxBytes": maximum size of the returned items in bytes
+            - "cursor": the "nextCursor" of a truncated response, to get the following items
+            - "format": "columnar" to return a list of objects as {"columns": [...], "rows": [[...]]},
+              with repeated strings replaced by indexes into "dictionaries" and trailing nulls
+              omitted from each row; much smaller than the default "json" format for long lists
+            A response cut short has "truncated": true and a "nextCursor"; pass it to fetch_more to
+            get the following items. If the rest of the result was too large to keep, there is no
+            "nextCursor" but a "resumeCursor"; pass that as options.cursor to execute_tool instead. Example:
+            - execute_tool(toolName: "get_cases", parameters: {"projectId": 1},
+                options: {"fields": ["id", "title"], "maxItems": 100})
             """)
-    public String executeTool(
-            @ToolParam(description = "The exact tool name as returned by search_tools or get_tools_by_category (e.g., 'get_case', 'add_result')")
+    public Mono<String> executeToolAsync(
+            @McpToolParam(description = "The exact tool name as returned by search_tools or get_tools_by_category (e.g., 'get_case', 'add_result')")
             String toolName,
-            @ToolParam(description = "A flat key-value map of parameters for the tool. Keys are parameter names, values are the parameter values.")
-            Map<String, Object> parameters
+            @McpToolParam(description = "A flat key-value map of parameters for the tool. Keys are parameter names, values are the parameter values.")
+            Map<String, Object> parameters,
+            @McpToolParam(description = "Optional response shaping: 'fields' (list of property names to keep), 'maxItems' and 'maxBytes' (budget for list results), 'cursor' (nextCursor of a truncated response), 'format' ('json' or 'columnar').", required = false)
+            Map<String, Object> options
+    ) {
+        log.info("execute_tool called with toolName='{}', parameters={}, options={}", toolName, parameters, options);
+        return Mono.defer(() -> {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(RESPONSE_BUFFER_SIZE);
+            return stream(toolName, parameters, options, buffer)
+                    .then(Mono.fromCallable(() -> buffer.toString(StandardCharsets.UTF_8)));
+        });
+    }
+
+    /**
+     * Blocking form of {@link #executeToolAsync(String, Map, Map)}.
+     */
+    public String executeTool(String toolName, Map<String, Object> parameters, Map<String, Object> options) {
+        return executeToolAsync(toolName, parameters, options).block();
+    }
+
+    /**
+     * Executes a tool without response options; see {@link #executeTool(String, Map, Map)}.
+     */
+    public String executeTool(String toolName, Map<String, Object> parameters) {
+        return executeTool(toolName, parameters, null);
+    }
+
+    /**
+     * Executes several tools in one call and returns their responses as a JSON array.
+     */
+    @Tool(name = "execute_tools_batch", description = """
+            Executes several TestRail tools in a single call and returns a JSON array with one
+            response per invocation, in the same order as the request. Each response has the same
+            shape as an execute_tool response: {"tool", "success", "result"} or {"tool", "success", "error"}.
+            
+            Invocations are independent and run concurrently, so use this whenever you need several
+            lookups or updates that do not depend on each other's results, instead of calling
+            execute_tool repeatedly. A failing invocation does not affect the others.
+            
+            Each invocation is an object with "toolName" and "parameters", for example:
+            - execute_tools_batch(invocations: [
+                {"toolName": "get_case", "parameters": {"caseId": 123}},
+                {"toolName": "get_run", "parameters": {"runId": 7}},
+                {"toolName": "get_statuses", "parameters": {}}
+              ])
+            """)
+    public String executeToolsBatch(
+            @ToolParam(description = "Ordered list of invocations. Each is an object with 'toolName' (string) and 'parameters' (flat key-value map).")
+            List<Map<String, Object>> invocations
     ) {
-        log.info("execute_tool called with toolName='{}', parameters={}", toolName, parameters);
+        log.info("execute_tools_batch called with {} invocations", invocations != null ? invocations.size() : 0);
+        return executeBatch(invocations).map(this::toJson).block();
+    }
 
+    /**
+     * Executes a pipeline of tool calls in which later steps consume earlier steps' results.
+     */
+    @Tool(name = "execute_tool_pipeline", description = """
+            Executes a multi-step workflow of TestRail tools in a single call, where a step can use
+            values from the responses of earlier steps. Returns a JSON array with one response per
+            step, in step order, each tagged with its "step" index.
+            
+            Reference an earlier step's response by using a string parameter value of the form
+            "$steps[N].<path>", where N is the zero-based index of an earlier step and <path> walks
+            its response, e.g. "$steps[0].result.id" or "$steps[1].result[0].id". The referenced
+            value replaces the string with its original type (number, object, list...).
+            
+            Steps run as soon as the steps they reference have finished, so independent steps run in
+            parallel. If a referenced step fails, the dependent step is skipped and reports why.
+            
+            Example (create a run, then report results into it):
+            - execute_tool_pipeline(steps: [
+                {"toolName": "add_run", "parameters": {"projectId": 1, "name": "Nightly"}},
+                {"toolName": "add_results_for_cases", "parameters": {"runId": "$steps[0].result.id",
+                  "results": [{"case_id": 11, "status_id": 1}]}},
+                {"toolName": "close_run", "parameters": {"runId": "$steps[0].result.id"}}
+              ])
+            """)
+    public String executeToolPipeline(
+            @ToolParam(description = "Ordered list of steps. Each is an object with 'toolName' (string) and 'parameters' (flat key-value map whose values may be \"$steps[N].path\" references to earlier steps).")
+            List<Map<String, Object>> steps
+    ) {
+        log.info("execute_tool_pipeline called with {} steps", steps != null ? steps.size() : 0);
+        return executePipeline(steps).map(this::toJson).block();
+    }
+
+    /**
+     * Continues a truncated execute_tool response from the result parked behind its cursor.
+     */
+    @Tool(name = "fetch_more", description = """
+            Continues a truncated execute_tool response. When execute_tool is called with a
+            "maxItems" or "maxBytes" option and the result does not fit, the response has
+            "truncated": true and a "nextCursor". Pass that cursor here to get the next items,
+            shaped with the same options; repeat with each new "nextCursor" until a response
+            is no longer truncated. Each cursor can be used once.
+            
+            The rest of the result is kept on the server for a few minutes. If the cursor has
+            expired, call execute_tool again with the same toolName and parameters and put the
+            cursor in options.cursor to resume from the same position.
+            """)
+    public String fetchMore(
+            @ToolParam(description = "The nextCursor of a truncated execute_tool or fetch_more response")
+            String cursor
+    ) {
+        log.info("fetch_more called with cursor='{}'", cursor);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(RESPONSE_BUFFER_SIZE);
+        streamMore(cursor, buffer).block();
+        return buffer.toString(StandardCharsets.UTF_8);
+    }
+
+    // ── Internal helpers ────────────────────────────────────────────────────
+
+    /**
+     * Resolves and runs a tool. Blocking tools run on the tool execution scheduler, which is
+     * backed by platform or virtual threads depending on {@code testrail.execution.thread-mode}.
+     */
+    private Mono<Map<String, Object>> execute(String toolName, Map<String, Object> parameters) {
         if (toolName == null || toolName.isBlank()) {
-            return toJson(Map.of("error", "Tool name must not be empty"));
+            return Mono.just(Map.of("error", "Tool name must not be empty"));
         }
 
         InternalToolRegistry.ToolDefinition toolDef = toolRegistry.getTool(toolName);
         if (toolDef == null) {
-            return toJson(Map.of(
+            return Mono.just(Map.of(
                     "error", "Tool not found: " + toolName,
                     "suggestion", "Use search_tools or get_tools_by_category to find available tools"
             ));
         }
 
-        if (parameters == null) {
-            parameters = Collections.emptyMap();
+        return call(toolDef, parameters)
+                .flatMap(result -> result instanceof Publisher<?> publisher ? resolve(publisher) : Mono.just(result))
+                .map(result -> successResponse(toolName, result))
+                .defaultIfEmpty(successResponse(toolName, null))
+                .onErrorResume(e -> Mono.just(failureResponse(toolName, e)));
+    }
+
+    /**
+     * Invokes a tool, emitting its raw return value (possibly a {@link Publisher}).
+     */
+    private Mono<Object> call(InternalToolRegistry.ToolDefinition toolDef, Map<String, Object> parameters) {
+        Map<String, Object> arguments = parameters != null ? parameters : Collections.emptyMap();
+        Mono<Object> invocation = Mono.fromCallable(() -> invoke(toolDef, arguments));
+        if (!Publisher.class.isAssignableFrom(toolDef.getMethod().getReturnType())) {
+            invocation = invocation.subscribeOn(toolScheduler);
         }
+        return invocation;
+    }
 
+    /**
+     * Runs a tool and writes its response to {@code out}. Tools declared to return a
+     * multi-element {@link Publisher} have their elements written as they are emitted; all
+     * other responses are serialised in one pass straight into the stream. Response options
+     * are applied element by element as the result is written.
+     */
+    private Mono<Void> stream(String toolName, Map<String, Object> parameters, Map<String, Object> rawOptions,
+                              OutputStream out) {
+        InternalToolRegistry.ToolDefinition toolDef =
+                toolName != null && !toolName.isBlank() ? toolRegistry.getTool(toolName) : null;
+        if (toolDef == null) {
+            return execute(toolName, parameters).flatMap(response -> write(response, out));
+        }
+
+        ResponseOptions options;
         try {
-            Object[] args = buildMethodArguments(toolDef, parameters);
-            Method method = toolDef.getMethod();
-            method.setAccessible(true);
-            Object result = method.invoke(toolDef.getBean(), args);
+            options = ResponseOptions.from(toolName, parameters, rawOptions, objectMapper);
+        } catch (IllegalArgumentException e) {
+            return write(failureResponse(toolName, e), out);
+        }
 
-            return toJson(Map.of(
-                    "tool", toolName,
-                    "success", true,
-                    "result", result != null ? result : "null"
-            ));
+        Class<?> returnType = toolDef.getMethod().getReturnType();
+        if (!Publisher.class.isAssignableFrom(returnType) || Mono.class.isAssignableFrom(returnType)) {
+            return execute(toolName, parameters).flatMap(response ->
+                    options.isDefault() || !Boolean.TRUE.equals(response.get("success"))
+                            ? write(response, out)
+                            : writeShaped(toolName, response.get("result"), options, out));
+        }
 
-        } catch (InvocationTargetException e) {
-            Throwable cause = e.getCause() != null ? e.getCause() : e;
-            log.error("Tool '{}' execution failed: {}", toolName, cause.getMessage(), cause);
-            return toJson(Map.of(
-                    "tool", toolName,
+        Flux<Object> elements = call(toolDef, parameters).flatMapMany(result -> Flux.from((Publisher<?>) result));
+        return writePages(toolName, elements.skip(options.getOffset()), -1, options, out);
+    }
+
+    /**
+     * Continues a truncated response from the result parked under {@code cursor}.
+     */
+    private Mono<Void> streamMore(String cursor, OutputStream out) {
+        ResponseOptions.Cursor decoded;
+        try {
+            decoded = ResponseOptions.Cursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            return write(Map.of("success", false, "error", e.getMessage()), out);
+        }
+
+        PagedResult parked = decoded.getParkedId() != null ? cursors.take(decoded.getParkedId()) : null;
+        if (parked == null) {
+            return write(Map.of(
+                    "tool", decoded.getToolName(),
                     "success", false,
-                    "error", cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName()
-            ));
+                    "error", "Cursor has expired or was already used",
+                    "suggestion", "Call execute_tool with the same toolName and parameters and options.cursor set to "
+                            + "this cursor to resume from the same position"
+            ), out);
+        }
+        return Mono.using(
+                () -> new StreamedResponse(createGenerator(out), valueWriter, parked.toolName, parked.options),
+                response -> Mono.<Void>create(sink -> parked.nextPage(response, sink)),
+                StreamedResponse::close);
+    }
+
+    private Mono<Void> write(Map<String, Object> response, OutputStream out) {
+        return Mono.fromCallable(() -> {
+            try (JsonGenerator generator = createGenerator(out)) {
+                valueWriter.writeValue(generator, response);
+            }
+            return response;
+        }).then();
+    }
+
+    /**
+     * Writes a successful result with response options applied. Collections and object
+     * arrays are written element by element within the budget; other results are projected.
+     */
+    private Mono<Void> writeShaped(String toolName, Object result, ResponseOptions options, OutputStream out) {
+        List<?> elements = result instanceof List<?> list ? list
+                : result instanceof Collection<?> collection ? new ArrayList<>(collection)
+                : result instanceof Object[] array ? Arrays.asList(array)
+                : null;
+        if (elements == null) {
+            return Mono.fromCallable(() -> {
+                try (StreamedResponse response = new StreamedResponse(createGenerator(out), valueWriter, toolName, options)) {
+                    response.single(result);
+                }
+                return result;
+            }).then();
+        }
+        List<?> unread = options.getOffset() == 0 ? elements
+                : new ArrayList<>(elements.subList(Math.min(options.getOffset(), elements.size()), elements.size()));
+        return writePages(toolName, Flux.<Object>fromIterable(unread), unread.size(), options, out);
+    }
+
+    /**
+     * Writes the first page of a list result. If the budget cuts it short, the rest of the
+     * result is parked for {@code fetch_more} and the response carries its cursor.
+     *
+     * @param knownSize number of elements in {@code elements}, all retained while the result is
+     *                  parked, or -1 if not known up front
+     */
+    private Mono<Void> writePages(String toolName, Flux<Object> elements, long knownSize, ResponseOptions options,
+                                  OutputStream out) {
+        return Mono.using(
+                () -> new StreamedResponse(createGenerator(out), valueWriter, toolName, options),
+                response -> Mono.<Void>create(sink -> {
+                    PagedResult paged = new PagedResult(toolName, options, knownSize, response, sink);
+                    elements.subscribe(paged);
+                }),
+                StreamedResponse::close);
+    }
+
+    private JsonGenerator createGenerator(OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.createGenerator(out, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return generator;
+    }
+
+    /**
+     * Runs a batch of invocations with at most {@code testrail.execution.batch-concurrency}
+     * in flight, keeping responses in request order. Malformed invocations get an error
+     * response in their slot rather than failing the batch.
+     */
+    private Mono<List<Map<String, Object>>> executeBatch(List<Map<String, Object>> invocations) {
+        String sizeError = sizeError(invocations, "Invocations");
+        if (sizeError != null) {
+            return Mono.just(List.of(Map.of("error", sizeError)));
+        }
+
+        return Flux.fromIterable(invocations)
+                .flatMapSequential(this::executeInvocation, Math.max(1, execution.getBatchConcurrency()))
+                .collectList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Mono<Map<String, Object>> executeInvocation(Map<String, Object> invocation) {
+        String error = invocationError(invocation);
+        if (error != null) {
+            return Mono.just(Map.of("error", error));
+        }
+        return invocation == null
+                ? execute(null, null)
+                : execute((String) invocation.get("toolName"), (Map<String, Object>) invocation.get("parameters"));
+    }
+
+    /**
+     * Runs a pipeline of steps. Every step is scheduled up front and waits only for the
+     * steps its parameters reference, so independent branches run in parallel while
+     * dependent steps start as soon as their inputs are available. A step whose input
+     * failed, or whose reference does not resolve, is skipped with an error.
+     */
+    private Mono<List<Map<String, Object>>> executePipeline(List<Map<String, Object>> steps) {
+        String sizeError = sizeError(steps, "Steps");
+        if (sizeError != null) {
+            return Mono.just(List.of(Map.of("error", sizeError)));
+        }
+
+        List<Mono<Map<String, Object>>> outcomes = new ArrayList<>(steps.size());
+        Map<Integer, JsonNode> responseTrees = new ConcurrentHashMap<>();
+        for (int index = 0; index < steps.size(); index++) {
+            int step = index;
+            outcomes.add(runStep(step, steps.get(step), outcomes, responseTrees)
+                    .map(response -> {
+                        Map<String, Object> numbered = new LinkedHashMap<>();
+                        numbered.put("step", step);
+                        numbered.putAll(response);
+                        return numbered;
+                    })
+                    .cache());
+        }
+
+        return Flux.fromIterable(outcomes)
+                .flatMapSequential(outcome -> outcome, Math.max(1, execution.getBatchConcurrency()))
+                .collectList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Mono<Map<String, Object>> runStep(int step, Map<String, Object> definition,
+                                              List<Mono<Map<String, Object>>> outcomes,
+                                              Map<Integer, JsonNode> responseTrees) {
+        String error = invocationError(definition);
+        if (error != null) {
+            return Mono.just(Map.of("error", error));
+        }
+        String toolName = (String) definition.get("toolName");
+        Map<String, Object> parameters = (Map<String, Object>) definition.get("parameters");
+
+        Set<Integer> dependencies = new TreeSet<>();
+        try {
+            collectReferences(parameters, dependencies);
+        } catch (IllegalArgumentException e) {
+            return Mono.just(Map.of("tool", String.valueOf(toolName), "success", false, "error", e.getMessage()));
+        }
+        for (Integer dependency : dependencies) {
+            if (dependency >= step) {
+                return Mono.just(Map.of("tool", String.valueOf(toolName), "success", false,
+                        "error", "Step " + step + " can only reference earlier steps, not step " + dependency));
+            }
+        }
+
+        return Flux.fromIterable(dependencies)
+                .concatMap(dependency -> outcomes.get(dependency))
+                .collectList()
+                .flatMap(inputs -> {
+                    Map<Integer, JsonNode> resolved = new HashMap<>();
+                    for (Map<String, Object> input : inputs) {
+                        if (!Boolean.TRUE.equals(input.get("success"))) {
+                            return Mono.just(Map.<String, Object>of("tool", String.valueOf(toolName), "success", false,
+                                    "error", "Skipped: step " + input.get("step") + " did not succeed"));
+                        }
+                        Integer dependency = (Integer) input.get("step");
+                        resolved.put(dependency, responseTrees.computeIfAbsent(dependency,
+                                key -> objectMapper.valueToTree(input)));
+                    }
+                    try {
+                        return execute(toolName, bindReferences(parameters, resolved));
+                    } catch (IllegalArgumentException e) {
+                        return Mono.just(Map.<String, Object>of("tool", String.valueOf(toolName), "success", false,
+                                "error", e.getMessage()));
+                    }
+                });
+    }
+
+    /**
+     * Adds the step index of every {@code $steps[N]...} reference found in {@code value},
+     * descending into nested maps and lists.
+     */
+    private void collectReferences(Object value, Set<Integer> steps) {
+        if (value instanceof Map<?, ?> map) {
+            map.values().forEach(nested -> collectReferences(nested, steps));
+        } else if (value instanceof List<?> list) {
+            list.forEach(nested -> collectReferences(nested, steps));
+        } else if (value instanceof String text && text.startsWith(STEP_REFERENCE_PREFIX)) {
+            Matcher matcher = STEP_REFERENCE.matcher(text);
+            if (!matcher.matches()) {
+                throw new IllegalArgumentException("Malformed step reference: " + text);
+            }
+            steps.add(Integer.parseInt(matcher.group(1)));
+        }
+    }
+
+    /**
+     * Returns the step's parameters with references resolved. A parameter that is itself a
+     * reference receives the referenced {@link JsonNode}, which the parameter's converter
+     * binds directly; references nested inside maps and lists are replaced with plain values.
+     */
+    private Map<String, Object> bindReferences(Map<String, Object> parameters, Map<Integer, JsonNode> responses) {
+        if (parameters == null || responses.isEmpty()) {
+            return parameters;
+        }
+        Map<String, Object> bound = new LinkedHashMap<>();
+        parameters.forEach((name, value) -> bound.put(name, isReference(value)
+                ? resolveReference((String) value, responses)
+                : substituteReferences(value, responses)));
+        return bound;
+    }
+
+    /**
+     * Returns a copy of {@code value} with every step reference replaced by the value it
+     * points to in the referenced step's response.
+     */
+    private Object substituteReferences(Object value, Map<Integer, JsonNode> responses) {
+        if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            map.forEach((key, nested) -> copy.put(key, substituteReferences(nested, responses)));
+            return copy;
+        }
+        if (value instanceof List<?> list) {
+            return list.stream().map(nested -> substituteReferences(nested, responses)).collect(Collectors.toList());
+        }
+        if (isReference(value)) {
+            return objectMapper.convertValue(resolveReference((String) value, responses), Object.class);
+        }
+        return value;
+    }
+
+    private boolean isReference(Object value) {
+        return value instanceof String text && text.startsWith(STEP_REFERENCE_PREFIX);
+    }
+
+    private JsonNode resolveReference(String reference, Map<Integer, JsonNode> responses) {
+        Matcher matcher = STEP_REFERENCE.matcher(reference);
+        matcher.matches();
+        JsonNode node = responses.get(Integer.parseInt(matcher.group(1)));
+        Matcher segment = PATH_SEGMENT.matcher(matcher.group(2));
+        while (node != null && segment.find()) {
+            node = segment.group(1) != null ? node.get(segment.group(1)) : node.get(Integer.parseInt(segment.group(2)));
+        }
+        if (node == null || node.isNull()) {
+            throw new IllegalArgumentException("Reference " + reference + " did not resolve to a value");
+        }
+        return node;
+    }
+
+    private String sizeError(List<?> items, String label) {
+        if (items == null || items.isEmpty()) {
+            return label + " must not be empty";
+        }
+        if (items.size() > execution.getMaxBatchSize()) {
+            return "Too many " + label.toLowerCase() + ": " + items.size()
+                    + " (maximum " + execution.getMaxBatchSize() + " per batch)";
+        }
+        return null;
+    }
+
+    private String invocationError(Map<String, Object> invocation) {
+        Object toolName = invocation != null ? invocation.get("toolName") : null;
+        Object parameters = invocation != null ? invocation.get("parameters") : null;
+        if (toolName != null && !(toolName instanceof String)) {
+            return "toolName must be a string";
+        }
+        if (parameters != null && !(parameters instanceof Map)) {
+            return "parameters must be an object";
+        }
+        return null;
+    }
+
+    /**
+     * Maps the parameters onto the tool's method and invokes it.
+     */
+    private Object invoke(InternalToolRegistry.ToolDefinition toolDef, Map<String, Object> parameters)
+            throws Exception {
+        Object[] args = buildMethodArguments(toolDef, parameters);
+        try {
+            return toolDef.invoke(args);
         } catch (Exception e) {
-            log.error("Failed to invoke tool '{}': {}", toolName, e.getMessage(), e);
-            return toJson(Map.of(
-                    "tool", toolName,
-                    "success", false,
-                    "error", e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName()
-            ));
+            throw new InvocationTargetException(e);
         }
     }
 
-    // ── Internal helpers ────────────────────────────────────────────────────
+    /**
+     * Adapts a reactive tool result to a single value: a {@link Mono} yields its element and
+     * any other publisher is collected into a list.
+     */
+    private Mono<Object> resolve(Publisher<?> publisher) {
+        if (publisher instanceof Mono<?> mono) {
+            return mono.cast(Object.class);
+        }
+        return Flux.from(publisher).collectList().cast(Object.class);
+    }
+
+    private Map<String, Object> successResponse(String toolName, Object result) {
+        return Map.of(
+                "tool", toolName,
+                "success", true,
+                "result", result != null ? result : "null"
+        );
+    }
+
+    private Map<String, Object> failureResponse(String toolName, Throwable error) {
+        if (error instanceof InvocationTargetException) {
+            Throwable cause = error.getCause() != null ? error.getCause() : error;
+            log.error("Tool '{}' execution failed: {}", toolName, cause.getMessage(), cause);
+            error = cause;
+        } else {
+            log.error("Failed to invoke tool '{}': {}", toolName, error.getMessage(), error);
+        }
+        return Map.of(
+                "tool", toolName,
+                "success", false,
+                "error", error.getMessage() != null ? error.getMessage() : error.getClass().getSimpleName()
+        );
+    }
+
+    /**
+     * Subscriber writing a list result into a sequence of pages. Elements are requested one at
+     * a time while a budget is set. The element that does not fit is held back, the
+     * subscription is left paused, and this subscriber is parked in {@link #cursors} until
+     * {@code fetch_more} hands it the next page to write or it expires and is disposed, which
+     * cancels the upstream.
+     */
+    private final class PagedResult extends BaseSubscriber<Object> {
+
+        /**
+         * Elements assumed to be retained by a paused stream of unknown length: one TestRail page.
+         */
+        private static final int STREAM_PARKED_ELEMENTS = 250;
+
+        private final String toolName;
+        private final ResponseOptions options;
+        private final long knownSize;
+        private final boolean budgeted;
+        private final ReentrantLock lock = new ReentrantLock();
+        private StreamedResponse response;
+        private MonoSink<Void> sink;
+        private int delivered;
+        private Object held;
+        private boolean completed;
+        private Throwable error;
+
+        PagedResult(String toolName, ResponseOptions options, long knownSize,
+                    StreamedResponse response, MonoSink<Void> sink) {
+            this.toolName = toolName;
+            this.options = options;
+            this.knownSize = knownSize;
+            this.budgeted = options.getMaxItems() > 0 || options.getMaxBytes() > 0;
+            startPage(response, sink);
+        }
+
+        /**
+         * Writes the next page, starting with the element held back from the previous one.
+         */
+        void nextPage(StreamedResponse response, MonoSink<Void> sink) {
+            lock.lock();
+            try {
+                startPage(response, sink);
+                try {
+                    response.element(held);
+                } catch (RuntimeException e) {
+                    dispose();
+                    throw e;
+                }
+                held = null;
+                delivered++;
+                if (error != null) {
+                    failPage(error);
+                } else if (completed) {
+                    endPage(null, null);
+                } else {
+                    request(1);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            subscription.request(budgeted ? 1 : Long.MAX_VALUE);
+        }
+
+        @Override
+        protected void hookOnNext(Object value) {
+            lock.lock();
+            try {
+                if (response.element(value)) {
+                    delivered++;
+                    if (budgeted) {
+                        request(1);
+                    }
+                    return;
+                }
+                held = value;
+                String parkedId = cursors.park(this, parkedWeight(value));
+                if (parkedId == null) {
+                    dispose();
+                    held = null;
+                    endPage(null, options.cursorAfter(toolName, delivered, null));
+                } else {
+                    endPage(options.cursorAfter(toolName, delivered, parkedId), null);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        protected void hookOnComplete() {
+            lock.lock();
+            try {
+                if (response != null) {
+                    endPage(null, null);
+                } else {
+                    completed = true;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        protected void hookOnError(Throwable throwable) {
+            lock.lock();
+            try {
+                if (response != null) {
+                    failPage(throwable);
+                } else {
+                    error = throwable;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void startPage(StreamedResponse response, MonoSink<Void> sink) {
+            this.response = response;
+            this.sink = sink;
+            sink.onCancel(this);
+        }
+
+        private void endPage(String nextCursor, String resumeCursor) {
+            try {
+                response.complete(nextCursor, resumeCursor);
+            } catch (RuntimeException e) {
+                dispose();
+                release().error(e);
+                return;
+            }
+            release().success();
+        }
+
+        private void failPage(Throwable throwable) {
+            try {
+                response.fail((String) failureResponse(toolName, throwable).get("error"));
+            } catch (RuntimeException e) {
+                release().error(e);
+                return;
+            }
+            release().success();
+        }
+
+        private MonoSink<Void> release() {
+            MonoSink<Void> finished = sink;
+            response = null;
+            sink = null;
+            return finished;
+        }
+
+        /**
+         * Estimates the memory retained while parked: the held element's serialised size times
+         * the elements of the list being paged, delivered ones included since the list still
+         * holds them (or a page's worth for streams of unknown length).
+         */
+        private long parkedWeight(Object heldElement) {
+            long retained = knownSize >= 0 ? knownSize : STREAM_PARKED_ELEMENTS;
+            try {
+                return Math.max(1, retained) * serializedSize(valueWriter, heldElement);
+            } catch (IOException e) {
+                return Math.max(1, retained) * RESPONSE_BUFFER_SIZE;
+            }
+        }
+    }
+
+    /**
+     * Incremental writer for a response whose result is a stream of elements. The envelope is
+     * opened with the first element, so a tool that fails before emitting anything produces
+     * the same failure response as a non-streamed tool. Elements are projected and counted
+     * against the budget of the {@link ResponseOptions} as they are written; each page of a
+     * {@link PagedResult} gets its own writer and budget. In the columnar format the projected
+     * elements of the page are buffered and written as one {@link ColumnarTable} at the end.
+     */
+    private static final class StreamedResponse implements AutoCloseable {
+
+        private final JsonGenerator generator;
+        private final ObjectWriter valueWriter;
+        private final String toolName;
+        private final ResponseOptions options;
+        private final ColumnarTable table;
+        private boolean started;
+        private int returned;
+        private long resultBytes;
+
+        StreamedResponse(JsonGenerator generator, ObjectWriter valueWriter, String toolName, ResponseOptions options) {
+            this.generator = generator;
+            this.valueWriter = valueWriter;
+            this.toolName = toolName;
+            this.options = options;
+            this.table = options.isColumnar() ? new ColumnarTable() : null;
+        }
+
+        /**
+         * Writes one element of the result array.
+         *
+         * @return {@code false}, without writing the element, once the budget is exhausted
+         */
+        boolean element(Object element) {
+            try {
+                start();
+                if (options.getMaxItems() > 0 && returned >= options.getMaxItems()) {
+                    return false;
+                }
+                if (table != null) {
+                    JsonNode row = tree(element);
+                    if (options.getMaxBytes() > 0) {
+                        long size = serializedSize(valueWriter, row) + (returned > 0 ? 1 : 0);
+                        if (returned > 0 && resultBytes + size > options.getMaxBytes()) {
+                            return false;
+                        }
+                        resultBytes += size;
+                    }
+                    table.add(row);
+                } else if (options.getMaxBytes() > 0) {
+                    TokenBuffer tokens = new TokenBuffer(generator.getCodec(), false);
+                    writeValue(tokens, element);
+                    long size = serializedSize(valueWriter, tokens) + (returned > 0 ? 1 : 0);
+                    if (returned > 0 && resultBytes + size > options.getMaxBytes()) {
+                        return false;
+                    }
+                    resultBytes += size;
+                    tokens.serialize(generator);
+                } else {
+                    writeValue(generator, element);
+                }
+                returned++;
+                return true;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Writes a result that is not a list, projected onto the requested fields.
+         */
+        void single(Object result) {
+            try {
+                generator.writeStartObject();
+                generator.writeStringField("tool", toolName);
+                generator.writeFieldName("result");
+                writeValue(generator, result);
+                generator.writeBooleanField("success", true);
+                generator.writeEndObject();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Closes the result array and the response. The response is marked truncated when
+         * either cursor is given.
+         *
+         * @param nextCursor {@code fetch_more} cursor for the parked rest of the result, or {@code null}
+         * @param resumeCursor {@code options.cursor} re-running the tool after the returned elements,
+         *                     given when the rest could not be parked, or {@code null}
+         */
+        void complete(String nextCursor, String resumeCursor) {
+            try {
+                start();
+                endResult();
+                generator.writeBooleanField("success", true);
+                if (nextCursor != null || resumeCursor != null) {
+                    generator.writeBooleanField("truncated", true);
+                }
+                if (nextCursor != null) {
+                    generator.writeStringField("nextCursor", nextCursor);
+                }
+                if (resumeCursor != null) {
+                    generator.writeStringField("resumeCursor", resumeCursor);
+                }
+                generator.writeEndObject();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void fail(String error) {
+            try {
+                if (started) {
+                    endResult();
+                } else {
+                    generator.writeStartObject();
+                    generator.writeStringField("tool", toolName);
+                }
+                generator.writeBooleanField("success", false);
+                generator.writeStringField("error", error);
+                generator.writeEndObject();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                generator.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void start() throws IOException {
+            if (!started) {
+                started = true;
+                generator.writeStartObject();
+                generator.writeStringField("tool", toolName);
+                if (table != null) {
+                    generator.writeFieldName("result");
+                } else {
+                    generator.writeArrayFieldStart("result");
+                }
+            }
+        }
+
+        /**
+         * Ends the result: closes the element array, or writes the buffered columnar table.
+         */
+        private void endResult() throws IOException {
+            if (table != null) {
+                table.write(generator);
+            } else {
+                generator.writeEndArray();
+            }
+        }
+
+        /**
+         * Returns the projected tree of an element, for the columnar table.
+         */
+        private JsonNode tree(Object element) throws IOException {
+            TokenBuffer buffer = new TokenBuffer(generator.getCodec(), false);
+            writeValue(buffer, element);
+            try (JsonParser parser = buffer.asParser()) {
+                return parser.readValueAsTree();
+            }
+        }
+
+        private void writeValue(JsonGenerator target, Object value) throws IOException {
+            TokenFilter fieldFilter = options.getFieldFilter();
+            valueWriter.writeValue(fieldFilter != null
+                    ? new FilteringGeneratorDelegate(target, fieldFilter, TokenFilter.Inclusion.INCLUDE_ALL_AND_PATH, true)
+                    : target, value);
+        }
+    }
+
+    /**
+     * Returns the UTF-8 size of {@code value} as {@code writer} serialises it, without keeping
+     * the bytes.
+     */
+    private static long serializedSize(ObjectWriter writer, Object value) throws IOException {
+        ByteCounter counter = new ByteCounter();
+        writer.writeValue(counter, value);
+        return counter.count;
+    }
+
+    /**
+     * Output stream that only counts the bytes written to it.
+     */
+    private static final class ByteCounter extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
 
     /**
      * Groups all tools from the registry by their category.
@@ -295,7 +1216,7 @@ public class McpExposedTools {
                 }
                 args[i] = getDefaultPrimitiveValue(targetType);
             } else {
-                args[i] = convertValue(value, targetType, paramName);
+                args[i] = paramDef.getConverter().convert(value, paramName, objectMapper);
             }
         }
 
@@ -305,82 +1226,11 @@ public class McpExposedTools {
     /**
      * Converts a value from the parameter map to the expected Java type.
      * Handles common conversions: Number → int/long/Integer/Long, String → int/long,
-     * Object → Map, etc.
+     * Object → Map, etc. Tool invocations use the converter precompiled for each
+     * parameter; this resolves one for an arbitrary type.
      */
     Object convertValue(Object value, Class<?> targetType, String paramName) {
-        if (targetType.isAssignableFrom(value.getClass())) {
-            return value;
-        }
-
-        // Number conversions
-        if (value instanceof Number number) {
-            if (targetType == int.class || targetType == Integer.class) {
-                return number.intValue();
-            }
-            if (targetType == long.class || targetType == Long.class) {
-                return number.longValue();
-            }
-            if (targetType == double.class || targetType == Double.class) {
-                return number.doubleValue();
-            }
-            if (targetType == float.class || targetType == Float.class) {
-                return number.floatValue();
-            }
-            if (targetType == boolean.class || targetType == Boolean.class) {
-                return number.intValue() != 0;
-            }
-            if (targetType == String.class) {
-                return number.toString();
-            }
-        }
-
-        // String to number conversions
-        if (value instanceof String str) {
-            try {
-                if (targetType == int.class || targetType == Integer.class) {
-                    return Integer.parseInt(str);
-                }
-                if (targetType == long.class || targetType == Long.class) {
-                    return Long.parseLong(str);
-                }
-                if (targetType == double.class || targetType == Double.class) {
-                    return Double.parseDouble(str);
-                }
-                if (targetType == float.class || targetType == Float.class) {
-                    return Float.parseFloat(str);
-                }
-                if (targetType == boolean.class || targetType == Boolean.class) {
-                    return Boolean.parseBoolean(str);
-                }
-            } catch (NumberFormatException e) {
-                throw new IllegalArgumentException(
-                        "Cannot convert parameter '" + paramName + "' value '" + str + "' to " + targetType.getSimpleName());
-            }
-        }
-
-        // Boolean conversions
-        if (value instanceof Boolean bool) {
-            if (targetType == boolean.class || targetType == Boolean.class) {
-                return bool;
-            }
-            if (targetType == String.class) {
-                return bool.toString();
-            }
-        }
-
-        // Map stays as Map (for complex parameters like request bodies)
-        if (value instanceof Map && Map.class.isAssignableFrom(targetType)) {
-            return value;
-        }
-
-        // Fallback: try ObjectMapper conversion for complex types
-        try {
-            return objectMapper.convertValue(value, targetType);
-        } catch (Exception e) {
-            throw new IllegalArgumentException(
-                    "Cannot convert parameter '" + paramName + "' from " + value.getClass().getSimpleName()
-                            + " to " + targetType.getSimpleName());
-        }
+        return ParameterConverter.forType(targetType).convert(value, paramName, objectMapper);
     }
 
     /**
@@ -0,0 +1,334 @@
+package io.github.testrail.mcp.tools;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.filter.TokenFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.github.testrail.mcp.registry.ParameterConverter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * Per-call shaping of an {@code execute_tool} response, read from its optional
+ * {@code options} map:
+ * <ul>
+ *   <li>{@code fields} — property names to keep on each result object, as a list or a
+ *       comma-separated string. Nested values of a kept property are written whole.</li>
+ *   <li>{@code maxItems} — maximum number of list elements to return.</li>
+ *   <li>{@code maxBytes} — maximum size, in UTF-8 bytes, of the serialised list elements.
+ *       The first element is always returned so that a continuation makes progress.</li>
+ *   <li>{@code cursor} — the {@code nextCursor} of a truncated response, to continue after
+ *       the elements it already returned by running the tool again.</li>
+ *   <li>{@code format} — {@code "json"} (the default) or {@code "columnar"}, which writes a
+ *       list of objects as a {@link ColumnarTable}. {@code maxBytes} still counts the JSON
+ *       size of each element, so a columnar page stays well within it.</li>
+ * </ul>
+ *
+ * <p>The projection and the budget are applied while the response is written: excluded
+ * properties are dropped by a {@link TokenFilter} on the generator and elements past the
+ * budget are never serialised into the response. A {@link Cursor} records the tool, a hash of
+ * the tool parameters, how many elements were already returned and, when the rest of the
+ * result is parked server-side, the ID it is parked under. Passing it back as the
+ * {@code cursor} option re-runs the tool and skips the returned elements, which also works
+ * once the parked result has expired. A cursor is rejected if the parameters of the re-run
+ * differ from those of the call that issued it, since its offset would then point into a
+ * different result.</p>
+ */
+final class ResponseOptions {
+
+    /**
+     * No projection, no budget, starting at the first element.
+     */
+    static final ResponseOptions NONE = new ResponseOptions(null, 0, 0, 0, false, "");
+
+    private static final Set<String> KEYS = Set.of("fields", "maxItems", "maxBytes", "cursor", "format");
+    private static final String FORMAT_JSON = "json";
+    private static final String FORMAT_COLUMNAR = "columnar";
+    private static final ParameterConverter INT_CONVERTER = ParameterConverter.forType(int.class);
+    private static final ParameterConverter LONG_CONVERTER = ParameterConverter.forType(long.class);
+    /** Number of leading SHA-256 bytes kept as the parameters hash. */
+    private static final int PARAMETERS_HASH_BYTES = 8;
+
+    private final TokenFilter fieldFilter;
+    private final int maxItems;
+    private final long maxBytes;
+    private final int offset;
+    private final boolean columnar;
+    private final String parametersHash;
+
+    private ResponseOptions(TokenFilter fieldFilter, int maxItems, long maxBytes, int offset, boolean columnar,
+                            String parametersHash) {
+        this.fieldFilter = fieldFilter;
+        this.maxItems = maxItems;
+        this.maxBytes = maxBytes;
+        this.offset = offset;
+        this.columnar = columnar;
+        this.parametersHash = parametersHash;
+    }
+
+    /**
+     * Reads the options of a call to {@code toolName}.
+     *
+     * @param toolName the tool being executed
+     * @param parameters the tool parameters, may be {@code null}
+     * @param options the raw options, may be {@code null} or empty
+     * @param objectMapper mapper for number conversions and parameter hashing
+     * @return the parsed options, {@link #NONE} if none were given
+     * @throws IllegalArgumentException if an option is unknown or invalid, or if the cursor was
+     *                                  issued for another tool or other parameters
+     */
+    static ResponseOptions from(String toolName, Map<String, Object> parameters, Map<String, Object> options,
+                                ObjectMapper objectMapper) {
+        if (options == null || options.isEmpty()) {
+            return NONE;
+        }
+        for (String key : options.keySet()) {
+            if (!KEYS.contains(key)) {
+                throw new IllegalArgumentException("Unknown response option '" + key + "'; expected one of " + new TreeSet<>(KEYS));
+            }
+        }
+
+        Set<String> fields = fields(options.get("fields"));
+        int maxItems = options.get("maxItems") != null
+                ? positive((Integer) INT_CONVERTER.convert(options.get("maxItems"), "maxItems", objectMapper), "maxItems")
+                : 0;
+        long maxBytes = options.get("maxBytes") != null
+                ? positive((Long) LONG_CONVERTER.convert(options.get("maxBytes"), "maxBytes", objectMapper), "maxBytes")
+                : 0;
+        String parametersHash = parametersHash(parameters, objectMapper);
+        int offset = 0;
+        if (options.get("cursor") != null) {
+            Cursor cursor = Cursor.decode(String.valueOf(options.get("cursor")));
+            if (!cursor.getToolName().equals(toolName)) {
+                throw new IllegalArgumentException("Cursor was issued for tool '" + cursor.getToolName()
+                        + "', not '" + toolName + "'");
+            }
+            if (!cursor.getParametersHash().equals(parametersHash)) {
+                throw new IllegalArgumentException("Cursor was issued for other parameters of '" + toolName
+                        + "'; pass the same parameters as the call that returned it");
+            }
+            offset = cursor.getOffset();
+        }
+        return new ResponseOptions(fields != null ? new FieldFilter(fields) : null, maxItems, maxBytes, offset,
+                columnar(options.get("format")), parametersHash);
+    }
+
+    /**
+     * Returns whether the response is written unchanged.
+     */
+    boolean isDefault() {
+        return fieldFilter == null && maxItems == 0 && maxBytes == 0 && offset == 0 && !columnar;
+    }
+
+    /**
+     * Returns whether list results are written in the columnar format.
+     */
+    boolean isColumnar() {
+        return columnar;
+    }
+
+    /**
+     * Returns the filter keeping only the requested properties, or {@code null} to keep all.
+     */
+    TokenFilter getFieldFilter() {
+        return fieldFilter;
+    }
+
+    /**
+     * Returns the maximum number of elements, or 0 for no limit.
+     */
+    int getMaxItems() {
+        return maxItems;
+    }
+
+    /**
+     * Returns the maximum size of the serialised elements in bytes, or 0 for no limit.
+     */
+    long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Returns the number of leading elements to skip, as recorded by the cursor.
+     */
+    int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Returns the cursor continuing after {@code returned} more elements of {@code toolName}.
+     *
+     * @param parkedId the ID the rest of the result is parked under, or {@code null}
+     */
+    String cursorAfter(String toolName, int returned, String parkedId) {
+        return new Cursor(toolName, parametersHash, offset + returned, parkedId).encode();
+    }
+
+    /**
+     * Hashes tool parameters independently of map order and of whether a scalar was passed as
+     * a string: {@code {"run_id": 5}} and {@code {"run_id": "5"}} bind to the same call and get
+     * the same hash. Null values are ignored, as they are when the tool is invoked.
+     */
+    static String parametersHash(Map<String, Object> parameters, ObjectMapper objectMapper) {
+        Map<String, String> canonical = new TreeMap<>();
+        try {
+            if (parameters != null) {
+                for (Map.Entry<String, Object> entry : parameters.entrySet()) {
+                    Object value = entry.getValue();
+                    if (value == null) {
+                        continue;
+                    }
+                    canonical.put(entry.getKey(), value instanceof CharSequence || value instanceof Number
+                            || value instanceof Boolean
+                            ? String.valueOf(value)
+                            : objectMapper.writer(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                                    .writeValueAsString(value));
+                }
+            }
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(objectMapper.writeValueAsBytes(canonical));
+            return HexFormat.of().formatHex(digest, 0, PARAMETERS_HASH_BYTES);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Tool parameters cannot be serialised: " + e.getOriginalMessage());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static Set<String> fields(Object value) {
+        if (value == null) {
+            return null;
+        }
+        Collection<?> names = value instanceof Collection<?> collection ? collection
+                : Arrays.asList(String.valueOf(value).split(","));
+        Set<String> fields = new HashSet<>();
+        for (Object name : names) {
+            String field = name != null ? name.toString().trim() : "";
+            if (!field.isEmpty()) {
+                fields.add(field);
+            }
+        }
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("Response option 'fields' must name at least one field");
+        }
+        return fields;
+    }
+
+    private static boolean columnar(Object format) {
+        if (format == null || FORMAT_JSON.equalsIgnoreCase(format.toString().trim())) {
+            return false;
+        }
+        if (FORMAT_COLUMNAR.equalsIgnoreCase(format.toString().trim())) {
+            return true;
+        }
+        throw new IllegalArgumentException("Response option 'format' must be '" + FORMAT_JSON + "' or '"
+                + FORMAT_COLUMNAR + "', got '" + format + "'");
+    }
+
+    private static <N extends Number> N positive(N value, String name) {
+        if (value.longValue() <= 0) {
+            throw new IllegalArgumentException("Response option '" + name + "' must be positive, got " + value);
+        }
+        return value;
+    }
+
+    /**
+     * Decoded form of an opaque {@code nextCursor}: the tool, the hash of its parameters, the
+     * number of elements already returned and, optionally, the ID of the parked remainder.
+     */
+    static final class Cursor {
+
+        private final String toolName;
+        private final String parametersHash;
+        private final int offset;
+        private final String parkedId;
+
+        Cursor(String toolName, String parametersHash, int offset, String parkedId) {
+            this.toolName = toolName;
+            this.parametersHash = parametersHash;
+            this.offset = offset;
+            this.parkedId = parkedId;
+        }
+
+        /**
+         * Decodes a cursor produced by {@link #encode()}.
+         *
+         * @throws IllegalArgumentException if {@code cursor} is not a valid cursor
+         */
+        static Cursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                throw new IllegalArgumentException("Cursor must not be empty");
+            }
+            String[] parts;
+            try {
+                parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":", -1);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            if (parts.length < 3 || parts.length > 4 || parts[0].isEmpty()) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            try {
+                int offset = Integer.parseInt(parts[1]);
+                if (offset < 0) {
+                    throw new NumberFormatException();
+                }
+                return new Cursor(parts[0], parts[2], offset, parts.length == 4 ? parts[3] : null);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+        }
+
+        String encode() {
+            String state = toolName + ":" + offset + ":" + parametersHash + (parkedId != null ? ":" + parkedId : "");
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(state.getBytes(StandardCharsets.UTF_8));
+        }
+
+        String getToolName() {
+            return toolName;
+        }
+
+        String getParametersHash() {
+            return parametersHash;
+        }
+
+        int getOffset() {
+            return offset;
+        }
+
+        String getParkedId() {
+            return parkedId;
+        }
+    }
+
+    /**
+     * Keeps the named properties of the objects it is applied to, dropping all others.
+     * Applied per element, so only the top level of each element is projected.
+     */
+    private static final class FieldFilter extends TokenFilter {
+
+        private final Set<String> fields;
+
+        FieldFilter(Set<String> fields) {
+            this.fields = fields;
+        }
+
+        @Override
+        public TokenFilter includeProperty(String name) {
+            return fields.contains(name) ? TokenFilter.INCLUDE_ALL : null;
+        }
+
+        @Override
+        public boolean includeEmptyObject(boolean contentsFiltered) {
+            return true;
+        }
+
+        @Override
+        public boolean includeEmptyArray(boolean contentsFiltered) {
+            return true;
+        }
+    }
+}
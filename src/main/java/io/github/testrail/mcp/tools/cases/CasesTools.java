@@ -3,12 +3,15 @@ package io.github.testrail.mcp.tools.cases;
 import io.github.testrail.mcp.annotation.InternalTool;
 import io.github.testrail.mcp.annotation.InternalToolParam;
 import io.github.testrail.mcp.client.TestrailApiClient;
+import io.github.testrail.mcp.model.BulkResult;
 import io.github.testrail.mcp.model.OperationResult;
 import io.github.testrail.mcp.model.TestCase;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -52,12 +55,12 @@ public class CasesTools {
             },
             keywords = {"get", "retrieve", "fetch", "show", "view", "case", "details", "read"}
     )
-    public TestCase getTestCase(
+    public Mono<TestCase> getTestCase(
             @InternalToolParam(description = "The unique identifier of the test case. Can be provided with or without the 'C' prefix (e.g., 123 or C123).")
             Integer caseId
     ) {
         log.info("Tool: get_test_case called with caseId={}", caseId);
-        return apiClient.getCase(caseId);
+        return apiClient.getCaseAsync(caseId);
     }
 
     @InternalTool(
@@ -124,6 +127,58 @@ public class CasesTools {
                 updatedAfter, updatedBefore, updatedBy);
     }
 
+    @InternalTool(
+            name = "get_cases_by_ids",
+            description = """
+                    Retrieves many test cases by their IDs in a single call.
+                    Returns one entry per requested ID, in the order given, each holding either the case or the error for that ID.
+                    When the project (and optionally suite or section) is known, the cases are read from a listing of it
+                    where that needs fewer requests than one per case; IDs not found there are fetched individually in parallel.
+                    
+                    **When to use:** Use this tool instead of calling get_case repeatedly when you need the details of
+                    several specific test cases, e.g. every case referenced by failed tests in a run.
+                    
+                    **Might lead to:** update_case (to modify), add_run (to run the cases), copy_cases_to_section (to copy them).
+                    
+                    **Example prompts:**
+                    - "Show me cases C12, C34 and C56"
+                    - "Get the details of all cases that failed in run 8"
+                    """,
+            category = "test-cases",
+            examples = {
+                    "execute_tool('get_cases_by_ids', {caseIds: '12,34,56'})",
+                    "execute_tool('get_cases_by_ids', {caseIds: 'C12,C34,C56', projectId: 1, suiteId: 5})"
+            },
+            keywords = {"get", "batch", "bulk", "many", "multiple", "cases", "ids", "fetch", "details"}
+    )
+    public BulkResult<TestCase> getTestCasesByIds(
+            @InternalToolParam(description = "Comma-separated list of case IDs, with or without the 'C' prefix (e.g. '12,34' or 'C12,C34').")
+            String caseIds,
+            @InternalToolParam(description = "The project the cases belong to. When given, cases are read from one listing instead of one request each.", required = false)
+            Integer projectId,
+            @InternalToolParam(description = "The suite the cases belong to (required for projects using multiple suites mode when projectId is given).", required = false)
+            Integer suiteId,
+            @InternalToolParam(description = "The section the cases belong to, to narrow the listing.", required = false)
+            Integer sectionId
+    ) {
+        log.info("Tool: get_cases_by_ids called with caseIds={}, projectId={}, suiteId={}", caseIds, projectId, suiteId);
+
+        List<Integer> caseIdList = new ArrayList<>();
+        for (String caseIdStr : caseIds.split(",")) {
+            String trimmed = caseIdStr.trim();
+            if (!trimmed.isEmpty()) {
+                try {
+                    caseIdList.add(Integer.parseInt(trimmed.startsWith("C") || trimmed.startsWith("c")
+                            ? trimmed.substring(1) : trimmed));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid case ID '" + trimmed + "' in caseIds");
+                }
+            }
+        }
+
+        return apiClient.getCasesByIds(caseIdList, projectId, suiteId, sectionId);
+    }
+
     @InternalTool(
             name = "add_case",
             description = """
@@ -255,6 +310,75 @@ public class CasesTools {
         return apiClient.updateCase(caseId, data);
     }
 
+    @InternalTool(
+            name = "add_cases_bulk",
+            description = """
+                    Creates many test cases in one call, e.g. when importing a test specification.
+                    Cases are created in parallel within TestRail's rate limit; a case that fails is reported
+                    without stopping the others. Returns one entry per case, in the order given, with the created case or the error.
+                    Use dryRun to validate the list (required fields, existing sections) and preview the cases without creating anything.
+                    
+                    **When to use:** Use this tool instead of calling add_case repeatedly whenever you need to create more than a few cases.
+                    Each case uses TestRail field names: section_id and title are required; optional fields include
+                    custom_steps, custom_expected, custom_preconds, priority_id, type_id, refs, estimate, milestone_id and template_id.
+                    
+                    **Might lead to:** get_cases_by_ids (to review the created cases), add_run (to run them), update_cases_bulk (to fix fields).
+                    
+                    **Example prompts:**
+                    - "Create these 200 test cases from the spec in section 5"
+                    - "Check whether this list of cases can be imported, without creating them"
+                    """,
+            category = "test-cases",
+            examples = {
+                    "execute_tool('add_cases_bulk', {cases: [{section_id: 5, title: 'Login succeeds'}, {section_id: 5, title: 'Login fails', priority_id: 3}]})",
+                    "execute_tool('add_cases_bulk', {cases: [{section_id: 7, title: 'Checkout', custom_steps: '1. Pay'}], dryRun: true})"
+            },
+            keywords = {"add", "create", "bulk", "batch", "many", "import", "cases", "spec", "dry-run"}
+    )
+    public BulkResult<TestCase> addTestCasesBulk(
+            @InternalToolParam(description = "Case objects with TestRail field names; each needs section_id and title.")
+            List<Map<String, Object>> cases,
+            @InternalToolParam(description = "If true, only validate and preview the cases without creating them.", required = false, defaultValue = "false")
+            Boolean dryRun
+    ) {
+        log.info("Tool: add_cases_bulk called with {} cases, dryRun={}", cases.size(), dryRun);
+        return apiClient.addCasesBulk(cases, Boolean.TRUE.equals(dryRun));
+    }
+
+    @InternalTool(
+            name = "update_cases_bulk",
+            description = """
+                    Updates many test cases in one call, each with its own set of changed fields.
+                    Updates run in parallel within TestRail's rate limit; a case that fails is reported without stopping the others.
+                    Returns one entry per case, in the order given, with the updated case or the error.
+                    Use dryRun to fetch each case and preview it with the changes applied, without updating anything.
+                    
+                    **When to use:** Use this tool instead of calling update_case repeatedly, e.g. to re-prioritise,
+                    retag (refs) or rewrite the steps of many cases at once. Each entry needs case_id plus the TestRail fields to change.
+                    
+                    **Might lead to:** get_cases_by_ids (to verify), add_run (to re-run the updated cases).
+                    
+                    **Example prompts:**
+                    - "Set priority to High on cases C1 to C50"
+                    - "Preview adding the ticket reference PROJ-9 to these cases"
+                    """,
+            category = "test-cases",
+            examples = {
+                    "execute_tool('update_cases_bulk', {cases: [{case_id: 1, priority_id: 3}, {case_id: 2, refs: 'PROJ-9'}]})",
+                    "execute_tool('update_cases_bulk', {cases: [{case_id: 10, title: 'New title'}], dryRun: true})"
+            },
+            keywords = {"update", "modify", "edit", "bulk", "batch", "many", "cases", "dry-run"}
+    )
+    public BulkResult<TestCase> updateTestCasesBulk(
+            @InternalToolParam(description = "Objects with case_id and the TestRail fields to change for that case.")
+            List<Map<String, Object>> cases,
+            @InternalToolParam(description = "If true, only preview the updated cases without changing them.", required = false, defaultValue = "false")
+            Boolean dryRun
+    ) {
+        log.info("Tool: update_cases_bulk called with {} cases, dryRun={}", cases.size(), dryRun);
+        return apiClient.updateCasesBulk(cases, Boolean.TRUE.equals(dryRun));
+    }
+
     @InternalTool(
             name = "delete_case",
             description = """
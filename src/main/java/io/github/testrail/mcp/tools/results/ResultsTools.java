@@ -3,15 +3,27 @@ package io.github.testrail.mcp.tools.results;
 import io.github.testrail.mcp.annotation.InternalTool;
 import io.github.testrail.mcp.annotation.InternalToolParam;
 import io.github.testrail.mcp.client.TestrailApiClient;
+import io.github.testrail.mcp.model.ChunkedSubmitResult;
+import io.github.testrail.mcp.model.ReportImportResult;
+import io.github.testrail.mcp.model.Test;
 import io.github.testrail.mcp.model.TestResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * MCP Tools for TestRail test result operations.
@@ -21,6 +33,9 @@ public class ResultsTools {
 
     private static final Logger log = LoggerFactory.getLogger(ResultsTools.class);
 
+    private static final Integer STATUS_PASSED = 1;
+    private static final Integer STATUS_FAILED = 5;
+
     private final TestrailApiClient apiClient;
 
     public ResultsTools(TestrailApiClient apiClient) {
@@ -95,7 +110,7 @@ public class ResultsTools {
             },
             keywords = {"get", "retrieve", "fetch", "show", "view", "results", "run", "all", "report", "summary"}
     )
-    public List<TestResult> getResultsForRun(
+    public Flux<TestResult> getResultsForRun(
             @InternalToolParam(description = "The ID of the test run")
             Integer runId,
             @InternalToolParam(description = "Only return results created after this UNIX timestamp", required = false)
@@ -114,7 +129,7 @@ public class ResultsTools {
             Integer offset
     ) {
         log.info("Tool: get_results_for_run called with runId={}, filters applied", runId);
-        return apiClient.getResultsForRun(runId, createdAfter, createdBefore, createdBy, defectsFilter, statusId, limit, offset);
+        return apiClient.getResultsForRunAsync(runId, createdAfter, createdBefore, createdBy, defectsFilter, statusId, limit, offset);
     }
 
     @InternalTool(
@@ -310,4 +325,211 @@ public class ResultsTools {
 
         return apiClient.addResultsForCases(runId, results);
     }
+
+    @InternalTool(
+            name = "add_results_bulk",
+            description = """
+                    Submits a large list of individual test results to a run, e.g. a whole CI report with thousands of results.
+                    The list is split into chunks that are sent in parallel; a chunk that fails with a server error or timeout
+                    is checked against the run and only its unrecorded results are resent, so nothing is added twice.
+                    Returns a report per chunk with attempts, submitted counts and errors.
+                    
+                    **When to use:** Use this tool when results have different statuses, comments or fields per test,
+                    or when there are too many results for a single add_results or add_results_for_cases request.
+                    Each result must have either test_id (all items) or case_id (all items), plus status_id.
+                    
+                    **Might lead to:** get_results_for_run (to verify), get_run (to check progress).
+                    
+                    **Example prompts:**
+                    - "Upload these 20,000 automation results to run 123"
+                    - "Record the CI results for cases C1 (passed) and C2 (failed) in run 456"
+                    """,
+            category = "test-results",
+            examples = {
+                    "execute_tool('add_results_bulk', {runId: 123, results: [{test_id: 1, status_id: 1}, {test_id: 2, status_id: 5, comment: 'Timeout'}]})",
+                    "execute_tool('add_results_bulk', {runId: 456, results: [{case_id: 10, status_id: 1, elapsed: '12s'}]})"
+            },
+            keywords = {"add", "bulk", "batch", "chunk", "import", "upload", "ci", "automation", "results", "large"}
+    )
+    public ChunkedSubmitResult addResultsBulk(
+            @InternalToolParam(description = "The ID of the test run.")
+            Integer runId,
+            @InternalToolParam(description = "Result objects with status_id and either test_id or case_id (the same key for every item), plus optional comment, elapsed, defects, version and custom fields.")
+            List<Map<String, Object>> results
+    ) {
+        log.info("Tool: add_results_bulk called for runId={} with {} results", runId, results.size());
+
+        boolean byCase = !results.isEmpty() && results.get(0).containsKey("case_id");
+        String key = byCase ? "case_id" : "test_id";
+        for (Map<String, Object> result : results) {
+            if (!result.containsKey(key)) {
+                throw new IllegalArgumentException("Every result must have " + key + " when the first result has it");
+            }
+        }
+
+        return byCase
+                ? apiClient.addResultsForCasesInChunks(runId, results)
+                : apiClient.addResultsInChunks(runId, results);
+    }
+
+    @InternalTool(
+            name = "import_test_report",
+            description = """
+                    Imports a JUnit XML or TestNG results file from local disk into a test run.
+                    The report is streamed and submitted in chunks, so reports of hundreds of megabytes import in constant memory.
+                    Each test in the report is matched to a case in the run by, in order: a case ID marker in its name
+                    (e.g. 'C123_login' or 'testLogin [C123]'), the case title, or the case references (refs).
+                    Passed tests are recorded as Passed, failures and errors as Failed with the failure message as comment.
+                    Returns counts of parsed, matched, unmatched and skipped tests plus the per-chunk submission report.
+                    
+                    **When to use:** Use this tool when you want to upload automated test results from a CI build
+                    (Maven Surefire, Gradle, pytest --junitxml, TestNG testng-results.xml, etc.) into an existing run.
+                    
+                    **Might lead to:** get_run (to check progress), get_results_for_run (to verify), close_run (when complete).
+                    
+                    **Example prompts:**
+                    - "Import build/test-results/test/TEST-LoginTest.xml into run 42"
+                    - "Upload target/surefire-reports/testng-results.xml to run 17, marking skipped tests as blocked"
+                    """,
+            category = "test-results",
+            examples = {
+                    "execute_tool('import_test_report', {runId: 42, filePath: '/ci/build/test-results/junit.xml'})",
+                    "execute_tool('import_test_report', {runId: 17, filePath: '/ci/target/testng-results.xml', skippedStatusId: 2})"
+            },
+            keywords = {"import", "upload", "junit", "testng", "xml", "report", "ci", "automation", "results", "surefire"}
+    )
+    public ReportImportResult importTestReport(
+            @InternalToolParam(description = "The ID of the test run to record results in.")
+            Integer runId,
+            @InternalToolParam(description = "Absolute path of the JUnit XML or TestNG results file on the local machine.")
+            String filePath,
+            @InternalToolParam(description = "Status ID to record for skipped tests (e.g. 2=Blocked, 4=Retest). Leave empty to not record skipped tests.", required = false)
+            Integer skippedStatusId
+    ) {
+        log.info("Tool: import_test_report called for runId={}, filePath={}", runId, filePath);
+
+        Path report = Path.of(filePath);
+        if (!Files.isRegularFile(report)) {
+            throw new IllegalArgumentException("Test report not found: " + filePath);
+        }
+
+        CaseMatcher matcher = new CaseMatcher(apiClient.getAllTests(runId, null, null));
+        ReportImportResult summary = new ReportImportResult();
+
+        Flux<Map<String, Object>> results = TestReportReader.read(report)
+                .subscribeOn(Schedulers.boundedElastic())
+                .<Map<String, Object>>handle((test, sink) -> {
+                    summary.setParsed(summary.getParsed() + 1);
+                    Integer caseId = matcher.match(test);
+                    if (caseId == null) {
+                        summary.addUnmatched(test.getClassName() != null
+                                ? test.getClassName() + "." + test.getName() : test.getName());
+                        return;
+                    }
+                    Integer statusId = switch (test.getOutcome()) {
+                        case PASSED -> STATUS_PASSED;
+                        case FAILED -> STATUS_FAILED;
+                        case SKIPPED -> skippedStatusId;
+                    };
+                    if (statusId == null) {
+                        summary.setSkipped(summary.getSkipped() + 1);
+                        return;
+                    }
+                    summary.setMatched(summary.getMatched() + 1);
+                    sink.next(toResult(caseId, statusId, test));
+                });
+
+        summary.setSubmission(apiClient.addResultsForCasesInChunks(runId, results));
+        return summary;
+    }
+
+    private static Map<String, Object> toResult(Integer caseId, Integer statusId, TestReportReader.ReportedTest test) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("case_id", caseId);
+        result.put("status_id", statusId);
+        String elapsed = formatElapsed(test.getDurationSeconds());
+        if (elapsed != null) result.put("elapsed", elapsed);
+        if (test.getMessage() != null) result.put("comment", test.getMessage());
+        return result;
+    }
+
+    /**
+     * Formats a duration as a TestRail timespan such as {@code "1m 5s"}. TestRail rejects
+     * zero timespans, so durations under half a second yield {@code null}.
+     */
+    static String formatElapsed(double seconds) {
+        long total = Math.round(seconds);
+        if (total < 1) {
+            return null;
+        }
+        StringBuilder elapsed = new StringBuilder();
+        if (total >= 3600) elapsed.append(total / 3600).append("h ");
+        if (total % 3600 >= 60) elapsed.append(total % 3600 / 60).append("m ");
+        if (total % 60 > 0) elapsed.append(total % 60).append("s");
+        return elapsed.toString().trim();
+    }
+
+    /**
+     * Matches report tests to the cases of a run by case ID marker, title or reference.
+     */
+    private static final class CaseMatcher {
+
+        private static final Pattern CASE_ID_MARKER = Pattern.compile("(?<![A-Za-z0-9])C(\\d{1,9})(?![0-9])");
+
+        private final Set<Integer> caseIds = new HashSet<>();
+        private final Map<String, Integer> caseIdsByTitle = new HashMap<>();
+        private final Map<String, Integer> caseIdsByRef = new HashMap<>();
+
+        CaseMatcher(List<Test> tests) {
+            for (Test test : tests) {
+                if (test.getCaseId() == null) {
+                    continue;
+                }
+                caseIds.add(test.getCaseId());
+                if (test.getTitle() != null) {
+                    caseIdsByTitle.putIfAbsent(normalize(test.getTitle()), test.getCaseId());
+                }
+                if (test.getRefs() != null) {
+                    for (String ref : test.getRefs().split(",")) {
+                        if (!ref.isBlank()) {
+                            caseIdsByRef.putIfAbsent(ref.trim(), test.getCaseId());
+                        }
+                    }
+                }
+            }
+        }
+
+        Integer match(TestReportReader.ReportedTest test) {
+            String name = test.getName() != null ? test.getName() : "";
+            String className = test.getClassName() != null ? test.getClassName() : "";
+
+            for (String candidate : List.of(name, className)) {
+                Matcher marker = CASE_ID_MARKER.matcher(candidate);
+                while (marker.find()) {
+                    Integer caseId = Integer.valueOf(marker.group(1));
+                    if (caseIds.contains(caseId)) {
+                        return caseId;
+                    }
+                }
+            }
+
+            Integer byTitle = caseIdsByTitle.get(normalize(name));
+            if (byTitle != null) {
+                return byTitle;
+            }
+
+            for (String ref : List.of(name, className + "." + name, className + "#" + name, className)) {
+                Integer byRef = caseIdsByRef.get(ref);
+                if (byRef != null) {
+                    return byRef;
+                }
+            }
+            return null;
+        }
+
+        private static String normalize(String title) {
+            String trimmed = title.trim().toLowerCase(Locale.ROOT);
+            return trimmed.endsWith("()") ? trimmed.substring(0, trimmed.length() - 2) : trimmed;
+        }
+    }
 }
@@ -0,0 +1,283 @@
+package io.github.testrail.mcp.tools.results;
+
+import reactor.core.publisher.Flux;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Streaming reader for JUnit XML and TestNG result reports.
+ *
+ * <p>The report is walked with a StAX {@link XMLStreamReader} and each test is emitted as
+ * soon as its closing tag is read, so memory use does not grow with the size of the report.
+ * The format is detected from the root element: {@code <testng-results>} is read as TestNG,
+ * anything else ({@code <testsuites>}, {@code <testsuite>}) as JUnit XML. Captured output
+ * ({@code system-out}, stack traces) is skipped, and failure messages are truncated to
+ * {@link #MAX_MESSAGE_LENGTH} characters.</p>
+ */
+public final class TestReportReader {
+
+    /**
+     * Longest failure message kept per test.
+     */
+    static final int MAX_MESSAGE_LENGTH = 4000;
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+
+    private TestReportReader() {
+    }
+
+    /**
+     * Outcome of a test as recorded in the report.
+     */
+    public enum Outcome {
+        PASSED,
+        FAILED,
+        SKIPPED
+    }
+
+    /**
+     * One test read from a report.
+     */
+    public static final class ReportedTest {
+
+        private final String className;
+        private final String name;
+        private final Outcome outcome;
+        private final double durationSeconds;
+        private final String message;
+
+        ReportedTest(String className, String name, Outcome outcome, double durationSeconds, String message) {
+            this.className = className;
+            this.name = name;
+            this.outcome = outcome;
+            this.durationSeconds = durationSeconds;
+            this.message = message;
+        }
+
+        public String getClassName() {
+            return className;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Outcome getOutcome() {
+            return outcome;
+        }
+
+        public double getDurationSeconds() {
+            return durationSeconds;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+
+    /**
+     * Returns the tests of a report file. The file is opened on subscription, read as tests
+     * are requested, and closed when the stream terminates or is cancelled.
+     *
+     * @param file the JUnit XML or TestNG report
+     * @return the tests in document order
+     */
+    public static Flux<ReportedTest> read(Path file) {
+        return Flux.using(
+                () -> Files.newInputStream(file),
+                (InputStream input) -> read(input),
+                TestReportReader::closeQuietly);
+    }
+
+    /**
+     * Returns the tests of a report read from {@code input}. The stream is not closed.
+     *
+     * @param input the JUnit XML or TestNG report
+     * @return the tests in document order
+     */
+    public static Flux<ReportedTest> read(InputStream input) {
+        return Flux.<ReportedTest, Parser>generate(
+                () -> new Parser(XML_INPUT_FACTORY.createXMLStreamReader(input)),
+                (parser, sink) -> {
+                    try {
+                        ReportedTest next = parser.next();
+                        if (next != null) {
+                            sink.next(next);
+                        } else {
+                            sink.complete();
+                        }
+                    } catch (XMLStreamException e) {
+                        sink.error(new IllegalArgumentException("Malformed test report: " + e.getMessage(), e));
+                    }
+                    return parser;
+                },
+                Parser::close);
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    private static void closeQuietly(InputStream input) {
+        try {
+            input.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Pull parser over one report; {@link #next()} advances to the next test element.
+     */
+    private static final class Parser {
+
+        private final XMLStreamReader reader;
+        private Boolean testNg;
+        private String currentClass;
+
+        Parser(XMLStreamReader reader) {
+            this.reader = reader;
+        }
+
+        ReportedTest next() throws XMLStreamException {
+            while (reader.hasNext()) {
+                if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                    continue;
+                }
+                String element = reader.getLocalName();
+                if (testNg == null) {
+                    testNg = "testng-results".equals(element);
+                }
+                if (testNg) {
+                    if ("class".equals(element)) {
+                        currentClass = reader.getAttributeValue(null, "name");
+                    } else if ("test-method".equals(element)
+                            && !"true".equals(reader.getAttributeValue(null, "is-config"))) {
+                        return readTestNgMethod();
+                    }
+                } else if ("testcase".equals(element)) {
+                    return readJUnitTestCase();
+                }
+            }
+            return null;
+        }
+
+        private ReportedTest readJUnitTestCase() throws XMLStreamException {
+            String className = reader.getAttributeValue(null, "classname");
+            String name = reader.getAttributeValue(null, "name");
+            double duration = parseDouble(reader.getAttributeValue(null, "time"), 1.0);
+            Outcome outcome = Outcome.PASSED;
+            String message = null;
+
+            int depth = 1;
+            while (depth > 0) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String child = reader.getLocalName();
+                    if (depth == 1 && ("failure".equals(child) || "error".equals(child))) {
+                        outcome = Outcome.FAILED;
+                        message = describe(reader.getAttributeValue(null, "message"), readText());
+                        continue;
+                    }
+                    if (depth == 1 && "skipped".equals(child)) {
+                        outcome = Outcome.SKIPPED;
+                        message = reader.getAttributeValue(null, "message");
+                    }
+                    depth++;
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    depth--;
+                }
+            }
+            return new ReportedTest(className, name, outcome, duration, message);
+        }
+
+        private ReportedTest readTestNgMethod() throws XMLStreamException {
+            String name = reader.getAttributeValue(null, "name");
+            String status = reader.getAttributeValue(null, "status");
+            double duration = parseDouble(reader.getAttributeValue(null, "duration-ms"), 1000.0);
+            Outcome outcome = "PASS".equals(status) ? Outcome.PASSED
+                    : "SKIP".equals(status) ? Outcome.SKIPPED
+                    : Outcome.FAILED;
+            String message = null;
+
+            int depth = 1;
+            while (depth > 0) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    if ("message".equals(reader.getLocalName())) {
+                        message = readText();
+                        continue;
+                    }
+                    depth++;
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    depth--;
+                }
+            }
+            return new ReportedTest(currentClass, name, outcome, duration, message);
+        }
+
+        /**
+         * Reads the text of the current element up to its end tag, keeping at most
+         * {@link #MAX_MESSAGE_LENGTH} characters and skipping any nested elements.
+         */
+        private String readText() throws XMLStreamException {
+            StringBuilder text = new StringBuilder();
+            int depth = 1;
+            while (depth > 0) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    depth++;
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    depth--;
+                } else if (depth == 1 && text.length() < MAX_MESSAGE_LENGTH
+                        && (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA)) {
+                    text.append(reader.getTextCharacters(), reader.getTextStart(),
+                            Math.min(reader.getTextLength(), MAX_MESSAGE_LENGTH - text.length()));
+                }
+            }
+            String trimmed = text.toString().trim();
+            return trimmed.isEmpty() ? null : trimmed;
+        }
+
+        private static String describe(String message, String detail) {
+            if (message == null || message.isBlank()) {
+                return detail;
+            }
+            if (detail == null || detail.startsWith(message)) {
+                return detail != null ? detail : message;
+            }
+            String combined = message + "\n" + detail;
+            return combined.length() > MAX_MESSAGE_LENGTH ? combined.substring(0, MAX_MESSAGE_LENGTH) : combined;
+        }
+
+        private static double parseDouble(String value, double unitsPerSecond) {
+            if (value == null || value.isBlank()) {
+                return 0;
+            }
+            try {
+                return Double.parseDouble(value.replace(",", "")) / unitsPerSecond;
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+
+        void close() {
+            try {
+                reader.close();
+            } catch (XMLStreamException ignored) {
+                // The underlying stream is closed by the caller.
+            }
+        }
+    }
+}
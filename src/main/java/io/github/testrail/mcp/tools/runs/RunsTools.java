@@ -8,6 +8,7 @@ import io.github.testrail.mcp.model.TestRun;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
 import java.util.HashMap;
 import java.util.List;
@@ -52,12 +53,12 @@ public class RunsTools {
             },
             keywords = {"get", "retrieve", "fetch", "show", "view", "run", "status", "progress", "statistics"}
     )
-    public TestRun getRun(
+    public Mono<TestRun> getRun(
             @InternalToolParam(description = "The unique identifier of the test run.")
             Integer runId
     ) {
         log.info("Tool: get_run called with runId={}", runId);
-        return apiClient.getRun(runId);
+        return apiClient.getRunAsync(runId);
     }
 
     @InternalTool(
@@ -3,6 +3,7 @@ package io.github.testrail.mcp.tools.sections;
 import io.github.testrail.mcp.annotation.InternalTool;
 import io.github.testrail.mcp.annotation.InternalToolParam;
 import io.github.testrail.mcp.client.TestrailApiClient;
+import io.github.testrail.mcp.model.CloneSectionTreeResult;
 import io.github.testrail.mcp.model.OperationResult;
 import io.github.testrail.mcp.model.Section;
 import org.slf4j.Logger;
@@ -265,4 +266,48 @@ public class SectionsTools {
 
         return apiClient.moveSection(sectionId, data);
     }
+
+    @InternalTool(
+            name = "clone_section_tree",
+            description = """
+                    Deep-clones a section together with all of its sub-sections and test cases (including steps).
+                    The hierarchy is recreated top-down with parent IDs remapped to the new sections, and cases
+                    are copied level by level in parallel batches. Returns the new root section ID, the number of
+                    sections and cases cloned, timing per stage, and any sections or batches that failed.
+                    
+                    **When to use:** Use this tool when you need to duplicate a whole folder structure, e.g. to
+                    fork a regression area into a new release suite or copy a template tree into another suite.
+                    Prefer this over looping clone_case or add_section, which takes one request per item.
+                    
+                    **Might lead to:** get_sections (to inspect the new tree), get_test_cases (to list cloned cases),
+                    move_section (to reposition the clone).
+                    
+                    **Example prompts:**
+                    - "Clone section 10 with everything under it"
+                    - "Copy the Checkout folder tree into suite 7 under section 40"
+                    - "Duplicate section 25 as 'Release 3.2 Regression'"
+                    """,
+            category = "sections",
+            examples = {
+                    "execute_tool('clone_section_tree', {projectId: 1, sourceSectionId: 10})",
+                    "execute_tool('clone_section_tree', {projectId: 1, sourceSectionId: 25, targetSuiteId: 7, targetParentId: 40, newName: 'Release 3.2 Regression'})"
+            },
+            keywords = {"clone", "copy", "duplicate", "tree", "hierarchy", "deep", "section", "folder", "cases", "bulk"}
+    )
+    public CloneSectionTreeResult cloneSectionTree(
+            @InternalToolParam(description = "The ID of the project containing the section.")
+            Integer projectId,
+            @InternalToolParam(description = "The ID of the section to clone, with everything beneath it.")
+            Integer sourceSectionId,
+            @InternalToolParam(description = "The suite to clone into. Defaults to the source section's suite.", required = false)
+            Integer targetSuiteId,
+            @InternalToolParam(description = "The section to place the clone under. Omit to create it at the top level.", required = false)
+            Integer targetParentId,
+            @InternalToolParam(description = "Name for the cloned root section. Defaults to the source section's name.", required = false)
+            String newName
+    ) {
+        log.info("Tool: clone_section_tree called with projectId={}, sourceSectionId={}, targetSuiteId={}, targetParentId={}",
+                projectId, sourceSectionId, targetSuiteId, targetParentId);
+        return apiClient.cloneSectionTree(projectId, sourceSectionId, targetSuiteId, targetParentId, newName);
+    }
 }
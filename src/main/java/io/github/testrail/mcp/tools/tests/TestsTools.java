@@ -7,8 +7,8 @@ import io.github.testrail.mcp.model.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
-
-import java.util.List;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * MCP Tools for TestRail test operations.
@@ -51,14 +51,14 @@ public class TestsTools {
             },
             keywords = {"get", "retrieve", "fetch", "show", "view", "test", "status", "details", "assigned"}
     )
-    public Test getTest(
+    public Mono<Test> getTest(
             @InternalToolParam(description = "The unique identifier of the test.")
             Integer testId,
             @InternalToolParam(description = "Optional parameter to get additional data", required = false)
             String withData
     ) {
         log.info("Tool: get_test called with testId={}", testId);
-        return apiClient.getTest(testId, withData);
+        return apiClient.getTestAsync(testId, withData);
     }
 
     @InternalTool(
@@ -94,7 +94,7 @@ public class TestsTools {
             },
             keywords = {"get", "list", "retrieve", "fetch", "show", "browse", "tests", "filter", "status", "failed", "passed"}
     )
-    public List<Test> getTests(
+    public Flux<Test> getTests(
             @InternalToolParam(description = "The ID of the test run to retrieve tests from.")
             Integer runId,
             @InternalToolParam(description = "Comma-separated list of status IDs to filter by (e.g., '1,4,5')", required = false)
@@ -107,6 +107,6 @@ public class TestsTools {
             Integer offset
     ) {
         log.info("Tool: get_tests called with runId={}, filters applied", runId);
-        return apiClient.getTests(runId, statusId, labelId, limit, offset);
+        return apiClient.getTestsAsync(runId, statusId, labelId, limit, offset);
     }
 }
@@ -0,0 +1,111 @@
+package io.github.testrail.mcp.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ParkedValueStore.
+ */
+class ParkedValueStoreTest {
+
+    private AtomicLong now;
+    private List<String> discarded;
+    private ParkedValueStore<String> store;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong();
+        discarded = new ArrayList<>();
+        store = new ParkedValueStore<>("test", 100, Duration.ofSeconds(10), discarded::add, now::get);
+    }
+
+    @Test
+    void take_shouldReturnParkedValueOnce() {
+        String id = store.park("a", 10);
+
+        assertThat(id).isNotNull();
+        assertThat(store.weight()).isEqualTo(10);
+        assertThat(store.take(id)).isEqualTo("a");
+        assertThat(store.take(id)).isNull();
+        assertThat(store.size()).isZero();
+        assertThat(store.weight()).isZero();
+        assertThat(discarded).isEmpty();
+    }
+
+    @Test
+    void park_shouldIssueDistinctIds() {
+        assertThat(store.park("a", 1)).isNotEqualTo(store.park("b", 1));
+    }
+
+    @Test
+    void take_shouldDiscardExpiredValues() {
+        String expired = store.park("a", 10);
+        now.addAndGet(Duration.ofSeconds(5).toNanos());
+        String live = store.park("b", 10);
+        now.addAndGet(Duration.ofSeconds(5).toNanos());
+
+        assertThat(store.take(expired)).isNull();
+        assertThat(discarded).containsExactly("a");
+        assertThat(store.take(live)).isEqualTo("b");
+    }
+
+    @Test
+    void park_shouldEvictOldestValuesToStayWithinBudget() {
+        String first = store.park("a", 40);
+        String second = store.park("b", 40);
+        String third = store.park("c", 50);
+
+        assertThat(discarded).containsExactly("a");
+        assertThat(store.weight()).isEqualTo(90);
+        assertThat(store.take(first)).isNull();
+        assertThat(store.take(second)).isEqualTo("b");
+        assertThat(store.take(third)).isEqualTo("c");
+    }
+
+    @Test
+    void park_shouldRejectValuesHeavierThanTheBudget() {
+        String kept = store.park("a", 60);
+
+        assertThat(store.park("huge", 101)).isNull();
+        assertThat(discarded).isEmpty();
+        assertThat(store.take(kept)).isEqualTo("a");
+    }
+
+    @Test
+    void park_shouldDoNothingWhenDisabled() {
+        ParkedValueStore<String> disabled = new ParkedValueStore<>("off", 0, Duration.ofSeconds(10), discarded::add);
+
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(disabled.park("a", 1)).isNull();
+        assertThat(new ParkedValueStore<String>("off", 10, null, discarded::add).isEnabled()).isFalse();
+    }
+
+    @Test
+    void take_shouldIgnoreNullAndUnknownIds() {
+        store.park("a", 1);
+
+        assertThat(store.take(null)).isNull();
+        assertThat(store.take("unknown")).isNull();
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    void clear_shouldDiscardEverything() {
+        store.park("a", 1);
+        store.park("b", 2);
+
+        store.clear();
+
+        assertThat(discarded).containsExactlyInAnyOrder("a", "b");
+        assertThat(store.size()).isZero();
+        assertThat(store.weight()).isZero();
+        assertThat(store.toString()).isEqualTo("test{size=0, weight=0}");
+    }
+}
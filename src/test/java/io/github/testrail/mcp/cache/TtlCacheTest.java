@@ -0,0 +1,127 @@
+package io.github.testrail.mcp.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for TtlCache.
+ */
+class TtlCacheTest {
+
+    private AtomicLong now;
+    private TtlCache<String, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong();
+        cache = new TtlCache<>("test", 2, Duration.ofSeconds(10), now::get);
+    }
+
+    @Test
+    void get_shouldLoadOnceAndServeHitsUntilExpiry() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.get("a", () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+        assertThat(cache.get("a", () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertThat(cache.get("a", () -> "v" + loads.incrementAndGet())).isEqualTo("v2");
+        assertThat(cache.stats().getHitCount()).isEqualTo(1);
+        assertThat(cache.stats().getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    void put_shouldEvictLeastRecentlyUsedEntryBeyondMaxEntries() {
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.getIfPresent("a");
+        cache.put("c", "3");
+
+        assertThat(cache.getIfPresent("a")).isEqualTo("1");
+        assertThat(cache.getIfPresent("b")).isNull();
+        assertThat(cache.getIfPresent("c")).isEqualTo("3");
+        assertThat(cache.stats().getEvictionCount()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void invalidate_shouldRemoveMatchingEntries() {
+        cache.put("get_configs/1", "x");
+        cache.put("get_statuses", "y");
+
+        cache.invalidateIf(key -> key.startsWith("get_configs/"));
+        assertThat(cache.getIfPresent("get_configs/1")).isNull();
+        assertThat(cache.getIfPresent("get_statuses")).isEqualTo("y");
+
+        cache.invalidate("get_statuses");
+        assertThat(cache.size()).isZero();
+
+        cache.put("z", "1");
+        cache.invalidateAll();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void get_shouldNotStoreValueLoadedAcrossAnInvalidation() {
+        String value = cache.get("a", () -> {
+            cache.invalidate("other");
+            return "stale";
+        });
+
+        assertThat(value).isEqualTo("stale");
+        assertThat(cache.getIfPresent("a")).isNull();
+    }
+
+    @Test
+    void putIfCurrent_shouldDropValuesLoadedBeforeAnInvalidation() {
+        long before = cache.currentGeneration();
+        cache.invalidate("a");
+
+        cache.putIfCurrent("a", "stale", before);
+        assertThat(cache.getIfPresent("a")).isNull();
+
+        cache.putIfCurrent("a", "fresh", cache.currentGeneration());
+        assertThat(cache.getIfPresent("a")).isEqualTo("fresh");
+    }
+
+    @Test
+    void get_shouldNotCacheNullValues() {
+        assertThat(cache.get("a", () -> null)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void disabledCache_shouldAlwaysLoad() {
+        TtlCache<String, String> disabled = new TtlCache<>("off", 10, Duration.ZERO);
+        AtomicInteger loads = new AtomicInteger();
+
+        disabled.get("a", () -> "v" + loads.incrementAndGet());
+        disabled.get("a", () -> "v" + loads.incrementAndGet());
+
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(disabled.size()).isZero();
+    }
+
+    @Test
+    void stats_shouldReportHitRate() {
+        assertThat(cache.stats().getHitRate()).isZero();
+
+        cache.put("a", "1");
+        cache.getIfPresent("a");
+        cache.getIfPresent("b");
+
+        TtlCache.Stats stats = cache.stats();
+        assertThat(stats.getName()).isEqualTo("test");
+        assertThat(stats.getHitRate()).isEqualTo(0.5);
+        assertThat(stats.getSize()).isEqualTo(1);
+        assertThat(stats.toString()).contains("hits=1", "misses=1");
+    }
+}
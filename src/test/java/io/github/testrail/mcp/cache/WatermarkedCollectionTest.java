@@ -0,0 +1,136 @@
+package io.github.testrail.mcp.cache;
+
+import io.github.testrail.mcp.model.TestCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for WatermarkedCollection.
+ */
+class WatermarkedCollectionTest {
+
+    private WatermarkedCollection<TestCase> collection;
+    private List<Long> requestedSince;
+
+    @BeforeEach
+    void setUp() {
+        collection = new WatermarkedCollection<>(TestCase::getId, TestCase::getUpdatedOn);
+        requestedSince = new ArrayList<>();
+    }
+
+    private static TestCase testCase(int id, String title, Long updatedOn) {
+        TestCase testCase = new TestCase();
+        testCase.setId(id);
+        testCase.setTitle(title);
+        testCase.setUpdatedOn(updatedOn);
+        return testCase;
+    }
+
+    @Test
+    void refresh_shouldDownloadEverythingFirstThenOnlyDeltas() {
+        List<TestCase> first = collection.refresh(since -> {
+            requestedSince.add(since);
+            return List.of(testCase(1, "A", 100L), testCase(2, "B", 200L));
+        });
+        List<TestCase> second = collection.refresh(since -> {
+            requestedSince.add(since);
+            return List.of(testCase(2, "B2", 300L), testCase(3, "C", 250L));
+        });
+
+        assertThat(requestedSince).containsExactly(null, 199L);
+        assertThat(first).extracting(TestCase::getTitle).containsExactly("A", "B");
+        assertThat(second).extracting(TestCase::getTitle).containsExactly("A", "B2", "C");
+        assertThat(collection.getWatermark()).isEqualTo(300L);
+    }
+
+    @Test
+    void refresh_shouldFallBackToZeroWhenNoTimestampsWereSeen() {
+        collection.refresh(since -> List.of());
+        collection.refresh(since -> {
+            requestedSince.add(since);
+            return List.of(testCase(1, "A", null));
+        });
+
+        assertThat(requestedSince).containsExactly(0L);
+        assertThat(collection.getWatermark()).isNull();
+        assertThat(collection.size()).isEqualTo(1);
+    }
+
+    @Test
+    void remove_shouldDropRowsDeletedLocally() {
+        collection.refresh(since -> List.of(testCase(1, "A", 100L), testCase(2, "B", 100L)));
+
+        collection.remove(1);
+
+        assertThat(collection.refresh(since -> List.of())).extracting(TestCase::getId).containsExactly(2);
+    }
+
+    @Test
+    void refresh_shouldSkipRowsWithoutId() {
+        TestCase noId = new TestCase();
+
+        assertThat(collection.refresh(since -> List.of(noId))).isEmpty();
+    }
+
+    @Test
+    void refresh_shouldShareAnInFlightRefreshWithConcurrentCallers() throws Exception {
+        CountDownLatch fetching = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger fetches = new AtomicInteger();
+
+        CompletableFuture<List<TestCase>> first = CompletableFuture.supplyAsync(() -> collection.refresh(since -> {
+            fetches.incrementAndGet();
+            fetching.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of(testCase(1, "A", 100L));
+        }));
+        assertThat(fetching.await(5, TimeUnit.SECONDS)).isTrue();
+
+        AtomicReference<List<TestCase>> second = new AtomicReference<>();
+        Thread waiter = new Thread(() -> second.set(collection.refresh(since -> {
+            fetches.incrementAndGet();
+            return List.of();
+        })));
+        waiter.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (waiter.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+        waiter.join(5_000);
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).extracting(TestCase::getTitle).containsExactly("A");
+        assertThat(second.get()).extracting(TestCase::getTitle).containsExactly("A");
+        assertThat(fetches).hasValue(1);
+    }
+
+    @Test
+    void refresh_shouldPropagateFetchFailuresAndAllowRetry() {
+        RuntimeException failure = new IllegalStateException("down");
+
+        assertThatThrownBy(() -> collection.refresh(since -> {
+            throw failure;
+        })).isSameAs(failure);
+
+        assertThat(collection.refresh(since -> {
+            requestedSince.add(since);
+            return List.of(testCase(1, "A", 100L));
+        })).hasSize(1);
+        assertThat(requestedSince).containsExactly((Long) null);
+    }
+}
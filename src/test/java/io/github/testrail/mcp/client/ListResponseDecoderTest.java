@@ -0,0 +1,153 @@
+package io.github.testrail.mcp.client;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.github.testrail.mcp.model.PaginatedResponse;
+import io.github.testrail.mcp.model.TestCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for ListResponseDecoder.
+ */
+class ListResponseDecoderTest {
+
+    private ListResponseDecoder decoder;
+    private ObjectReader caseReader;
+    private PaginatedResponse<TestCase> page;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        decoder = new ListResponseDecoder(objectMapper.getFactory());
+        caseReader = objectMapper.readerFor(TestCase.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        page = new PaginatedResponse<>();
+    }
+
+    /**
+     * Splits {@code json} into buffers of {@code chunkSize} bytes, as a network read would.
+     */
+    private static Flux<DataBuffer> body(String json, int chunkSize) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int start = 0; start < bytes.length; start += chunkSize) {
+            buffers.add(DefaultDataBufferFactory.sharedInstance.wrap(
+                    Arrays.copyOfRange(bytes, start, Math.min(bytes.length, start + chunkSize))));
+        }
+        return Flux.fromIterable(buffers);
+    }
+
+    private static Flux<DataBuffer> body(String json) {
+        return body(json, Math.max(1, json.length()));
+    }
+
+    private List<TestCase> decode(Flux<DataBuffer> body, String fieldName) {
+        return decoder.decode(body, fieldName, caseReader, page).collectList().block();
+    }
+
+    @Test
+    void decode_shouldReadBareArray() {
+        List<TestCase> items = decode(body("[{\"id\":1,\"title\":\"A\"},{\"id\":2,\"title\":\"B\"}]"), "cases");
+
+        assertThat(items).extracting(TestCase::getId).containsExactly(1, 2);
+        assertThat(page.hasMore()).isFalse();
+    }
+
+    @Test
+    void decode_shouldReadEnvelopeWithPaginationMetadata() {
+        String json = """
+                {"offset":250,"limit":250,"size":2,
+                 "_links":{"next":"/api/v2/get_cases/1&limit=250&offset=500","prev":"/api/v2/get_cases/1&limit=250&offset=0"},
+                 "cases":[{"id":7,"title":"A"},{"id":8,"title":"B"}]}
+                """;
+
+        List<TestCase> items = decode(body(json), "cases");
+
+        assertThat(items).extracting(TestCase::getTitle).containsExactly("A", "B");
+        assertThat(page.getOffset()).isEqualTo(250);
+        assertThat(page.getLimit()).isEqualTo(250);
+        assertThat(page.getSize()).isEqualTo(2);
+        assertThat(page.getLinks().getNext()).isEqualTo("/api/v2/get_cases/1&limit=250&offset=500");
+        assertThat(page.hasMore()).isTrue();
+    }
+
+    @Test
+    void decode_shouldReadElementsSplitAcrossBuffers() {
+        String json = """
+                {"cases":[{"id":3,"title":"Ä long title","custom_steps_separated":[{"content":"x"}]},
+                          {"id":4,"title":"B"}],
+                 "_links":{"next":null},"size":2}
+                """;
+
+        List<TestCase> items = decode(body(json, 3), "cases");
+
+        assertThat(items).extracting(TestCase::getTitle).containsExactly("Ä long title", "B");
+        assertThat(page.getSize()).isEqualTo(2);
+        assertThat(page.hasMore()).isFalse();
+    }
+
+    @Test
+    void decode_shouldEmitEachElementBeforeTheRestOfThePageArrives() {
+        List<Integer> seen = new ArrayList<>();
+        Flux<DataBuffer> body = Flux.concat(
+                body("{\"cases\":[{\"id\":5},"),
+                Flux.defer(() -> {
+                    seen.add(-1);
+                    return body("{\"id\":6}]}");
+                }));
+
+        decoder.decode(body, "cases", caseReader, page).doOnNext(testCase -> seen.add(testCase.getId())).blockLast();
+
+        assertThat(seen).containsExactly(5, -1, 6);
+    }
+
+    @Test
+    void decode_shouldTreatEmptyNextLinkAsLastPage() {
+        List<TestCase> items = decode(body("{\"_links\":{\"next\":\"\",\"prev\":null},\"cases\":[]}"), "cases");
+
+        assertThat(items).isEmpty();
+        assertThat(page.hasMore()).isFalse();
+    }
+
+    @Test
+    void decode_shouldSkipUnrelatedEnvelopeFields() {
+        String json = """
+                {"meta":{"nested":[1,2,{"deep":true}]},"other":[{"id":99}],
+                 "cases":[{"id":3,"custom_steps_separated":[{"content":"x"}],"unknown":{"a":1}}]}
+                """;
+
+        List<TestCase> items = decode(body(json), "cases");
+
+        assertThat(items).extracting(TestCase::getId).containsExactly(3);
+    }
+
+    @Test
+    void decode_shouldIgnoreEnvelopeWhenFieldNameIsNull() {
+        assertThat(decode(body("{\"cases\":[{\"id\":1}]}"), null)).isEmpty();
+    }
+
+    @Test
+    void decode_shouldReturnNoElementsForEmptyBody() {
+        assertThat(decode(Flux.empty(), "cases")).isEmpty();
+    }
+
+    @Test
+    void decode_shouldFailOnTruncatedBody() {
+        assertThatThrownBy(() -> decode(body("{\"cases\":[{\"id\":1},{\"id\":"), "cases"))
+                .isInstanceOf(TestrailApiException.class)
+                .hasMessageContaining("Failed to parse TestRail list response");
+    }
+}
@@ -1,6 +1,12 @@
 package io.github.testrail.mcp.client;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.testrail.mcp.config.TestrailProperties;
+import io.github.testrail.mcp.model.BulkItemResult;
+import io.github.testrail.mcp.model.BulkResult;
+import io.github.testrail.mcp.model.ChunkReport;
+import io.github.testrail.mcp.model.ChunkedSubmitResult;
+import io.github.testrail.mcp.model.CloneSectionTreeResult;
 import io.github.testrail.mcp.model.OperationResult;
 import io.github.testrail.mcp.model.Project;
 import io.github.testrail.mcp.model.TestCase;
@@ -20,6 +26,7 @@ import io.github.testrail.mcp.model.Label;
 import io.github.testrail.mcp.model.Variable;
 import com.fasterxml.jackson.databind.JsonNode;
 // Note: Test class is NOT imported to avoid conflict with JUnit @Test annotation
+import okhttp3.mockwebserver.Dispatcher;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
@@ -29,8 +36,12 @@ import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -56,16 +67,18 @@ class TestrailApiClientTest {
 
     @BeforeEach
     void setUp() {
-        String baseUrl = String.format("http://localhost:%s/", mockWebServer.getPort());
+        objectMapper = new ObjectMapper();
+        apiClient = new TestrailApiClient(webClientFor(mockWebServer), objectMapper, new TestrailProperties());
+    }
 
-        WebClient webClient = WebClient.builder()
+    private static WebClient webClientFor(MockWebServer server) {
+        String baseUrl = String.format("http://localhost:%s/", server.getPort());
+
+        return WebClient.builder()
                 .baseUrl(baseUrl)
                 .defaultHeader(HttpHeaders.AUTHORIZATION, "Basic dGVzdDprZXk=")
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .build();
-
-        apiClient = new TestrailApiClient(webClient);
-        objectMapper = new ObjectMapper();
     }
 
     @AfterEach
@@ -2176,4 +2189,1040 @@ class TestrailApiClientTest {
         RecordedRequest request = mockWebServer.takeRequest();
         assertThat(request.getPath()).isEqualTo("/delete_variable/3");
     }
+
+    // ==================== Streaming Pagination Tests ====================
+
+    @Test
+    void streamCases_shouldFollowNextLinksAcrossPages() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"offset\":0,\"limit\":2,\"size\":2,"
+                        + "\"_links\":{\"next\":\"/api/v2/get_cases/1&suite_id=2&limit=2&offset=2\",\"prev\":null},"
+                        + "\"cases\":[{\"id\":1,\"title\":\"First\"},{\"id\":2,\"title\":\"Second\"}]}")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"offset\":2,\"limit\":2,\"size\":1,"
+                        + "\"_links\":{\"next\":null,\"prev\":\"/api/v2/get_cases/1&suite_id=2&limit=2&offset=0\"},"
+                        + "\"cases\":[{\"id\":3,\"title\":\"Third\"}]}")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+        List<TestCase> result;
+        try (java.util.stream.Stream<TestCase> stream = apiClient.streamCases(1, 2, null, null, null, null,
+                null, null, null, null, null, null, null)) {
+            result = stream.toList();
+        }
+
+        assertThat(result).extracting(TestCase::getId).containsExactly(1, 2, 3);
+        assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/get_cases/1?suite_id=2");
+        assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/get_cases/1?suite_id=2&limit=2&offset=2");
+    }
+
+    @Test
+    void streamTests_shouldHandleUnpaginatedArrayResponse() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("[{\"id\":10,\"case_id\":100},{\"id\":11,\"case_id\":101}]")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+        List<io.github.testrail.mcp.model.Test> result = apiClient.streamTests(5, "5", null).toList();
+
+        assertThat(result).hasSize(2);
+        assertThat(result.get(1).getCaseId()).isEqualTo(101);
+        assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/get_tests/5?status_id=5");
+    }
+
+    @Test
+    void streamResultsForRun_shouldPropagateApiErrors() {
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(403)
+                .setBody("{\"error\": \"No access\"}")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+        assertThatThrownBy(() -> apiClient.streamResultsForRun(7, null, null, null, null, null).toList())
+                .isInstanceOf(TestrailApiException.class)
+                .satisfies(e -> assertThat(((TestrailApiException) e).getStatusCode()).isEqualTo(403));
+    }
+
+    @Test
+    void streamSections_shouldReadPaginationMetadata() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"offset\":0,\"limit\":250,\"size\":1,\"_links\":{\"next\":null},"
+                        + "\"sections\":[{\"id\":4,\"name\":\"Root\"}]}")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+        List<Section> result = apiClient.streamSections(1, 3).toList();
+
+        assertThat(result).extracting(Section::getName).containsExactly("Root");
+        assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/get_sections/1?suite_id=3");
+    }
+
+    @Test
+    void nextPageUri_shouldStripApiPrefixAndNormaliseQuery() {
+        assertThat(TestrailApiClient.nextPageUri("/api/v2/get_cases/1&limit=250&offset=250"))
+                .isEqualTo("get_cases/1?limit=250&offset=250");
+        assertThat(TestrailApiClient.nextPageUri("/index.php?/api/v2/get_runs/3&offset=250"))
+                .isEqualTo("get_runs/3?offset=250");
+        assertThat(TestrailApiClient.nextPageUri("get_tests/9?offset=250&limit=250"))
+                .isEqualTo("get_tests/9?offset=250&limit=250");
+    }
+
+    // ==================== Parallel Bulk Fetch Tests ====================
+
+    /**
+     * Serves {@code total} cases in pages of {@code pageSize}, honouring the offset query parameter.
+     */
+    private static Dispatcher pagedCasesDispatcher(int total, int pageSize) {
+        return new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String path = request.getPath();
+                int offset = path.contains("offset=")
+                        ? Integer.parseInt(path.replaceAll(".*offset=(\\d+).*", "$1"))
+                        : 0;
+                StringBuilder cases = new StringBuilder();
+                for (int id = offset + 1; id <= Math.min(offset + pageSize, total); id++) {
+                    if (cases.length() > 0) cases.append(',');
+                    cases.append("{\"id\":").append(id).append('}');
+                }
+                String next = offset + pageSize < total
+                        ? "\"/api/v2/get_cases/1&limit=" + pageSize + "&offset=" + (offset + pageSize) + "\""
+                        : "null";
+                return new MockResponse()
+                        .setBody("{\"offset\":" + offset + ",\"limit\":" + pageSize
+                                + ",\"_links\":{\"next\":" + next + "},\"cases\":[" + cases + "]}")
+                        .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+            }
+        };
+    }
+
+    @Test
+    void getAllCases_shouldFetchOffsetWindowsConcurrentlyAndKeepOrder() throws Exception {
+        try (MockWebServer pagedServer = new MockWebServer()) {
+            pagedServer.setDispatcher(pagedCasesDispatcher(7, 2));
+            pagedServer.start();
+
+            TestrailProperties properties = new TestrailProperties();
+            properties.getPagination().setPageSize(2);
+            properties.getPagination().setMaxConcurrentPages(3);
+            TestrailApiClient client = new TestrailApiClient(webClientFor(pagedServer), objectMapper, properties);
+
+            List<TestCase> result = client.getAllCases(1, null, null, null, null, null, null,
+                    null, null, null, null, null, null);
+
+            assertThat(result).extracting(TestCase::getId).containsExactly(1, 2, 3, 4, 5, 6, 7);
+            assertThat(pagedServer.takeRequest().getPath()).isEqualTo("/get_cases/1?limit=2&offset=0");
+            assertThat(pagedServer.getRequestCount()).isGreaterThanOrEqualTo(4);
+        }
+    }
+
+    @Test
+    void getAllCases_shouldFollowServerPageLimitRatherThanConfiguredPageSize() throws Exception {
+        try (MockWebServer pagedServer = new MockWebServer()) {
+            pagedServer.setDispatcher(pagedCasesDispatcher(7, 2));
+            pagedServer.start();
+
+            TestrailProperties properties = new TestrailProperties();
+            properties.getPagination().setPageSize(5);
+            TestrailApiClient client = new TestrailApiClient(webClientFor(pagedServer), objectMapper, properties);
+
+            List<TestCase> result = client.getAllCases(1, null, null, null, null, null, null,
+                    null, null, null, null, null, null);
+
+            assertThat(result).extracting(TestCase::getId).containsExactly(1, 2, 3, 4, 5, 6, 7);
+        }
+    }
+
+    @Test
+    void getAllTests_shouldStopAfterSinglePage() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"offset\":0,\"limit\":250,\"_links\":{\"next\":null},"
+                        + "\"tests\":[{\"id\":1,\"case_id\":10}]}")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+        List<io.github.testrail.mcp.model.Test> result = apiClient.getAllTests(3, null, null);
+
+        assertThat(result).hasSize(1);
+        assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/get_tests/3?limit=250&offset=0");
+    }
+
+    @Test
+    void getAllResultsForRun_shouldPropagateApiErrors() {
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(500)
+                .setBody("{\"error\": \"boom\"}")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+        assertThatThrownBy(() -> apiClient.getAllResultsForRun(9, null, null, null, null, "5"))
+                .isInstanceOf(TestrailApiException.class)
+                .hasMessageContaining("TestRail API error");
+    }
+
+    // ==================== List Decoding Tests ====================
+
+    @Test
+    void getLabels_shouldIgnoreUnknownFieldsInListResponses() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"labels\":[{\"id\":1,\"title\":\"smoke\",\"color\":\"#ff0000\"}]}")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"labels\":[{\"id\":2,\"title\":\"regression\",\"color\":\"#00ff00\"}]}")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+        List<Label> first = apiClient.getLabels(1, null, null);
+        List<Label> second = apiClient.getLabels(1, null, null);
+
+        assertThat(first).extracting(Label::getTitle).containsExactly("smoke");
+        assertThat(second).extracting(Label::getTitle).containsExactly("regression");
+    }
+
+    @Test
+    void getAllTests_shouldFailInsteadOfTruncatingOnUnparsableElements() {
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"offset\":0,\"limit\":250,\"_links\":{\"next\":null},"
+                        + "\"tests\":[{\"id\":1},{\"id\":\"not-a-number\"}]}")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+        assertThatThrownBy(() -> apiClient.getAllTests(3, null, null))
+                .isInstanceOf(TestrailApiException.class)
+                .hasMessageContaining("Failed to parse TestRail list response");
+    }
+
+    // ==================== Reactive API Tests ====================
+
+    @Test
+    void getRunAsync_shouldNotSendUntilSubscribed() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"id\":7,\"name\":\"Nightly\"}")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+        reactor.core.publisher.Mono<TestRun> run = apiClient.getRunAsync(7);
+
+        assertThat(mockWebServer.getRequestCount()).isZero();
+        assertThat(run.block().getName()).isEqualTo("Nightly");
+        assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/get_run/7");
+    }
+
+    @Test
+    void getTestsAsync_shouldEmitOnePageWithoutFollowingNext() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"offset\":0,\"limit\":2,\"_links\":{\"next\":\"/api/v2/get_tests/3&limit=2&offset=2\"},"
+                        + "\"tests\":[{\"id\":1},{\"id\":2}]}")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+        List<io.github.testrail.mcp.model.Test> result = apiClient.getTestsAsync(3, "5", null, 2, 0)
+                .collectList().block();
+
+        assertThat(result).extracting(io.github.testrail.mcp.model.Test::getId).containsExactly(1, 2);
+        assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/get_tests/3?status_id=5&limit=2&offset=0");
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getResultsForRunAsync_shouldPropagateApiErrors() {
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(400)
+                .setBody("{\"error\": \"Field :run_id is not a valid test run.\"}")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+        assertThatThrownBy(() -> apiClient.getResultsForRunAsync(9, null, null, null, null, null, null, null)
+                .collectList().block())
+                .isInstanceOf(TestrailApiException.class)
+                .hasMessageContaining("TestRail API error");
+    }
+
+    // ==================== Metadata Cache Tests ====================
+
+    @Test
+    void getStatuses_shouldServeRepeatedLookupsFromCache() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("[{\"id\":1,\"name\":\"passed\"}]")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+        Object[] first = apiClient.getStatuses();
+        Object[] second = apiClient.getStatuses();
+
+        assertThat(second).hasSize(1).isEqualTo(first);
+        assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/get_statuses");
+        assertThat(mockWebServer.takeRequest(50, TimeUnit.MILLISECONDS)).isNull();
+        assertThat(apiClient.getMetadataCacheStats().getHitCount()).isEqualTo(1);
+        assertThat(apiClient.getMetadataCacheStats().getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void addCaseField_shouldInvalidateCachedCaseFields() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("[{\"id\":1,\"system_name\":\"custom_a\"}]")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"id\":2,\"system_name\":\"custom_b\"}")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("[{\"id\":1,\"system_name\":\"custom_a\"},{\"id\":2,\"system_name\":\"custom_b\"}]")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+        assertThat(apiClient.getCaseFields()).hasSize(1);
+        apiClient.addCaseField(Map.of("name", "b"));
+
+        assertThat(apiClient.getCaseFields()).hasSize(2);
+    }
+
+    @Test
+    void configMutators_shouldInvalidateCachedConfigs() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("[]")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(200));
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("[{\"id\":7,\"name\":\"Browsers\"}]")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+        assertThat(apiClient.getConfigs(1)).isEmpty();
+        apiClient.deleteConfig(3);
+
+        assertThat(apiClient.getConfigs(1)).hasSize(1);
+    }
+
+    @Test
+    void getRoles_shouldNotCacheFailedLookups() {
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(500)
+                .setBody("{\"error\": \"boom\"}")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"roles\":[{\"id\":1,\"name\":\"Lead\"}]}")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+        assertThatThrownBy(() -> apiClient.getRoles()).isInstanceOf(TestrailApiException.class);
+        assertThat(apiClient.getRoles()).extracting(Role::getName).containsExactly("Lead");
+    }
+
+    @Test
+    void invalidateMetadataCache_shouldForceRefetch() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("[{\"id\":1,\"name\":\"High\"}]")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("[{\"id\":1,\"name\":\"High\"},{\"id\":2,\"name\":\"Low\"}]")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+        apiClient.getPriorities();
+        apiClient.invalidateMetadataCache();
+
+        assertThat(apiClient.getPriorities()).hasSize(2);
+    }
+
+    // ==================== Entity Cache Tests ====================
+
+    @Test
+    void getCase_shouldServeRepeatedLookupsFromEntityCache() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"id\":5,\"title\":\"Cached\"}")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+        TestCase first = apiClient.getCase(5);
+        TestCase second = apiClient.getCase(5);
+        TestCase third = apiClient.getCase(5);
+
+        assertThat(second).isSameAs(first);
+        assertThat(third).isSameAs(first);
+        assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/get_case/5");
+        assertThat(mockWebServer.takeRequest(50, TimeUnit.MILLISECONDS)).isNull();
+        assertThat(apiClient.getEntityCacheStats().getHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void updateCase_shouldWriteThroughToEntityCache() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"id\":5,\"title\":\"Before\"}")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"id\":5,\"title\":\"After\"}")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+        apiClient.getCase(5);
+        apiClient.updateCase(5, Map.of("title", "After"));
+
+        assertThat(apiClient.getCase(5).getTitle()).isEqualTo("After");
+        mockWebServer.takeRequest();
+        mockWebServer.takeRequest();
+        assertThat(mockWebServer.takeRequest(50, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void deleteSection_shouldEvictCachedSectionsAndCases() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"id\":10,\"name\":\"Login\"}")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"id\":5,\"section_id\":10}")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(200));
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(400)
+                .setBody("{\"error\": \"Field :case_id is not a valid test case.\"}")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+        apiClient.getSection(10);
+        apiClient.getCase(5);
+        apiClient.deleteSection(10, false);
+
+        assertThatThrownBy(() -> apiClient.getCase(5)).isInstanceOf(TestrailApiException.class);
+        assertThat(apiClient.getEntityCacheStats().getSize()).isZero();
+    }
+
+    @Test
+    void moveSection_andDeleteSuite_shouldKeepEntityCacheCoherent() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"id\":3,\"name\":\"Moved\",\"parent_id\":9}")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"id\":2,\"name\":\"Suite\"}")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(200));
+
+        apiClient.moveSection(3, Map.of("parent_id", 9));
+        assertThat(apiClient.getSection(3).getParentId()).isEqualTo(9);
+
+        apiClient.getSuite(2);
+        apiClient.deleteSuite(2, null);
+
+        assertThat(apiClient.getEntityCacheStats().getSize()).isZero();
+    }
+
+    @Test
+    void deleteProject_shouldClearEntityCache() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"id\":1,\"name\":\"P\"}")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(200));
+
+        apiClient.getProject(1);
+        apiClient.deleteProject(1);
+
+        assertThat(apiClient.getEntityCacheStats().getSize()).isZero();
+        apiClient.invalidateEntityCache();
+    }
+
+    // ==================== Incremental Sync Tests ====================
+
+    @Test
+    void syncCases_shouldFetchOnlyCasesUpdatedAfterWatermark() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"_links\":{\"next\":null},\"cases\":["
+                        + "{\"id\":1,\"title\":\"A\",\"updated_on\":100},"
+                        + "{\"id\":2,\"title\":\"B\",\"updated_on\":200}]}")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"_links\":{\"next\":null},\"cases\":["
+                        + "{\"id\":2,\"title\":\"B2\",\"updated_on\":260}]}")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+        apiClient.syncCases(1, 4);
+        List<TestCase> result = apiClient.syncCases(1, 4);
+
+        assertThat(result).extracting(TestCase::getTitle).containsExactly("A", "B2");
+        assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/get_cases/1?suite_id=4&limit=250&offset=0");
+        assertThat(mockWebServer.takeRequest().getPath())
+                .isEqualTo("/get_cases/1?suite_id=4&limit=250&offset=0&updated_after=199");
+    }
+
+    @Test
+    void getCases_shouldServeUnfilteredPagesFromSyncedCopy() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"_links\":{\"next\":null},\"cases\":["
+                        + "{\"id\":1,\"updated_on\":100},{\"id\":2,\"updated_on\":100},"
+                        + "{\"id\":3,\"updated_on\":150}]}")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"_links\":{\"next\":null},\"cases\":[]}")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+        List<TestCase> first = apiClient.getCases(1, 4, null, 2, 0, null, null, null, null, null, null, null, null, null, null);
+        List<TestCase> second = apiClient.getCases(1, 4, null, 2, 2, null, null, null, null, null, null, null, null, null, null);
+
+        assertThat(first).extracting(TestCase::getId).containsExactly(1, 2);
+        assertThat(second).extracting(TestCase::getId).containsExactly(3);
+        assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/get_cases/1?suite_id=4&limit=250&offset=0");
+        assertThat(mockWebServer.takeRequest().getPath())
+                .isEqualTo("/get_cases/1?suite_id=4&limit=250&offset=0&updated_after=149");
+    }
+
+    @Test
+    void getCases_shouldPageDirectlyWhenCollectionExceedsRowBudget() throws Exception {
+        TestrailProperties properties = new TestrailProperties();
+        properties.getCache().setCollectionMaxRows(1);
+        TestrailApiClient client = new TestrailApiClient(webClientFor(mockWebServer), objectMapper, properties);
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("[{\"id\":1,\"updated_on\":100},{\"id\":2,\"updated_on\":100}]")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("[{\"id\":2,\"updated_on\":100}]")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+        client.getCases(1, null, null, 1, 0, null, null, null, null, null, null, null, null, null, null);
+        List<TestCase> second = client.getCases(1, null, null, 1, 1, null, null, null, null, null, null, null, null, null, null);
+
+        assertThat(second).extracting(TestCase::getId).containsExactly(2);
+        mockWebServer.takeRequest();
+        assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/get_cases/1?limit=1&offset=1");
+    }
+
+    @Test
+    void deleteCase_shouldRemoveCaseFromSyncedCollections() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("[{\"id\":1,\"updated_on\":100},{\"id\":2,\"updated_on\":100}]")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(200));
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("[]")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+        apiClient.syncCases(1, null);
+        apiClient.deleteCase(1);
+
+        assertThat(apiClient.syncCases(1, null)).extracting(TestCase::getId).containsExactly(2);
+    }
+
+    @Test
+    void syncCases_shouldKeepSyncedCollectionsWithinRowBudget() throws Exception {
+        TestrailProperties properties = new TestrailProperties();
+        properties.getCache().setCollectionMaxRows(3);
+        TestrailApiClient client = new TestrailApiClient(webClientFor(mockWebServer), objectMapper, properties);
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("[{\"id\":1,\"updated_on\":100},{\"id\":2,\"updated_on\":100}]")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("[{\"id\":3,\"updated_on\":100},{\"id\":4,\"updated_on\":100}]")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("[{\"id\":1,\"updated_on\":100}]")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+        client.syncCases(1, null);
+        client.syncCases(2, null);
+        List<TestCase> resynced = client.syncCases(1, null);
+
+        assertThat(resynced).extracting(TestCase::getId).containsExactly(1);
+        mockWebServer.takeRequest();
+        mockWebServer.takeRequest();
+        assertThat(mockWebServer.takeRequest().getPath()).doesNotContain("updated_after");
+    }
+
+    // ==================== Rate Limiting Tests ====================
+
+    private TestrailApiClient retryingClient() {
+        TestrailProperties properties = new TestrailProperties();
+        properties.getRateLimit().setMaxRetries(2);
+        properties.getRateLimit().setInitialBackoff(Duration.ofMillis(10));
+        properties.getRateLimit().setMaxBackoff(Duration.ofSeconds(2));
+        return new TestrailApiClient(webClientFor(mockWebServer), objectMapper, properties);
+    }
+
+    @Test
+    void get_shouldRetryAfterRateLimitAndHonourRetryAfter() throws Exception {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(429)
+                .addHeader(HttpHeaders.RETRY_AFTER, "1")
+                .setBody("{\"error\":\"API Rate Limit Exceeded\"}"));
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"id\":1,\"name\":\"Project\"}")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+        long start = System.nanoTime();
+        Project project = retryingClient().getProject(1);
+
+        assertThat(project.getName()).isEqualTo("Project");
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(900));
+        assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/get_project/1");
+        assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/get_project/1");
+    }
+
+    @Test
+    void get_shouldRetryTransientServerErrors() throws Exception {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("[{\"id\":1,\"name\":\"Passed\"}]")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+        assertThat(retryingClient().getStatuses()).hasSize(1);
+    }
+
+    @Test
+    void get_shouldGiveUpAfterMaxRetries() {
+        for (int i = 0; i < 3; i++) {
+            mockWebServer.enqueue(new MockResponse().setResponseCode(502));
+        }
+
+        assertThatThrownBy(() -> retryingClient().getProject(1))
+                .isInstanceOf(TestrailApiException.class)
+                .satisfies(e -> assertThat(((TestrailApiException) e).getStatusCode()).isEqualTo(502));
+    }
+
+    @Test
+    void post_shouldRetryRateLimitButNotServerErrors() throws Exception {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(429).addHeader(HttpHeaders.RETRY_AFTER, "0"));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+        TestrailApiClient client = retryingClient();
+
+        assertThatThrownBy(() -> client.addResult(1, Map.of("status_id", 1)))
+                .isInstanceOf(TestrailApiException.class)
+                .satisfies(e -> assertThat(((TestrailApiException) e).getStatusCode()).isEqualTo(503));
+        assertThat(mockWebServer.takeRequest(1, TimeUnit.SECONDS)).isNotNull();
+        assertThat(mockWebServer.takeRequest(1, TimeUnit.SECONDS)).isNotNull();
+        assertThat(mockWebServer.takeRequest(100, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void get_shouldSurfaceRetryAfterBeyondMaxBackoff() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(429).addHeader(HttpHeaders.RETRY_AFTER, "120"));
+
+        assertThatThrownBy(() -> retryingClient().getProject(1))
+                .isInstanceOf(TestrailApiException.class)
+                .satisfies(e -> {
+                    TestrailApiException apiException = (TestrailApiException) e;
+                    assertThat(apiException.isRateLimited()).isTrue();
+                    assertThat(apiException.getRetryAfter()).isEqualTo(Duration.ofSeconds(120));
+                });
+    }
+
+    @Test
+    void parseRetryAfter_shouldAcceptSecondsAndHttpDates() {
+        assertThat(TestrailApiClient.parseRetryAfter("5")).isEqualTo(Duration.ofSeconds(5));
+        assertThat(TestrailApiClient.parseRetryAfter("-3")).isEqualTo(Duration.ZERO);
+        assertThat(TestrailApiClient.parseRetryAfter("Wed, 21 Oct 2015 07:28:00 GMT")).isEqualTo(Duration.ZERO);
+        assertThat(TestrailApiClient.parseRetryAfter("soon")).isNull();
+        assertThat(TestrailApiClient.parseRetryAfter(null)).isNull();
+    }
+
+    @Test
+    void backoff_shouldStayWithinExponentialCeiling() {
+        for (int attempt = 0; attempt < 10; attempt++) {
+            Duration delay = TestrailApiClient.backoff(Duration.ofMillis(100), Duration.ofSeconds(1), attempt);
+            assertThat(delay).isBetween(Duration.ZERO, Duration.ofMillis(Math.min(1000, 100L << attempt)));
+        }
+    }
+
+    // ==================== Request Coalescing Tests ====================
+
+    @Test
+    void concurrentIdenticalGets_shouldShareOneRequest() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"id\":5,\"name\":\"Shared run\"}")
+                .setBodyDelay(200, TimeUnit.MILLISECONDS)
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+        var first = CompletableFuture.supplyAsync(() -> apiClient.getRun(5));
+        var second = CompletableFuture.supplyAsync(() -> apiClient.getRun(5));
+
+        assertThat(first.join().getName()).isEqualTo("Shared run");
+        assertThat(second.join()).isSameAs(first.join());
+        assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/get_run/5");
+        assertThat(mockWebServer.takeRequest(100, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void concurrentIdenticalGets_shouldShareErrors() {
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(400)
+                .setBody("{\"error\": \"Field :run_id is not a valid test run.\"}")
+                .setBodyDelay(200, TimeUnit.MILLISECONDS));
+
+        var first = CompletableFuture.supplyAsync(() -> apiClient.getRun(6));
+        var second = CompletableFuture.supplyAsync(() -> apiClient.getRun(6));
+
+        assertThatThrownBy(first::join).hasCauseInstanceOf(TestrailApiException.class);
+        assertThatThrownBy(second::join).hasCauseInstanceOf(TestrailApiException.class);
+    }
+
+    @Test
+    void sequentialIdenticalGets_shouldEachReachServer() throws Exception {
+        for (int i = 1; i <= 2; i++) {
+            mockWebServer.enqueue(new MockResponse()
+                    .setBody("{\"id\":7,\"name\":\"Run " + i + "\"}")
+                    .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+        }
+
+        assertThat(apiClient.getRun(7).getName()).isEqualTo("Run 1");
+        assertThat(apiClient.getRun(7).getName()).isEqualTo("Run 2");
+        mockWebServer.takeRequest();
+        assertThat(mockWebServer.takeRequest(1, TimeUnit.SECONDS)).isNotNull();
+    }
+
+    // ==================== Bulk Operations Tests ====================
+
+    @Test
+    void getCasesByIds_shouldFetchEachIdAndKeepRequestOrder() throws Exception {
+        mockWebServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String path = request.getPath();
+                if ("/get_case/404".equals(path)) {
+                    return new MockResponse().setResponseCode(400)
+                            .setBody("{\"error\":\"Field :case_id is not a valid test case.\"}");
+                }
+                String id = path.substring("/get_case/".length());
+                return new MockResponse()
+                        .setBody("{\"id\":" + id + ",\"title\":\"Case " + id + "\"}")
+                        .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+            }
+        });
+        try {
+            BulkResult<TestCase> result = apiClient.getCasesByIds(List.of(3, 404, 1, 3), null, null, null);
+
+            assertThat(result.getTotal()).isEqualTo(4);
+            assertThat(result.getSucceeded()).isEqualTo(3);
+            assertThat(result.getItems()).extracting(BulkItemResult::getId).containsExactly(3, 404, 1, 3);
+            assertThat(result.getItems().get(0).getData().getTitle()).isEqualTo("Case 3");
+            assertThat(result.getItems().get(1).isSuccess()).isFalse();
+            assertThat(result.getItems().get(1).getError()).contains("not a valid test case");
+        } finally {
+            mockWebServer.setDispatcher(new okhttp3.mockwebserver.QueueDispatcher());
+        }
+    }
+
+    @Test
+    void getCasesByIds_shouldResolveFromProjectListingBeforeFetchingIndividually() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("[{\"id\":1,\"title\":\"A\",\"updated_on\":10},{\"id\":2,\"title\":\"B\",\"updated_on\":10}]")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"id\":9,\"title\":\"Other suite\"}")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+        BulkResult<TestCase> result = apiClient.getCasesByIds(List.of(2, 9, 1), 1, 4, null);
+
+        assertThat(result.getItems()).extracting(item -> item.getData().getTitle())
+                .containsExactly("B", "Other suite", "A");
+        assertThat(mockWebServer.takeRequest().getPath()).startsWith("/get_cases/1?suite_id=4");
+        assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/get_case/9");
+    }
+
+    @Test
+    void getCasesByIds_shouldFetchIndividuallyWhenProjectListingFails() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(400)
+                .setBody("{\"error\":\"Field :suite_id is a required field.\"}"));
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"id\":7,\"title\":\"Fetched\"}")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+        BulkResult<TestCase> result = apiClient.getCasesByIds(List.of(7), 1, null, null);
+
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getItems().get(0).getData().getTitle()).isEqualTo("Fetched");
+        assertThat(mockWebServer.takeRequest().getPath()).startsWith("/get_cases/1");
+        assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/get_case/7");
+    }
+
+    @Test
+    void getCasesByIds_shouldReadNoMoreProjectPagesThanIds() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"offset\":0,\"limit\":1,\"size\":1,\"_links\":{\"next\":\"/api/v2/get_cases/1&limit=1&offset=1\"},"
+                        + "\"cases\":[{\"id\":1,\"title\":\"A\"}]}")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"id\":8,\"title\":\"Fetched\"}")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+        BulkResult<TestCase> result = apiClient.getCasesByIds(List.of(8), 1, null, null);
+
+        assertThat(result.getItems().get(0).getData().getTitle()).isEqualTo("Fetched");
+        assertThat(mockWebServer.takeRequest().getPath()).startsWith("/get_cases/1");
+        assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/get_case/8");
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(2);
+    }
+
+    private TestrailApiClient chunkingClient(int chunkSize) {
+        TestrailProperties properties = new TestrailProperties();
+        properties.getBulk().setResultChunkSize(chunkSize);
+        properties.getBulk().setMaxConcurrency(1);
+        properties.getRateLimit().setInitialBackoff(Duration.ofMillis(10));
+        return new TestrailApiClient(webClientFor(mockWebServer), objectMapper, properties);
+    }
+
+    @Test
+    void addResultsInChunks_shouldSplitListAndMergeReports() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"_links\":{\"next\":null},\"results\":[]}")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("[{\"id\":1},{\"id\":2}]")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(400)
+                .setBody("{\"error\":\"Field :results.status_id is not valid\"}"));
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("[{\"id\":5}]")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            results.add(Map.of("test_id", i, "status_id", 1));
+        }
+
+        ChunkedSubmitResult report = chunkingClient(2).addResultsInChunks(3, results);
+
+        assertThat(report.getTotal()).isEqualTo(5);
+        assertThat(report.getSubmitted()).isEqualTo(3);
+        assertThat(report.getFailed()).isEqualTo(2);
+        assertThat(report.getChunks()).extracting(ChunkReport::getOffset).containsExactly(0L, 2L, 4L);
+        assertThat(report.getChunks().get(1).getError()).contains("not valid");
+        assertThat(report.getChunks().get(1).getAttempts()).isEqualTo(1);
+        assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/get_results_for_run/3?limit=1");
+        RecordedRequest first = mockWebServer.takeRequest();
+        assertThat(first.getPath()).isEqualTo("/add_results/3");
+        assertThat(first.getBody().readUtf8())
+                .contains("\"test_id\":2")
+                .doesNotContain("comment")
+                .doesNotContain("\"test_id\":3");
+    }
+
+    @Test
+    void addResultsForCasesInChunks_shouldResendOnlyUnrecordedResultsAfterServerError() throws Exception {
+        List<String> posted = Collections.synchronizedList(new ArrayList<>());
+        mockWebServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String path = request.getPath();
+                if (path.equals("/add_results_for_cases/3")) {
+                    posted.add(request.getBody().readUtf8());
+                    return posted.size() == 1
+                            ? new MockResponse().setResponseCode(500)
+                            : new MockResponse().setBody("[{\"id\":10,\"test_id\":102,\"status_id\":5}]")
+                                    .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+                }
+                if (path.equals("/get_results_for_run/3?limit=1")) {
+                    return new MockResponse()
+                            .setBody("{\"_links\":{\"next\":null},\"results\":[{\"id\":8,\"created_on\":1000}]}")
+                            .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+                }
+                if (path.equals("/get_results_for_case/3/1?limit=1")) {
+                    return new MockResponse()
+                            .setBody("{\"_links\":{\"next\":null},\"results\":[{\"id\":9,\"test_id\":101,"
+                                    + "\"status_id\":1,\"comment\":\"Flaky\",\"created_on\":1001}]}")
+                            .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+                }
+                if (path.equals("/get_results_for_case/3/2?limit=1")) {
+                    return new MockResponse()
+                            .setBody("{\"_links\":{\"next\":null},\"results\":[{\"id\":7,\"test_id\":102,"
+                                    + "\"status_id\":5,\"created_on\":900}]}")
+                            .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+                }
+                return new MockResponse().setResponseCode(404);
+            }
+        });
+        try {
+            ChunkedSubmitResult report = chunkingClient(10).addResultsForCasesInChunks(3, List.of(
+                    Map.of("case_id", 1, "status_id", 1, "comment", "Flaky"),
+                    Map.of("case_id", 2, "status_id", 5)));
+
+            ChunkReport chunk = report.getChunks().get(0);
+            assertThat(chunk.isSuccess()).isTrue();
+            assertThat(chunk.getAttempts()).isEqualTo(2);
+            assertThat(chunk.getRecovered()).isEqualTo(1);
+            assertThat(chunk.getSubmitted()).isEqualTo(1);
+            assertThat(posted).hasSize(2);
+            assertThat(posted.get(0)).contains("\"comment\":\"Flaky\"").doesNotContain("submission");
+            assertThat(posted.get(1)).contains("\"case_id\":2").doesNotContain("\"case_id\":1");
+        } finally {
+            mockWebServer.setDispatcher(new okhttp3.mockwebserver.QueueDispatcher());
+        }
+    }
+
+    @Test
+    void addCasesBulk_shouldReportEachItemInRequestOrder() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"id\":100,\"title\":\"Login\",\"section_id\":5}")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(400)
+                .setBody("{\"error\":\"Field :section_id is not a valid section.\"}"));
+
+        BulkResult<TestCase> result = chunkingClient(10).addCasesBulk(List.of(
+                Map.of("section_id", 5, "title", "Login"),
+                Map.of("section_id", 5),
+                Map.of("section_id", "999", "title", "Orphan")), false);
+
+        assertThat(result.isDryRun()).isFalse();
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getItems()).extracting(BulkItemResult::isSuccess).containsExactly(true, false, false);
+        assertThat(result.getItems().get(0).getId()).isEqualTo(100);
+        assertThat(result.getItems().get(1).getError()).isEqualTo("title is required");
+        assertThat(result.getItems().get(2).getError()).contains("not a valid section");
+        RecordedRequest first = mockWebServer.takeRequest();
+        assertThat(first.getPath()).isEqualTo("/add_case/5");
+        assertThat(first.getBody().readUtf8()).contains("\"title\":\"Login\"").doesNotContain("section_id");
+        assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/add_case/999");
+    }
+
+    @Test
+    void addCasesBulk_dryRunShouldOnlyLookUpSections() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"id\":5,\"name\":\"Auth\"}")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+        BulkResult<TestCase> result = chunkingClient(10).addCasesBulk(List.of(
+                Map.of("section_id", 5, "title", "Login", "priority_id", 3),
+                Map.of("section_id", 5, "title", "Logout")), true);
+
+        assertThat(result.isDryRun()).isTrue();
+        assertThat(result.getItems()).extracting(item -> item.getData().getTitle()).containsExactly("Login", "Logout");
+        assertThat(result.getItems().get(0).getData().getPriorityId()).isEqualTo(3);
+        assertThat(result.getItems().get(0).getData().getSectionId()).isEqualTo(5);
+        assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/get_section/5");
+        assertThat(mockWebServer.takeRequest(100, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void updateCasesBulk_shouldPostEachUpdate() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"id\":1,\"priority_id\":4}")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+        BulkResult<TestCase> result = chunkingClient(10).updateCasesBulk(List.of(
+                Map.of("case_id", 1, "priority_id", 4),
+                Map.of("case_id", 2)), false);
+
+        assertThat(result.getItems().get(0).getData().getPriorityId()).isEqualTo(4);
+        assertThat(result.getItems().get(1).getId()).isEqualTo(2);
+        assertThat(result.getItems().get(1).getError()).isEqualTo("No fields to update");
+        RecordedRequest request = mockWebServer.takeRequest();
+        assertThat(request.getPath()).isEqualTo("/update_case/1");
+        assertThat(request.getBody().readUtf8()).isEqualTo("{\"priority_id\":4}");
+    }
+
+    @Test
+    void updateCasesBulk_dryRunShouldPreviewChangesWithoutWriting() throws Exception {
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"id\":1,\"title\":\"Login\",\"priority_id\":2}")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+
+        BulkResult<TestCase> result = chunkingClient(10).updateCasesBulk(List.of(
+                Map.of("case_id", 1, "priority_id", 4)), true);
+
+        TestCase preview = result.getItems().get(0).getData();
+        assertThat(preview.getTitle()).isEqualTo("Login");
+        assertThat(preview.getPriorityId()).isEqualTo(4);
+        assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/get_case/1");
+        assertThat(mockWebServer.takeRequest(100, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void cloneSectionTree_shouldRecreateHierarchyAndCopyCasesPerSection() throws Exception {
+        ObjectMapper json = new ObjectMapper();
+        Map<String, Map<String, Object>> createdByName = new ConcurrentHashMap<>();
+        Map<Integer, String> copiedBySection = new ConcurrentHashMap<>();
+        List<String> caseQueries = Collections.synchronizedList(new ArrayList<>());
+        Map<String, String> casesBySection = Map.of(
+                "10", "{\"id\":100,\"section_id\":10}",
+                "12", "{\"id\":101,\"section_id\":12}",
+                "13", "{\"id\":102,\"section_id\":13}",
+                "20", "{\"id\":103,\"section_id\":20}");
+        AtomicInteger nextId = new AtomicInteger(500);
+        mockWebServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String path = request.getPath();
+                try {
+                    if (path.equals("/get_section/10")) {
+                        return jsonResponse("{\"id\":10,\"suite_id\":2,\"name\":\"Checkout\"}");
+                    }
+                    if (path.startsWith("/get_sections/1")) {
+                        return jsonResponse("{\"_links\":{\"next\":null},\"sections\":["
+                                + "{\"id\":10,\"suite_id\":2,\"name\":\"Checkout\",\"parent_id\":null},"
+                                + "{\"id\":11,\"suite_id\":2,\"name\":\"Payment\",\"parent_id\":10,\"display_order\":2},"
+                                + "{\"id\":12,\"suite_id\":2,\"name\":\"Cart\",\"parent_id\":10,\"display_order\":1},"
+                                + "{\"id\":13,\"suite_id\":2,\"name\":\"Coupons\",\"parent_id\":12},"
+                                + "{\"id\":20,\"suite_id\":2,\"name\":\"Other\",\"parent_id\":null}]}");
+                    }
+                    if (path.startsWith("/get_cases/1")) {
+                        caseQueries.add(path);
+                        String sectionId = path.replaceAll(".*section_id=(\\d+).*", "$1");
+                        return jsonResponse("{\"_links\":{\"next\":null},\"cases\":["
+                                + casesBySection.getOrDefault(sectionId, "") + "]}");
+                    }
+                    if (path.equals("/add_section/1")) {
+                        Map<String, Object> body = json.readValue(request.getBody().readUtf8(), Map.class);
+                        createdByName.put((String) body.get("name"), body);
+                        return jsonResponse("{\"id\":" + nextId.incrementAndGet() + ",\"name\":\"" + body.get("name") + "\"}");
+                    }
+                    if (path.startsWith("/copy_cases_to_section/")) {
+                        copiedBySection.put(Integer.valueOf(path.substring("/copy_cases_to_section/".length())),
+                                request.getBody().readUtf8());
+                        return new MockResponse().setResponseCode(200);
+                    }
+                } catch (IOException e) {
+                    return new MockResponse().setResponseCode(500);
+                }
+                return new MockResponse().setResponseCode(404);
+            }
+        });
+        try {
+            CloneSectionTreeResult result = chunkingClient(10).cloneSectionTree(1, 10, 7, 40, "Checkout v2");
+
+            assertThat(result.getSectionsCreated()).isEqualTo(4);
+            assertThat(result.getCasesCopied()).isEqualTo(3);
+            assertThat(result.getErrors()).isEmpty();
+            assertThat(result.getStages()).extracting(CloneSectionTreeResult.Stage::getName)
+                    .containsExactly("load", "level 0", "level 1", "level 2");
+            assertThat(result.getStages().get(0).getSections()).isEqualTo(4);
+
+            Map<String, Object> root = createdByName.get("Checkout v2");
+            assertThat(root).containsEntry("parent_id", 40).containsEntry("suite_id", 7);
+            Integer rootId = result.getTargetSectionId();
+            assertThat(createdByName.get("Cart")).containsEntry("parent_id", rootId);
+            assertThat(createdByName.get("Payment")).containsEntry("parent_id", rootId);
+            assertThat(createdByName).doesNotContainKey("Other");
+            Integer cartId = (Integer) createdByName.get("Coupons").get("parent_id");
+            assertThat(cartId).isNotEqualTo(rootId);
+
+            assertThat(caseQueries).hasSize(4).allMatch(query -> query.contains("section_id="))
+                    .noneMatch(query -> query.contains("section_id=20"));
+            assertThat(copiedBySection).hasSize(3);
+            assertThat(copiedBySection.get(rootId)).contains("[100]");
+            assertThat(copiedBySection.get(cartId)).contains("[101]");
+        } finally {
+            mockWebServer.setDispatcher(new okhttp3.mockwebserver.QueueDispatcher());
+        }
+    }
+
+    @Test
+    void cloneSectionTree_shouldSkipSubtreeOfSectionThatCouldNotBeCreated() throws Exception {
+        mockWebServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String path = request.getPath();
+                if (path.equals("/get_section/10")) {
+                    return jsonResponse("{\"id\":10,\"suite_id\":2,\"name\":\"Root\"}");
+                }
+                if (path.startsWith("/get_sections/1")) {
+                    return jsonResponse("{\"_links\":{\"next\":null},\"sections\":["
+                            + "{\"id\":10,\"name\":\"Root\"},"
+                            + "{\"id\":11,\"name\":\"Broken\",\"parent_id\":10},"
+                            + "{\"id\":12,\"name\":\"Child\",\"parent_id\":11}]}");
+                }
+                if (path.startsWith("/get_cases/1")) {
+                    return jsonResponse("{\"_links\":{\"next\":null},\"cases\":[]}");
+                }
+                if (path.equals("/add_section/1")) {
+                    return request.getBody().readUtf8().contains("Broken")
+                            ? new MockResponse().setResponseCode(400).setBody("{\"error\":\"Field :name is too long\"}")
+                            : jsonResponse("{\"id\":500}");
+                }
+                return new MockResponse().setResponseCode(404);
+            }
+        });
+        try {
+            CloneSectionTreeResult result = chunkingClient(10).cloneSectionTree(1, 10, null, null, null);
+
+            assertThat(result.getTargetSectionId()).isEqualTo(500);
+            assertThat(result.getSectionsCreated()).isEqualTo(1);
+            assertThat(result.getErrors()).hasSize(2);
+            assertThat(result.getErrors().get(0)).contains("Section 11");
+            assertThat(result.getErrors().get(1)).contains("Section 12 skipped");
+        } finally {
+            mockWebServer.setDispatcher(new okhttp3.mockwebserver.QueueDispatcher());
+        }
+    }
+
+    private static MockResponse jsonResponse(String body) {
+        return new MockResponse().setBody(body)
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+    }
 }
@@ -2,6 +2,8 @@ package io.github.testrail.mcp.client;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.*;
 
 /**
@@ -122,6 +124,22 @@ class TestrailApiExceptionTest {
         assertThat(exception.isAuthenticationError()).isFalse();
     }
 
+    @Test
+    void constructor_withRetryAfter_shouldExposeDelay() {
+        TestrailApiException exception = new TestrailApiException("Slow down", 429, null, Duration.ofSeconds(30));
+
+        assertThat(exception.getRetryAfter()).isEqualTo(Duration.ofSeconds(30));
+        assertThat(exception.isRateLimited()).isTrue();
+    }
+
+    @Test
+    void getRetryAfter_shouldBeNullWhenNotGiven() {
+        TestrailApiException exception = new TestrailApiException("Error", 503, null);
+
+        assertThat(exception.getRetryAfter()).isNull();
+        assertThat(exception.isRateLimited()).isFalse();
+    }
+
     @Test
     void toString_shouldIncludeMessageAndStatusCode() {
         TestrailApiException exception = new TestrailApiException("Test error", 500, "body");
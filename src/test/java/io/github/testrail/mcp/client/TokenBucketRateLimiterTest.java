@@ -0,0 +1,78 @@
+package io.github.testrail.mcp.client;
+
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for TokenBucketRateLimiter.
+ */
+class TokenBucketRateLimiterTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void reserve_shouldServeBurstWithoutWaiting() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(60, 3, clock::get);
+
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+    }
+
+    @Test
+    void reserve_shouldQueueCallersOnceBurstIsSpent() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(60, 1, clock::get);
+
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isEqualTo(SECOND);
+        assertThat(limiter.reserve()).isEqualTo(2 * SECOND);
+    }
+
+    @Test
+    void reserve_shouldRefillTokensOverTimeUpToBurst() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(60, 2, clock::get);
+        limiter.reserve();
+        limiter.reserve();
+
+        clock.addAndGet(10 * SECOND);
+
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isEqualTo(SECOND);
+    }
+
+    @Test
+    void pause_shouldDelayEveryCallerAndDrainBurst() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(60, 5, clock::get);
+
+        limiter.pause(Duration.ofSeconds(3));
+
+        assertThat(limiter.reserve()).isEqualTo(3 * SECOND);
+        assertThat(limiter.reserve()).isEqualTo(4 * SECOND);
+    }
+
+    @Test
+    void disabledLimiter_shouldNeverDelay() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(0, 1, clock::get);
+        limiter.pause(Duration.ofMinutes(1));
+
+        assertThat(limiter.isEnabled()).isFalse();
+        StepVerifier.create(limiter.acquire()).verifyComplete();
+    }
+
+    @Test
+    void acquire_shouldReserveOnSubscription() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(60, 1, clock::get);
+
+        limiter.acquire();
+
+        assertThat(limiter.reserve()).isZero();
+    }
+}
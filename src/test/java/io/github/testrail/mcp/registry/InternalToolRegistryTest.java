@@ -144,6 +144,19 @@ class InternalToolRegistryTest {
 
     // ── Helper to set up ApplicationContext mock ─────────────────────────────
 
+    /**
+     * A bean whose tool always throws.
+     */
+    public static class ThrowingToolBean {
+        public String explode() {
+            throw new IllegalStateException("boom");
+        }
+
+        public String crash() {
+            throw new AssertionError("crash");
+        }
+    }
+
     private void setupContext(Object... beans) {
         String[] beanNames = new String[beans.length];
         for (int i = 0; i < beans.length; i++) {
@@ -612,6 +625,82 @@ class InternalToolRegistryTest {
         }
     }
 
+    // ── Tests: Invocation ───────────────────────────────────────────────────
+
+    @Nested
+    @DisplayName("Invocation")
+    class InvocationTests {
+
+        @Test
+        @DisplayName("invoke should call the tool method on its bean")
+        void invokeShouldCallToolMethod() throws Throwable {
+            setupContext(new SimpleToolBean(), new MultiToolBean());
+            registry = new InternalToolRegistry(applicationContext);
+            registry.init();
+
+            assertThat(registry.getTool("simple_tool").invoke(new Object[]{7})).isEqualTo("result-7");
+            assertThat(registry.getTool("tool_alpha").invoke(new Object[0])).isEqualTo("alpha");
+        }
+
+        @Test
+        @DisplayName("invoke should box primitive results")
+        void invokeShouldBoxPrimitiveResults() throws Throwable {
+            setupContext(new MultiToolBean());
+            registry = new InternalToolRegistry(applicationContext);
+            registry.init();
+
+            Object result = registry.getTool("tool_beta").invoke(new Object[]{3, 4});
+
+            assertThat(result).isInstanceOf(Integer.class).isEqualTo(7);
+        }
+
+        @Test
+        @DisplayName("invoke should rethrow the tool's exception unwrapped")
+        void invokeShouldRethrowUnwrapped() throws Exception {
+            Method method = ThrowingToolBean.class.getDeclaredMethod("explode");
+            InternalToolRegistry.ToolDefinition def = new InternalToolRegistry.ToolDefinition(
+                    "explode", "Throws", "testing", List.of(), List.of(),
+                    new ThrowingToolBean(), method, List.of());
+
+            assertThatThrownBy(() -> def.invoke(new Object[0]))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("boom");
+        }
+
+        @Test
+        @DisplayName("invoke should rethrow errors as is")
+        void invokeShouldRethrowErrors() throws Exception {
+            Method method = ThrowingToolBean.class.getDeclaredMethod("crash");
+            InternalToolRegistry.ToolDefinition def = new InternalToolRegistry.ToolDefinition(
+                    "crash", "Throws an error", "testing", List.of(), List.of(),
+                    new ThrowingToolBean(), method, List.of());
+
+            assertThatThrownBy(() -> def.invoke(new Object[0]))
+                    .isInstanceOf(AssertionError.class)
+                    .hasMessage("crash");
+        }
+
+        @Test
+        @DisplayName("invoke should fail clearly when the definition has no method")
+        void invokeShouldFailWithoutMethod() {
+            InternalToolRegistry.ToolDefinition def = new InternalToolRegistry.ToolDefinition(
+                    "no_method", "None", "testing", List.of(), List.of(), new Object(), null, List.of());
+
+            assertThatThrownBy(() -> def.invoke(new Object[0]))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("no_method");
+        }
+
+        @Test
+        @DisplayName("ParameterDefinition should carry a converter for its type")
+        void parameterDefinitionShouldCarryConverter() {
+            InternalToolRegistry.ParameterDefinition param = new InternalToolRegistry.ParameterDefinition(
+                    "limit", int.class, "Limit", false, "250");
+
+            assertThat(param.getConverter().convert("250", "limit", null)).isEqualTo(250);
+        }
+    }
+
     // ── Tests: ParameterDefinition inner class ──────────────────────────────
 
     @Nested
@@ -0,0 +1,137 @@
+package io.github.testrail.mcp.registry;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ParameterConverter}.
+ */
+class ParameterConverterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Object convert(Object value, Class<?> type) {
+        return ParameterConverter.forType(type).convert(value, "param", objectMapper);
+    }
+
+    @SuppressWarnings("unused")
+    private static void signature(List<Map<String, Object>> results, Map<String, Object> body) {
+    }
+
+    private static Type genericParameter(int index) throws NoSuchMethodException {
+        return ParameterConverterTest.class.getDeclaredMethod("signature", List.class, Map.class)
+                .getGenericParameterTypes()[index];
+    }
+
+    @Test
+    void shouldPassThroughValuesOfTheTargetType() {
+        Map<String, Object> body = Map.of("title", "x");
+
+        assertThat(convert(body, Map.class)).isSameAs(body);
+        assertThat(convert("text", String.class)).isEqualTo("text");
+        assertThat(convert(5, int.class)).isEqualTo(5);
+        assertThat(convert(true, boolean.class)).isEqualTo(true);
+    }
+
+    @Test
+    void shouldConvertNumbersToEachNumericTarget() {
+        assertThat(convert(7L, Integer.class)).isEqualTo(7);
+        assertThat(convert(7, long.class)).isEqualTo(7L);
+        assertThat(convert(7, Double.class)).isEqualTo(7.0);
+        assertThat(convert(7, float.class)).isEqualTo(7.0f);
+        assertThat(convert(0, Boolean.class)).isEqualTo(false);
+        assertThat(convert(2, boolean.class)).isEqualTo(true);
+        assertThat(convert(7.5, String.class)).isEqualTo("7.5");
+    }
+
+    @Test
+    void shouldParseStrings() {
+        assertThat(convert("12", int.class)).isEqualTo(12);
+        assertThat(convert("12", Long.class)).isEqualTo(12L);
+        assertThat(convert("1.5", double.class)).isEqualTo(1.5);
+        assertThat(convert("1.5", Float.class)).isEqualTo(1.5f);
+        assertThat(convert("true", Boolean.class)).isEqualTo(true);
+    }
+
+    @Test
+    void shouldRenderBooleansAsStrings() {
+        assertThat(convert(false, String.class)).isEqualTo("false");
+    }
+
+    @Test
+    void shouldReportUnparseableStringsWithParameterName() {
+        assertThatThrownBy(() -> convert("abc", int.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Cannot convert parameter 'param' value 'abc' to int");
+    }
+
+    @Test
+    void shouldFallBackToObjectMapper() {
+        assertThat((String[]) convert(List.of("a", "b"), String[].class)).containsExactly("a", "b");
+    }
+
+    @Test
+    void shouldReportFallbackFailures() {
+        assertThatThrownBy(() -> convert(List.of("a"), Integer.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Cannot convert parameter 'param' from List")
+                .hasMessageEndingWith("to Integer");
+    }
+
+    @Test
+    void shouldUnwrapScalarJsonNodes() {
+        assertThat(convert(objectMapper.getNodeFactory().numberNode(9L), int.class)).isEqualTo(9);
+        assertThat(convert(objectMapper.getNodeFactory().textNode("12"), Long.class)).isEqualTo(12L);
+        assertThat(convert(objectMapper.getNodeFactory().booleanNode(true), String.class)).isEqualTo("true");
+        assertThat(convert(objectMapper.getNodeFactory().nullNode(), Integer.class)).isNull();
+    }
+
+    @Test
+    void shouldPassConformingStructuredValuesThroughWithoutCopying() throws Exception {
+        ParameterConverter converter = ParameterConverter.forType(genericParameter(0));
+        List<Map<String, Object>> results = List.of(Map.of("case_id", 1), Map.of("case_id", 2));
+
+        assertThat(converter.convert(results, "results", objectMapper)).isSameAs(results);
+    }
+
+    @Test
+    void shouldBindStructuredValuesFromJsonTreesAndStrings() throws Exception {
+        ParameterConverter converter = ParameterConverter.forType(genericParameter(0));
+        JsonNode tree = objectMapper.readTree("[{\"case_id\":1,\"status_id\":5}]");
+
+        Object fromTree = converter.convert(tree, "results", objectMapper);
+        Object fromString = converter.convert("[{\"case_id\":2}]", "results", objectMapper);
+
+        assertThat(fromTree).isEqualTo(List.of(Map.of("case_id", 1, "status_id", 5)));
+        assertThat(fromString).isEqualTo(List.of(Map.of("case_id", 2)));
+    }
+
+    @Test
+    void shouldConvertNonConformingElements() throws Exception {
+        ParameterConverter converter = ParameterConverter.forType(genericParameter(0));
+        List<Object> results = new ArrayList<>();
+        results.add(objectMapper.readTree("{\"case_id\":3}"));
+
+        assertThat(converter.convert(results, "results", objectMapper)).isEqualTo(List.of(Map.of("case_id", 3)));
+    }
+
+    @Test
+    void shouldReportUnbindableStructuredValues() throws Exception {
+        ParameterConverter converter = ParameterConverter.forType(genericParameter(1));
+
+        assertThatThrownBy(() -> converter.convert("not json", "body", objectMapper))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Cannot convert parameter 'body' from String to Map");
+        assertThatThrownBy(() -> converter.convert(42, "body", objectMapper))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Cannot convert parameter 'body' from Integer to Map");
+    }
+}
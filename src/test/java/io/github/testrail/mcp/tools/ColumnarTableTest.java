@@ -0,0 +1,110 @@
+package io.github.testrail.mcp.tools;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link ColumnarTable}.
+ */
+class ColumnarTableTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private String write(String... rows) throws Exception {
+        ColumnarTable table = new ColumnarTable();
+        for (String row : rows) {
+            table.add(objectMapper.readTree(row));
+        }
+        StringWriter out = new StringWriter();
+        try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+            table.write(generator);
+        }
+        return out.toString();
+    }
+
+    @Test
+    @DisplayName("Should write a header of columns and one array per row")
+    void shouldWriteColumnsAndRows() throws Exception {
+        String json = write(
+                "{\"id\":1,\"title\":\"Login\",\"priority_id\":2}",
+                "{\"id\":2,\"title\":\"Logout\",\"priority_id\":4}");
+
+        assertThat(json).isEqualTo("{\"format\":\"columnar\",\"columns\":[\"id\",\"title\",\"priority_id\"],"
+                + "\"rows\":[[1,\"Login\",2],[2,\"Logout\",4]]}");
+    }
+
+    @Test
+    @DisplayName("Should drop all-null columns and trailing nulls but keep inner nulls")
+    void shouldElideNulls() throws Exception {
+        String json = write(
+                "{\"id\":1,\"refs\":null,\"estimate\":\"1m\",\"milestone_id\":null}",
+                "{\"id\":2,\"refs\":\"R-1\",\"estimate\":null}",
+                "{\"id\":3}");
+
+        JsonNode table = objectMapper.readTree(json);
+        assertThat(objectMapper.convertValue(table.get("columns"), List.class))
+                .containsExactly("id", "estimate", "refs");
+        assertThat(objectMapper.convertValue(table.get("rows"), List.class)).isEqualTo(List.of(
+                List.of(1, "1m"),
+                java.util.Arrays.asList(2, null, "R-1"),
+                List.of(3)));
+    }
+
+    @Test
+    @DisplayName("Should dictionary-encode string columns with repeated values")
+    void shouldDictionaryEncodeRepeatedStrings() throws Exception {
+        String json = write(
+                "{\"id\":1,\"type\":\"Functional\",\"title\":\"A\"}",
+                "{\"id\":2,\"type\":\"Regression\",\"title\":\"B\"}",
+                "{\"id\":3,\"type\":\"Functional\",\"title\":\"C\"}");
+
+        JsonNode table = objectMapper.readTree(json);
+        assertThat(objectMapper.convertValue(table.get("dictionaries"), Map.class))
+                .isEqualTo(Map.of("type", List.of("Functional", "Regression")));
+        assertThat(objectMapper.convertValue(table.get("rows"), List.class)).isEqualTo(List.of(
+                List.of(1, 0, "A"), List.of(2, 1, "B"), List.of(3, 0, "C")));
+    }
+
+    @Test
+    @DisplayName("Should not dictionary-encode columns mixing strings and other values")
+    void shouldNotEncodeMixedColumns() throws Exception {
+        String json = write(
+                "{\"v\":\"x\"}",
+                "{\"v\":\"x\"}",
+                "{\"v\":7}");
+
+        assertThat(json).doesNotContain("dictionaries").contains("\"rows\":[[\"x\"],[\"x\"],[7]]");
+    }
+
+    @Test
+    @DisplayName("Should write nested values as JSON")
+    void shouldWriteNestedValues() throws Exception {
+        String json = write("{\"id\":1,\"steps\":[{\"content\":\"Open\",\"expected\":\"Shown\"}]}");
+
+        assertThat(json).contains("\"rows\":[[1,[{\"content\":\"Open\",\"expected\":\"Shown\"}]]]");
+    }
+
+    @Test
+    @DisplayName("Should fall back to a plain array when a row is not an object")
+    void shouldFallBackForScalarRows() throws Exception {
+        assertThat(write("1", "{\"a\":2}")).isEqualTo("[1,{\"a\":2}]");
+    }
+
+    @Test
+    @DisplayName("Should write an empty table")
+    void shouldWriteEmptyTable() throws Exception {
+        ColumnarTable table = new ColumnarTable();
+
+        assertThat(table.size()).isZero();
+        assertThat(write()).isEqualTo("{\"format\":\"columnar\",\"columns\":[],\"rows\":[]}");
+    }
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.testrail.mcp.annotation.InternalTool;
 import io.github.testrail.mcp.annotation.InternalToolParam;
+import io.github.testrail.mcp.config.TestrailProperties;
 import io.github.testrail.mcp.registry.InternalToolRegistry;
 import io.github.testrail.mcp.registry.LuceneToolIndexService;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +15,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationContext;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.*;
 import java.util.LinkedHashMap;
@@ -160,6 +165,169 @@ class McpExposedToolsTest {
         }
     }
 
+    public static class ReactiveToolBean {
+        @InternalTool(
+                name = "reactive_echo",
+                description = "Echoes a value reactively",
+                category = "reactive",
+                keywords = {"echo", "reactive"}
+        )
+        public Mono<String> reactiveEcho(
+                @InternalToolParam(description = "Value to echo") String value
+        ) {
+            return Mono.just("echo:" + value);
+        }
+
+        @InternalTool(
+                name = "reactive_range",
+                description = "Emits a range of numbers",
+                category = "reactive",
+                keywords = {"range", "reactive"}
+        )
+        public Flux<Integer> reactiveRange(
+                @InternalToolParam(description = "Count") int count
+        ) {
+            return Flux.range(1, count);
+        }
+
+        @InternalTool(
+                name = "reactive_failure",
+                description = "Fails reactively",
+                category = "reactive",
+                keywords = {"fail", "reactive"}
+        )
+        public Mono<String> reactiveFailure(
+                @InternalToolParam(description = "Input value") String input
+        ) {
+            return Mono.error(new IllegalStateException("Reactive failure: " + input));
+        }
+    }
+
+    public static class PendingToolBean {
+        private final Sinks.One<String> result = Sinks.one();
+
+        @InternalTool(
+                name = "pending",
+                description = "Completes once the test emits a value",
+                category = "reactive",
+                keywords = {"pending", "reactive"}
+        )
+        public Mono<String> pending() {
+            return result.asMono();
+        }
+    }
+
+    public static class RecordToolBean {
+        @InternalTool(
+                name = "make_record",
+                description = "Builds a record with one child",
+                category = "data",
+                keywords = {"record"}
+        )
+        public Map<String, Object> makeRecord(
+                @InternalToolParam(description = "Record ID") int id
+        ) {
+            return Map.of("id", id, "children", List.of(Map.of("id", id * 10)));
+        }
+    }
+
+    public static class RendezvousToolBean {
+        private final java.util.concurrent.CountDownLatch arrivals;
+
+        RendezvousToolBean(int parties) {
+            this.arrivals = new java.util.concurrent.CountDownLatch(parties);
+        }
+
+        @InternalTool(
+                name = "rendezvous",
+                description = "Waits until all parties have arrived",
+                category = "threads",
+                keywords = {"wait"}
+        )
+        public boolean rendezvous() throws InterruptedException {
+            arrivals.countDown();
+            return arrivals.await(5, java.util.concurrent.TimeUnit.SECONDS);
+        }
+    }
+
+    public static class RowsToolBean {
+        private final java.util.concurrent.atomic.AtomicInteger streamed = new java.util.concurrent.atomic.AtomicInteger();
+
+        @InternalTool(
+                name = "list_rows",
+                description = "Lists rows with an id, title and nested tags",
+                category = "rows",
+                keywords = {"rows", "list"}
+        )
+        public List<Map<String, Object>> listRows(
+                @InternalToolParam(description = "Number of rows") int count
+        ) {
+            List<Map<String, Object>> rows = new ArrayList<>();
+            for (int i = 1; i <= count; i++) {
+                rows.add(row(i));
+            }
+            return rows;
+        }
+
+        @InternalTool(
+                name = "stream_rows",
+                description = "Streams rows with an id, title and nested tags",
+                category = "rows",
+                keywords = {"rows", "stream"}
+        )
+        public Flux<Map<String, Object>> streamRows(
+                @InternalToolParam(description = "Number of rows") int count
+        ) {
+            return Flux.range(1, count).doOnNext(i -> streamed.incrementAndGet()).map(RowsToolBean::row);
+        }
+
+        @InternalTool(
+                name = "single_row",
+                description = "Returns one row",
+                category = "rows",
+                keywords = {"row"}
+        )
+        public Map<String, Object> singleRow(
+                @InternalToolParam(description = "Row ID") int id
+        ) {
+            return row(id);
+        }
+
+        private static Map<String, Object> row(int id) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", id);
+            row.put("title", "Row " + id);
+            row.put("tags", List.of(Map.of("name", "t" + id)));
+            return row;
+        }
+    }
+
+    public static class StreamingToolBean {
+        @InternalTool(
+                name = "partial_stream",
+                description = "Emits some elements, then fails",
+                category = "reactive",
+                keywords = {"stream", "fail"}
+        )
+        public Flux<Integer> partialStream(
+                @InternalToolParam(description = "Elements before the failure") int count
+        ) {
+            return Flux.range(1, count).concatWith(Flux.error(new IllegalStateException("Stream broke")));
+        }
+    }
+
+    public static class ThreadNameToolBean {
+        @InternalTool(
+                name = "current_thread",
+                description = "Returns the name of the executing thread",
+                category = "threads",
+                keywords = {"thread"}
+        )
+        public String currentThread() {
+            return Thread.currentThread().getName();
+        }
+    }
+
     // ── Setup helpers ───────────────────────────────────────────────────────
 
     private void setupWithBeans(Object... beans) {
@@ -177,7 +345,8 @@ class McpExposedToolsTest {
         luceneToolIndexService.init();
 
         objectMapper = new ObjectMapper();
-        mcpExposedTools = new McpExposedTools(toolRegistry, luceneToolIndexService, objectMapper);
+        mcpExposedTools = new McpExposedTools(toolRegistry, luceneToolIndexService, objectMapper,
+                Schedulers.boundedElastic(), new TestrailProperties());
     }
 
     @BeforeEach
@@ -341,7 +510,8 @@ class McpExposedToolsTest {
             toolRegistry.init();
             luceneToolIndexService = new LuceneToolIndexService(toolRegistry);
             luceneToolIndexService.init();
-            mcpExposedTools = new McpExposedTools(toolRegistry, luceneToolIndexService, objectMapper);
+            mcpExposedTools = new McpExposedTools(toolRegistry, luceneToolIndexService, objectMapper,
+                    Schedulers.boundedElastic(), new TestrailProperties());
 
             String result = mcpExposedTools.getCategories();
 
@@ -584,6 +754,674 @@ class McpExposedToolsTest {
         }
     }
 
+    // ── Tests: reactive tools and scheduling ────────────────────────────────
+
+    @Nested
+    @DisplayName("executeTool with reactive and blocking tools")
+    class ReactiveToolTests {
+
+        @Test
+        @DisplayName("Should execute blocking tool off the caller thread")
+        void shouldExecuteBlockingTool() throws Exception {
+            String result = mcpExposedTools.executeTool("add_numbers", Map.of("a", 3, "b", 7));
+
+            Map<String, Object> response = objectMapper.readValue(result, Map.class);
+            assertThat(response.get("success")).isEqualTo(true);
+            assertThat(response.get("result")).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("Should compose Mono-returning tools")
+        void shouldResolveMonoResult() throws Exception {
+            setupWithBeans(new ReactiveToolBean());
+
+            String result = mcpExposedTools.executeTool("reactive_echo", Map.of("value", "hi"));
+
+            Map<String, Object> response = objectMapper.readValue(result, Map.class);
+            assertThat(response.get("success")).isEqualTo(true);
+            assertThat(response.get("result")).isEqualTo("echo:hi");
+        }
+
+        @Test
+        @DisplayName("Should collect Flux-returning tools into a list")
+        void shouldCollectFluxResult() throws Exception {
+            setupWithBeans(new ReactiveToolBean());
+
+            String result = mcpExposedTools.executeTool("reactive_range", Map.of("count", 3));
+
+            Map<String, Object> response = objectMapper.readValue(result, Map.class);
+            assertThat(response.get("result")).isEqualTo(List.of(1, 2, 3));
+        }
+
+        @Test
+        @DisplayName("Should return execute_tool responses without waiting for pending tools")
+        void shouldExecuteToolAsynchronously() throws Exception {
+            PendingToolBean tool = new PendingToolBean();
+            setupWithBeans(tool);
+
+            java.util.concurrent.CompletableFuture<String> result =
+                    mcpExposedTools.executeToolAsync("pending", Map.of(), null).toFuture();
+
+            assertThat(result).isNotDone();
+            tool.result.tryEmitValue("done");
+            Map<String, Object> response = objectMapper.readValue(
+                    result.get(5, java.util.concurrent.TimeUnit.SECONDS), Map.class);
+            assertThat(response.get("result")).isEqualTo("done");
+        }
+
+        @Test
+        @DisplayName("Should report reactive errors as failed executions")
+        void shouldReportReactiveError() throws Exception {
+            setupWithBeans(new ReactiveToolBean());
+
+            String result = mcpExposedTools.executeTool("reactive_failure", Map.of("input", "x"));
+
+            Map<String, Object> response = objectMapper.readValue(result, Map.class);
+            assertThat(response.get("success")).isEqualTo(false);
+            assertThat(response.get("error")).isEqualTo("Reactive failure: x");
+        }
+
+        @Test
+        @DisplayName("Should unwrap exceptions thrown by blocking tools")
+        void shouldUnwrapBlockingToolException() throws Exception {
+            setupWithBeans(new ExceptionToolBean());
+
+            String result = mcpExposedTools.executeTool("failing_tool", null);
+
+            Map<String, Object> response = objectMapper.readValue(result, Map.class);
+            assertThat(response.get("success")).isEqualTo(false);
+            assertThat(response.get("error")).asString().contains("Intentional failure");
+        }
+
+        @Test
+        @DisplayName("Should return errors for blank and unknown tool names")
+        void shouldValidateToolName() throws Exception {
+            Map<String, Object> blank = objectMapper.readValue(
+                    mcpExposedTools.executeTool(" ", Map.of()), Map.class);
+            Map<String, Object> unknown = objectMapper.readValue(
+                    mcpExposedTools.executeTool("nonexistent_tool", Map.of()), Map.class);
+
+            assertThat(blank.get("error")).isEqualTo("Tool name must not be empty");
+            assertThat(unknown.get("error")).asString().contains("Tool not found");
+        }
+
+        @Test
+        @DisplayName("Should run blocking tools on the tool execution scheduler")
+        void shouldRunOnToolScheduler() throws Exception {
+            setupWithBeans(new ThreadNameToolBean());
+            reactor.core.scheduler.Scheduler scheduler = Schedulers.newSingle("tool-exec-test");
+            try {
+                mcpExposedTools = new McpExposedTools(toolRegistry, luceneToolIndexService, objectMapper, scheduler,
+                        new TestrailProperties());
+
+                Map<String, Object> response = objectMapper.readValue(
+                        mcpExposedTools.executeTool("current_thread", Map.of()), Map.class);
+
+                assertThat(response.get("result")).asString().startsWith("tool-exec-test");
+            } finally {
+                scheduler.dispose();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("executeToolsBatch")
+    class ExecuteToolsBatchTests {
+
+        private List<Map<String, Object>> runBatch(List<Map<String, Object>> invocations) throws Exception {
+            return objectMapper.readValue(mcpExposedTools.executeToolsBatch(invocations), List.class);
+        }
+
+        private Map<String, Object> invocation(String toolName, Map<String, Object> parameters) {
+            Map<String, Object> invocation = new HashMap<>();
+            invocation.put("toolName", toolName);
+            invocation.put("parameters", parameters);
+            return invocation;
+        }
+
+        @Test
+        @DisplayName("Should return one response per invocation in request order")
+        void shouldReturnResponsesInOrder() throws Exception {
+            List<Map<String, Object>> responses = runBatch(List.of(
+                    invocation("add_numbers", Map.of("a", 1, "b", 2)),
+                    invocation("greet", Map.of("name", "Ada")),
+                    invocation("add_numbers", Map.of("a", 10, "b", 20))));
+
+            assertThat(responses).extracting(r -> r.get("tool"))
+                    .containsExactly("add_numbers", "greet", "add_numbers");
+            assertThat(responses).extracting(r -> r.get("result")).containsExactly(3, "Hello, Ada!", 30);
+        }
+
+        @Test
+        @DisplayName("Should isolate failures to their own slot")
+        void shouldIsolateFailures() throws Exception {
+            setupWithBeans(new MathToolBean(), new ExceptionToolBean());
+
+            List<Map<String, Object>> responses = runBatch(List.of(
+                    invocation("failing_tool", Map.of("input", "boom")),
+                    invocation("nonexistent_tool", Map.of()),
+                    invocation(null, null),
+                    invocation("add_numbers", Map.of("a", 2, "b", 2))));
+
+            assertThat(responses).hasSize(4);
+            assertThat(responses.get(0).get("success")).isEqualTo(false);
+            assertThat(responses.get(0).get("error")).asString().contains("Intentional failure: boom");
+            assertThat(responses.get(1).get("error")).asString().contains("Tool not found");
+            assertThat(responses.get(2).get("error")).isEqualTo("Tool name must not be empty");
+            assertThat(responses.get(3).get("result")).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("Should reject malformed invocations without failing the batch")
+        void shouldRejectMalformedInvocations() throws Exception {
+            Map<String, Object> badName = new HashMap<>();
+            badName.put("toolName", 42);
+            Map<String, Object> badParameters = new HashMap<>();
+            badParameters.put("toolName", "add_numbers");
+            badParameters.put("parameters", List.of(1, 2));
+
+            List<Map<String, Object>> responses = runBatch(List.of(badName, badParameters));
+
+            assertThat(responses).extracting(r -> r.get("error"))
+                    .containsExactly("toolName must be a string", "parameters must be an object");
+        }
+
+        @Test
+        @DisplayName("Should run independent invocations concurrently")
+        void shouldRunConcurrently() throws Exception {
+            setupWithBeans(new RendezvousToolBean(3));
+
+            List<Map<String, Object>> responses = runBatch(List.of(
+                    invocation("rendezvous", Map.of()),
+                    invocation("rendezvous", Map.of()),
+                    invocation("rendezvous", Map.of())));
+
+            assertThat(responses).extracting(r -> r.get("result")).containsExactly(true, true, true);
+        }
+
+        @Test
+        @DisplayName("Should reject empty and oversized batches")
+        void shouldValidateBatchSize() throws Exception {
+            TestrailProperties properties = new TestrailProperties();
+            properties.getExecution().setMaxBatchSize(2);
+            mcpExposedTools = new McpExposedTools(toolRegistry, luceneToolIndexService, objectMapper,
+                    Schedulers.boundedElastic(), properties);
+            Map<String, Object> call = invocation("add_numbers", Map.of("a", 1, "b", 1));
+
+            List<Map<String, Object>> empty = runBatch(List.of());
+            List<Map<String, Object>> missing = runBatch(null);
+            List<Map<String, Object>> oversized = runBatch(List.of(call, call, call));
+
+            assertThat(empty.get(0).get("error")).isEqualTo("Invocations must not be empty");
+            assertThat(missing.get(0).get("error")).isEqualTo("Invocations must not be empty");
+            assertThat(oversized).hasSize(1);
+            assertThat(oversized.get(0).get("error")).asString().contains("maximum 2 per batch");
+        }
+    }
+
+    @Nested
+    @DisplayName("executeToolPipeline")
+    class ExecuteToolPipelineTests {
+
+        private List<Map<String, Object>> runPipeline(List<Map<String, Object>> steps) throws Exception {
+            return objectMapper.readValue(mcpExposedTools.executeToolPipeline(steps), List.class);
+        }
+
+        private Map<String, Object> step(String toolName, Map<String, Object> parameters) {
+            Map<String, Object> step = new HashMap<>();
+            step.put("toolName", toolName);
+            step.put("parameters", parameters);
+            return step;
+        }
+
+        @Test
+        @DisplayName("Should substitute references to earlier results with their typed values")
+        void shouldResolveReferences() throws Exception {
+            setupWithBeans(new MathToolBean(), new StringToolBean(), new RecordToolBean());
+
+            List<Map<String, Object>> responses = runPipeline(List.of(
+                    step("make_record", Map.of("id", 5)),
+                    step("add_numbers", Map.of("a", "$steps[0].result.id", "b", "$steps[0].result.children[0].id")),
+                    step("greet", Map.of("name", "$steps[1].result"))));
+
+            assertThat(responses).extracting(r -> r.get("step")).containsExactly(0, 1, 2);
+            assertThat(responses.get(1).get("result")).isEqualTo(55);
+            assertThat(responses.get(2).get("result")).isEqualTo("Hello, 55!");
+        }
+
+        @Test
+        @DisplayName("Should skip steps whose inputs failed and still run independent steps")
+        void shouldSkipDependentsOfFailedSteps() throws Exception {
+            setupWithBeans(new MathToolBean(), new ExceptionToolBean());
+
+            List<Map<String, Object>> responses = runPipeline(List.of(
+                    step("failing_tool", Map.of("input", "x")),
+                    step("add_numbers", Map.of("a", "$steps[0].result", "b", 1)),
+                    step("add_numbers", Map.of("a", 1, "b", 1))));
+
+            assertThat(responses.get(0).get("success")).isEqualTo(false);
+            assertThat(responses.get(1).get("error")).isEqualTo("Skipped: step 0 did not succeed");
+            assertThat(responses.get(2).get("result")).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should report forward, malformed and unresolved references")
+        void shouldReportInvalidReferences() throws Exception {
+            setupWithBeans(new MathToolBean(), new RecordToolBean());
+
+            List<Map<String, Object>> responses = runPipeline(List.of(
+                    step("add_numbers", Map.of("a", "$steps[1].result", "b", 1)),
+                    step("add_numbers", Map.of("a", "$steps[x]", "b", 1)),
+                    step("make_record", Map.of("id", 1)),
+                    step("add_numbers", Map.of("a", "$steps[2].result.missing", "b", 1))));
+
+            assertThat(responses.get(0).get("error")).asString().contains("can only reference earlier steps");
+            assertThat(responses.get(1).get("error")).isEqualTo("Malformed step reference: $steps[x]");
+            assertThat(responses.get(2).get("success")).isEqualTo(true);
+            assertThat(responses.get(3).get("error")).asString().contains("did not resolve");
+        }
+
+        @Test
+        @DisplayName("Should run steps without mutual references in parallel")
+        void shouldRunIndependentStepsConcurrently() throws Exception {
+            setupWithBeans(new RendezvousToolBean(2), new StringToolBean());
+
+            List<Map<String, Object>> responses = runPipeline(List.of(
+                    step("rendezvous", Map.of()),
+                    step("rendezvous", Map.of()),
+                    step("greet", Map.of("name", "$steps[1].result"))));
+
+            assertThat(responses).extracting(r -> r.get("result")).containsExactly(true, true, "Hello, true!");
+        }
+
+        @Test
+        @DisplayName("Should bind a referenced object into a structured parameter")
+        void shouldBindReferencedObjectIntoMapParameter() throws Exception {
+            setupWithBeans(new MapToolBean(), new RecordToolBean());
+
+            List<Map<String, Object>> responses = runPipeline(List.of(
+                    step("make_record", Map.of("id", 2)),
+                    step("process_data", Map.of("data", "$steps[0].result.children[0]"))));
+
+            assertThat(responses.get(1).get("result")).isEqualTo("Processed: {id=20}");
+        }
+
+        @Test
+        @DisplayName("Should reject an empty pipeline")
+        void shouldRejectEmptyPipeline() throws Exception {
+            List<Map<String, Object>> responses = runPipeline(List.of());
+
+            assertThat(responses.get(0).get("error")).isEqualTo("Steps must not be empty");
+        }
+    }
+
+    @Nested
+    @DisplayName("executeTool with streaming tools")
+    class StreamingToolTests {
+
+        private Map<String, Object> execute(String toolName, Map<String, Object> parameters) throws Exception {
+            return objectMapper.readValue(mcpExposedTools.executeTool(toolName, parameters), Map.class);
+        }
+
+        @Test
+        @DisplayName("Should write an empty array for an empty Flux")
+        void shouldStreamEmptyFlux() throws Exception {
+            setupWithBeans(new ReactiveToolBean());
+
+            Map<String, Object> response = execute("reactive_range", Map.of("count", 0));
+
+            assertThat(response.get("result")).isEqualTo(List.of());
+        }
+
+        @Test
+        @DisplayName("Should close the response with the error when a stream fails midway")
+        void shouldTerminateWithErrorAfterPartialStream() throws Exception {
+            setupWithBeans(new StreamingToolBean());
+
+            Map<String, Object> response = execute("partial_stream", Map.of("count", 2));
+
+            assertThat(response.get("result")).isEqualTo(List.of(1, 2));
+            assertThat(response).containsEntry("success", false).containsEntry("error", "Stream broke");
+        }
+
+        @Test
+        @DisplayName("Should write a plain failure when a streaming tool fails before emitting")
+        void shouldWritePlainFailureBeforeFirstElement() throws Exception {
+            setupWithBeans(new StreamingToolBean());
+
+            Map<String, Object> response = execute("partial_stream", Map.of("count", "x"));
+
+            assertThat(response).doesNotContainKey("result").containsEntry("success", false);
+            assertThat(response.get("error")).asString().contains("Cannot convert");
+        }
+    }
+
+    @Nested
+    @DisplayName("executeTool with response options")
+    class ResponseOptionsTests {
+
+        @BeforeEach
+        void setUpRows() {
+            setupWithBeans(new RowsToolBean());
+        }
+
+        private Map<String, Object> execute(String toolName, int count, Map<String, Object> options) throws Exception {
+            return objectMapper.readValue(
+                    mcpExposedTools.executeTool(toolName, Map.of("count", count), options), Map.class);
+        }
+
+        @Test
+        @DisplayName("Should write responses unchanged without options")
+        void shouldWriteUnchangedWithoutOptions() throws Exception {
+            Map<String, Object> response = execute("list_rows", 2, Map.of());
+
+            assertThat(response).containsEntry("success", true).doesNotContainKey("truncated");
+            assertThat((List<?>) response.get("result")).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("Should project list elements onto the requested fields")
+        void shouldProjectFields() throws Exception {
+            Map<String, Object> response = execute("list_rows", 2, Map.of("fields", List.of("id", "tags")));
+
+            assertThat(response.get("result")).isEqualTo(List.of(
+                    Map.of("id", 1, "tags", List.of(Map.of("name", "t1"))),
+                    Map.of("id", 2, "tags", List.of(Map.of("name", "t2")))));
+        }
+
+        @Test
+        @DisplayName("Should project a single result")
+        void shouldProjectSingleResult() throws Exception {
+            Map<String, Object> response = objectMapper.readValue(mcpExposedTools.executeTool(
+                    "single_row", Map.of("id", 4), Map.of("fields", "title")), Map.class);
+
+            assertThat(response).containsEntry("success", true);
+            assertThat(response.get("result")).isEqualTo(Map.of("title", "Row 4"));
+        }
+
+        @Test
+        @DisplayName("Should cut a list at maxItems and continue from the cursor")
+        void shouldTruncateAtMaxItemsAndContinue() throws Exception {
+            Map<String, Object> first = execute("list_rows", 5, Map.of("maxItems", 2, "fields", List.of("id")));
+
+            assertThat(first.get("result")).isEqualTo(List.of(Map.of("id", 1), Map.of("id", 2)));
+            assertThat(first).containsEntry("truncated", true).containsKey("nextCursor");
+
+            Map<String, Object> second = execute("list_rows", 5,
+                    Map.of("maxItems", 2, "fields", List.of("id"), "cursor", first.get("nextCursor")));
+            assertThat(second.get("result")).isEqualTo(List.of(Map.of("id", 3), Map.of("id", 4)));
+
+            Map<String, Object> last = execute("list_rows", 5,
+                    Map.of("maxItems", 2, "fields", List.of("id"), "cursor", second.get("nextCursor")));
+            assertThat(last.get("result")).isEqualTo(List.of(Map.of("id", 5)));
+            assertThat(last).doesNotContainKeys("truncated", "nextCursor");
+        }
+
+        @Test
+        @DisplayName("Should not report truncation when the list fits exactly")
+        void shouldNotTruncateExactFit() throws Exception {
+            Map<String, Object> response = execute("list_rows", 2, Map.of("maxItems", 2));
+
+            assertThat((List<?>) response.get("result")).hasSize(2);
+            assertThat(response).doesNotContainKey("truncated");
+        }
+
+        @Test
+        @DisplayName("Should keep the serialised elements within maxBytes")
+        void shouldTruncateAtMaxBytes() throws Exception {
+            int rowBytes = objectMapper.writeValueAsBytes(Map.of("id", 1)).length;
+
+            Map<String, Object> response = execute("list_rows", 9,
+                    Map.of("fields", List.of("id"), "maxBytes", 3 * rowBytes + 2));
+
+            assertThat((List<?>) response.get("result")).hasSize(3);
+            assertThat(response).containsEntry("truncated", true);
+        }
+
+        @Test
+        @DisplayName("Should always return the first element even when it exceeds maxBytes")
+        void shouldReturnFirstElementOverBudget() throws Exception {
+            Map<String, Object> response = execute("list_rows", 3, Map.of("maxBytes", 1));
+
+            assertThat((List<?>) response.get("result")).hasSize(1);
+            assertThat(response).containsEntry("truncated", true);
+        }
+
+        @Test
+        @DisplayName("Should apply options to streamed results")
+        void shouldApplyOptionsToStreamedResults() throws Exception {
+            Map<String, Object> first = execute("stream_rows", 4, Map.of("maxItems", 3, "fields", List.of("title")));
+
+            assertThat(first.get("result")).isEqualTo(List.of(
+                    Map.of("title", "Row 1"), Map.of("title", "Row 2"), Map.of("title", "Row 3")));
+            assertThat(first).containsEntry("truncated", true);
+
+            Map<String, Object> rest = execute("stream_rows", 4,
+                    Map.of("maxItems", 3, "fields", List.of("title"), "cursor", first.get("nextCursor")));
+            assertThat(rest.get("result")).isEqualTo(List.of(Map.of("title", "Row 4")));
+            assertThat(rest).doesNotContainKey("truncated");
+        }
+
+        @Test
+        @DisplayName("Should write list results in the columnar format")
+        void shouldWriteColumnarLists() throws Exception {
+            Map<String, Object> response = execute("list_rows", 2, Map.of("format", "columnar"));
+
+            assertThat(response).containsEntry("success", true);
+            assertThat(response.get("result")).isEqualTo(Map.of(
+                    "format", "columnar",
+                    "columns", List.of("id", "title", "tags"),
+                    "rows", List.of(
+                            List.of(1, "Row 1", List.of(Map.of("name", "t1"))),
+                            List.of(2, "Row 2", List.of(Map.of("name", "t2"))))));
+        }
+
+        @Test
+        @DisplayName("Should combine the columnar format with projection and budgets")
+        void shouldCombineColumnarWithOptions() throws Exception {
+            Map<String, Object> first = execute("stream_rows", 3,
+                    Map.of("format", "columnar", "fields", List.of("id"), "maxItems", 2));
+
+            assertThat(first.get("result")).isEqualTo(Map.of(
+                    "format", "columnar", "columns", List.of("id"), "rows", List.of(List.of(1), List.of(2))));
+            assertThat(first).containsEntry("truncated", true);
+
+            Map<String, Object> rest = objectMapper.readValue(
+                    mcpExposedTools.fetchMore((String) first.get("nextCursor")), Map.class);
+            assertThat(rest.get("result")).isEqualTo(Map.of(
+                    "format", "columnar", "columns", List.of("id"), "rows", List.of(List.of(3))));
+        }
+
+        @Test
+        @DisplayName("Should write the rows collected before a columnar stream failed")
+        void shouldWriteColumnarRowsBeforeFailure() throws Exception {
+            setupWithBeans(new StreamingToolBean());
+
+            Map<String, Object> response = objectMapper.readValue(mcpExposedTools.executeTool(
+                    "partial_stream", Map.of("count", 2), Map.of("format", "columnar")), Map.class);
+
+            assertThat(response.get("result")).isEqualTo(List.of(1, 2));
+            assertThat(response).containsEntry("success", false).containsEntry("error", "Stream broke");
+        }
+
+        @Test
+        @DisplayName("Should make repetitive lists smaller in the columnar format")
+        void shouldShrinkRepetitiveLists() {
+            String json = mcpExposedTools.executeTool("list_rows", Map.of("count", 50), Map.of());
+            String columnar = mcpExposedTools.executeTool("list_rows", Map.of("count", 50),
+                    Map.of("format", "columnar"));
+
+            assertThat(columnar.length()).isLessThan(json.length());
+        }
+
+        @Test
+        @DisplayName("Should reject invalid options without running the tool")
+        void shouldRejectInvalidOptions() throws Exception {
+            Map<String, Object> response = execute("list_rows", 2, Map.of("maxItems", 0));
+
+            assertThat(response).containsEntry("success", false).doesNotContainKey("result");
+            assertThat(response.get("error")).asString().contains("maxItems");
+        }
+
+        @Test
+        @DisplayName("Should reject a cursor issued for another tool")
+        void shouldRejectForeignCursor() throws Exception {
+            Map<String, Object> first = execute("list_rows", 3, Map.of("maxItems", 1));
+
+            Map<String, Object> response = execute("stream_rows", 3, Map.of("cursor", first.get("nextCursor")));
+
+            assertThat(response.get("error")).asString().contains("list_rows");
+        }
+
+        @Test
+        @DisplayName("Should reject a cursor issued for other parameters")
+        void shouldRejectCursorForOtherParameters() throws Exception {
+            Map<String, Object> first = execute("list_rows", 3, Map.of("maxItems", 1));
+
+            Map<String, Object> response = execute("list_rows", 4,
+                    Map.of("maxItems", 1, "cursor", first.get("nextCursor")));
+
+            assertThat(response).containsEntry("success", false).doesNotContainKey("result");
+            assertThat(response.get("error")).asString().contains("other parameters");
+        }
+
+        @Test
+        @DisplayName("Should leave failures unchanged")
+        void shouldLeaveFailuresUnchanged() throws Exception {
+            setupWithBeans(new ExceptionToolBean());
+
+            Map<String, Object> response = objectMapper.readValue(mcpExposedTools.executeTool(
+                    "failing_tool", Map.of("input", "x"), Map.of("maxItems", 1)), Map.class);
+
+            assertThat(response).containsEntry("success", false);
+        }
+    }
+
+    @Nested
+    @DisplayName("fetchMore")
+    class FetchMoreTests {
+
+        private RowsToolBean rows;
+
+        @BeforeEach
+        void setUpRows() {
+            rows = new RowsToolBean();
+            setupWithBeans(rows, new StreamingToolBean());
+        }
+
+        private Map<String, Object> execute(String toolName, int count, Map<String, Object> options) throws Exception {
+            return objectMapper.readValue(
+                    mcpExposedTools.executeTool(toolName, Map.of("count", count), options), Map.class);
+        }
+
+        private Map<String, Object> fetchMore(Object cursor) throws Exception {
+            return objectMapper.readValue(mcpExposedTools.fetchMore((String) cursor), Map.class);
+        }
+
+        @Test
+        @DisplayName("Should page through a parked list result")
+        void shouldPageThroughParkedList() throws Exception {
+            Map<String, Object> first = execute("list_rows", 5, Map.of("maxItems", 2, "fields", List.of("id")));
+            assertThat(first.get("result")).isEqualTo(List.of(Map.of("id", 1), Map.of("id", 2)));
+
+            Map<String, Object> second = fetchMore(first.get("nextCursor"));
+            assertThat(second).containsEntry("tool", "list_rows").containsEntry("truncated", true);
+            assertThat(second.get("result")).isEqualTo(List.of(Map.of("id", 3), Map.of("id", 4)));
+
+            Map<String, Object> last = fetchMore(second.get("nextCursor"));
+            assertThat(last.get("result")).isEqualTo(List.of(Map.of("id", 5)));
+            assertThat(last).containsEntry("success", true).doesNotContainKeys("truncated", "nextCursor");
+        }
+
+        @Test
+        @DisplayName("Should pause a streamed result while it is parked")
+        void shouldPauseParkedStream() throws Exception {
+            Map<String, Object> first = execute("stream_rows", 100, Map.of("maxItems", 3, "fields", "id"));
+
+            assertThat((List<?>) first.get("result")).hasSize(3);
+            assertThat(rows.streamed.get()).isEqualTo(4);
+
+            Map<String, Object> second = fetchMore(first.get("nextCursor"));
+            assertThat(second.get("result")).isEqualTo(List.of(Map.of("id", 4), Map.of("id", 5), Map.of("id", 6)));
+            assertThat(rows.streamed.get()).isEqualTo(7);
+        }
+
+        @Test
+        @DisplayName("Should finish a stream that completed while parked")
+        void shouldFinishStreamCompletedWhileParked() throws Exception {
+            Map<String, Object> first = execute("stream_rows", 3, Map.of("maxItems", 2, "fields", "id"));
+
+            Map<String, Object> rest = fetchMore(first.get("nextCursor"));
+
+            assertThat(rest.get("result")).isEqualTo(List.of(Map.of("id", 3)));
+            assertThat(rest).containsEntry("success", true).doesNotContainKey("truncated");
+        }
+
+        @Test
+        @DisplayName("Should report a stream that failed while parked after its held element")
+        void shouldReportStreamFailedWhileParked() throws Exception {
+            Map<String, Object> first = execute("partial_stream", 2, Map.of("maxItems", 1));
+            assertThat(first.get("result")).isEqualTo(List.of(1));
+
+            Map<String, Object> rest = fetchMore(first.get("nextCursor"));
+
+            assertThat(rest.get("result")).isEqualTo(List.of(2));
+            assertThat(rest).containsEntry("success", false).containsEntry("error", "Stream broke");
+        }
+
+        @Test
+        @DisplayName("Should park only the unread part of a list resumed at an offset")
+        void shouldParkUnreadPartOfResumedList() throws Exception {
+            Map<String, Object> first = execute("list_rows", 5, Map.of("maxItems", 2, "fields", List.of("id")));
+
+            Map<String, Object> resumed = execute("list_rows", 5,
+                    Map.of("maxItems", 1, "fields", List.of("id"), "cursor", first.get("nextCursor")));
+            assertThat(resumed.get("result")).isEqualTo(List.of(Map.of("id", 3)));
+
+            Map<String, Object> rest = fetchMore(resumed.get("nextCursor"));
+            assertThat(rest.get("result")).isEqualTo(List.of(Map.of("id", 4)));
+            assertThat(fetchMore(rest.get("nextCursor")).get("result")).isEqualTo(List.of(Map.of("id", 5)));
+        }
+
+        @Test
+        @DisplayName("Should accept each cursor once")
+        void shouldAcceptCursorOnce() throws Exception {
+            Map<String, Object> first = execute("list_rows", 3, Map.of("maxItems", 1));
+            fetchMore(first.get("nextCursor"));
+
+            Map<String, Object> again = fetchMore(first.get("nextCursor"));
+
+            assertThat(again).containsEntry("tool", "list_rows").containsEntry("success", false)
+                    .containsKey("suggestion");
+            assertThat(again.get("error")).asString().contains("expired or was already used");
+        }
+
+        @Test
+        @DisplayName("Should reject invalid cursors")
+        void shouldRejectInvalidCursors() throws Exception {
+            assertThat(fetchMore("%%%").get("error")).asString().startsWith("Invalid cursor");
+            assertThat(fetchMore(null).get("error")).isEqualTo("Cursor must not be empty");
+        }
+
+        @Test
+        @DisplayName("Should fall back to re-running the tool when parking is disabled")
+        void shouldFallBackWhenParkingDisabled() throws Exception {
+            TestrailProperties properties = new TestrailProperties();
+            properties.getExecution().setMaxCursorBytes(0);
+            mcpExposedTools = new McpExposedTools(toolRegistry, luceneToolIndexService, objectMapper,
+                    Schedulers.boundedElastic(), properties);
+
+            Map<String, Object> first = execute("stream_rows", 3, Map.of("maxItems", 2, "fields", "id"));
+            assertThat(first).containsEntry("truncated", true).doesNotContainKey("nextCursor");
+            assertThat(rows.streamed.get()).isEqualTo(3);
+
+            Map<String, Object> resumed = execute("stream_rows", 3,
+                    Map.of("maxItems", 2, "fields", "id", "cursor", first.get("resumeCursor")));
+            assertThat(resumed.get("result")).isEqualTo(List.of(Map.of("id", 3)));
+            assertThat(resumed).doesNotContainKeys("truncated", "resumeCursor");
+        }
+    }
+
     // ── Tests: buildMethodArguments / convertValue ──────────────────────────
 
     @Nested
@@ -657,6 +1495,17 @@ class McpExposedToolsTest {
             assertThat(response.get("success")).isEqualTo(true);
         }
 
+        @Test
+        @DisplayName("Should parse a JSON string passed for a map parameter")
+        void shouldParseJsonStringForMapParameter() throws Exception {
+            setupWithBeans(new MapToolBean());
+
+            String result = mcpExposedTools.executeTool("process_data", Map.of("data", "{\"key\":\"value\"}"));
+
+            Map<String, Object> response = objectMapper.readValue(result, Map.class);
+            assertThat(response.get("result")).isEqualTo("Processed: {key=value}");
+        }
+
         @Test
         @DisplayName("Should fail on invalid string to number conversion")
         void shouldFailOnInvalidStringToNumber() throws Exception {
@@ -1020,7 +1869,8 @@ class McpExposedToolsTest {
             when(brokenMapper.writeValueAsString(any()))
                     .thenThrow(new JsonProcessingException("Simulated failure") {});
 
-            McpExposedTools brokenTools = new McpExposedTools(toolRegistry, luceneToolIndexService, brokenMapper);
+            McpExposedTools brokenTools = new McpExposedTools(toolRegistry, luceneToolIndexService, brokenMapper,
+                    Schedulers.boundedElastic(), new TestrailProperties());
 
             Map<String, String> testObj = Map.of("key", "value");
             String result = brokenTools.toJson(testObj);
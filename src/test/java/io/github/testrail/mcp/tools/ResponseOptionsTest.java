@@ -0,0 +1,220 @@
+package io.github.testrail.mcp.tools;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.filter.FilteringGeneratorDelegate;
+import com.fasterxml.jackson.core.filter.TokenFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ResponseOptions}.
+ */
+class ResponseOptionsTest {
+
+    private static final Map<String, Object> PARAMETERS = Map.of("project_id", 1);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private String cursorAfter(String toolName, int returned, String parkedId) {
+        return ResponseOptions.from(toolName, PARAMETERS, Map.of("maxItems", returned + 1), objectMapper)
+                .cursorAfter(toolName, returned, parkedId);
+    }
+
+    private String project(ResponseOptions options, Object value) throws Exception {
+        StringWriter out = new StringWriter();
+        try (JsonGenerator generator = new FilteringGeneratorDelegate(objectMapper.createGenerator(out),
+                options.getFieldFilter(), TokenFilter.Inclusion.INCLUDE_ALL_AND_PATH, true)) {
+            objectMapper.writeValue(generator, value);
+        }
+        return out.toString();
+    }
+
+    @Test
+    @DisplayName("Should return NONE for missing or empty options")
+    void shouldReturnNoneForNoOptions() {
+        assertThat(ResponseOptions.from("t", PARAMETERS, null, objectMapper)).isSameAs(ResponseOptions.NONE);
+        assertThat(ResponseOptions.from("t", PARAMETERS, Map.of(), objectMapper)).isSameAs(ResponseOptions.NONE);
+        assertThat(ResponseOptions.NONE.isDefault()).isTrue();
+        assertThat(ResponseOptions.NONE.getFieldFilter()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should parse budgets from numbers and numeric strings")
+    void shouldParseBudgets() {
+        ResponseOptions options = ResponseOptions.from("t", PARAMETERS, Map.of("maxItems", "25", "maxBytes", 4096), objectMapper);
+
+        assertThat(options.getMaxItems()).isEqualTo(25);
+        assertThat(options.getMaxBytes()).isEqualTo(4096L);
+        assertThat(options.getOffset()).isZero();
+        assertThat(options.isDefault()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should parse the response format")
+    void shouldParseFormat() {
+        assertThat(ResponseOptions.from("t", PARAMETERS, Map.of("format", "Columnar"), objectMapper).isColumnar()).isTrue();
+        assertThat(ResponseOptions.from("t", PARAMETERS, Map.of("format", "columnar"), objectMapper).isDefault()).isFalse();
+        assertThat(ResponseOptions.from("t", PARAMETERS, Map.of("format", " json "), objectMapper).isDefault()).isTrue();
+        assertThat(ResponseOptions.NONE.isColumnar()).isFalse();
+        assertThatThrownBy(() -> ResponseOptions.from("t", PARAMETERS, Map.of("format", "csv"), objectMapper))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Response option 'format' must be 'json' or 'columnar', got 'csv'");
+    }
+
+    @Test
+    @DisplayName("Should reject unknown options")
+    void shouldRejectUnknownOptions() {
+        assertThatThrownBy(() -> ResponseOptions.from("t", PARAMETERS, Map.of("limit", 5), objectMapper))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown response option 'limit'");
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive and non-numeric budgets")
+    void shouldRejectInvalidBudgets() {
+        assertThatThrownBy(() -> ResponseOptions.from("t", PARAMETERS, Map.of("maxBytes", -1), objectMapper))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("'maxBytes' must be positive");
+        assertThatThrownBy(() -> ResponseOptions.from("t", PARAMETERS, Map.of("maxItems", "many"), objectMapper))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("maxItems");
+    }
+
+    @Test
+    @DisplayName("Should project objects onto fields given as a list")
+    void shouldProjectFieldList() throws Exception {
+        ResponseOptions options = ResponseOptions.from("t", PARAMETERS, Map.of("fields", List.of("id", "steps")), objectMapper);
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", 1);
+        row.put("title", "A");
+        row.put("steps", List.of(Map.of("content", "x", "expected", "y")));
+
+        Map<?, ?> projected = objectMapper.readValue(project(options, row), Map.class);
+
+        assertThat(projected).containsOnlyKeys("id", "steps");
+        assertThat(projected.get("steps")).isEqualTo(List.of(Map.of("content", "x", "expected", "y")));
+    }
+
+    @Test
+    @DisplayName("Should accept comma-separated fields and write empty objects when nothing matches")
+    void shouldProjectCommaSeparatedFields() throws Exception {
+        ResponseOptions options = ResponseOptions.from("t", PARAMETERS, Map.of("fields", " id , title "), objectMapper);
+
+        assertThat(project(options, Map.of("title", "A", "other", 2))).isEqualTo("{\"title\":\"A\"}");
+        assertThat(project(options, Map.of("other", 2))).isEqualTo("{}");
+        assertThat(project(options, 7)).isEqualTo("7");
+    }
+
+    @Test
+    @DisplayName("Should reject an empty field list")
+    void shouldRejectEmptyFields() {
+        assertThatThrownBy(() -> ResponseOptions.from("t", PARAMETERS, Map.of("fields", List.of(" ")), objectMapper))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("at least one field");
+    }
+
+    @Test
+    @DisplayName("Should round-trip the offset through the cursor")
+    void shouldRoundTripCursor() {
+        String cursor = cursorAfter("get_cases", 100, null);
+        ResponseOptions resumed = ResponseOptions.from("get_cases", PARAMETERS, Map.of("cursor", cursor), objectMapper);
+
+        assertThat(resumed.getOffset()).isEqualTo(100);
+        assertThat(resumed.isDefault()).isFalse();
+        assertThat(ResponseOptions.from("get_cases", PARAMETERS, Map.of("cursor", resumed.cursorAfter("get_cases", 50, null)),
+                objectMapper).getOffset()).isEqualTo(150);
+    }
+
+    @Test
+    @DisplayName("Should carry the parked result ID in the cursor")
+    void shouldCarryParkedId() {
+        ResponseOptions.Cursor cursor = ResponseOptions.Cursor.decode(
+                cursorAfter("get_tests", 20, "abc-123"));
+
+        assertThat(cursor.getToolName()).isEqualTo("get_tests");
+        assertThat(cursor.getOffset()).isEqualTo(20);
+        assertThat(cursor.getParkedId()).isEqualTo("abc-123");
+        assertThat(ResponseOptions.from("get_tests", PARAMETERS, Map.of("cursor", cursor.encode()), objectMapper).getOffset())
+                .isEqualTo(20);
+        assertThat(ResponseOptions.Cursor.decode(cursorAfter("get_tests", 0, null))
+                .getParkedId()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject empty cursors")
+    void shouldRejectEmptyCursors() {
+        assertThatThrownBy(() -> ResponseOptions.Cursor.decode(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Cursor must not be empty");
+        assertThatThrownBy(() -> ResponseOptions.Cursor.decode(" "))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject cursors for another tool")
+    void shouldRejectForeignCursor() {
+        String cursor = cursorAfter("get_cases", 10, null);
+
+        assertThatThrownBy(() -> ResponseOptions.from("get_tests", PARAMETERS, Map.of("cursor", cursor), objectMapper))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Cursor was issued for tool 'get_cases', not 'get_tests'");
+    }
+
+    @Test
+    @DisplayName("Should reject cursors issued for other parameters")
+    void shouldRejectCursorForOtherParameters() {
+        String cursor = cursorAfter("get_cases", 10, null);
+
+        assertThatThrownBy(() -> ResponseOptions.from("get_cases", Map.of("project_id", 2), Map.of("cursor", cursor),
+                objectMapper))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("other parameters");
+        assertThatThrownBy(() -> ResponseOptions.from("get_cases", null, Map.of("cursor", cursor), objectMapper))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("other parameters");
+    }
+
+    @Test
+    @DisplayName("Should hash parameters independently of order, scalar type and null values")
+    void shouldHashParametersCanonically() {
+        Map<String, Object> ordered = new LinkedHashMap<>();
+        ordered.put("project_id", 1);
+        ordered.put("filter", Map.of("a", 1, "b", List.of(2)));
+        Map<String, Object> reordered = new LinkedHashMap<>();
+        reordered.put("section_id", null);
+        reordered.put("filter", new TreeMap<>(Map.of("b", List.of(2), "a", 1)).descendingMap());
+        reordered.put("project_id", "1");
+
+        assertThat(ResponseOptions.parametersHash(ordered, objectMapper))
+                .isEqualTo(ResponseOptions.parametersHash(reordered, objectMapper))
+                .isNotEqualTo(ResponseOptions.parametersHash(Map.of("project_id", 2), objectMapper));
+        assertThat(ResponseOptions.parametersHash(null, objectMapper))
+                .isEqualTo(ResponseOptions.parametersHash(Map.of(), objectMapper));
+    }
+
+    @Test
+    @DisplayName("Should reject malformed cursors")
+    void shouldRejectMalformedCursors() {
+        String noSeparator = Base64.getUrlEncoder().encodeToString("get_cases".getBytes());
+        String noHash = Base64.getUrlEncoder().encodeToString("get_cases:3".getBytes());
+        String negative = Base64.getUrlEncoder().encodeToString("get_cases:-3:abc".getBytes());
+        String extraParts = Base64.getUrlEncoder().encodeToString("get_cases:1:abc:a:b".getBytes());
+
+        for (String cursor : List.of("%%%", noSeparator, noHash, negative, extraParts)) {
+            assertThatThrownBy(() -> ResponseOptions.from("get_cases", PARAMETERS, Map.of("cursor", cursor), objectMapper))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageStartingWith("Invalid cursor");
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package io.github.testrail.mcp.tools.cases;
 
 import io.github.testrail.mcp.client.TestrailApiClient;
+import io.github.testrail.mcp.model.BulkItemResult;
+import io.github.testrail.mcp.model.BulkResult;
 import io.github.testrail.mcp.model.OperationResult;
 import io.github.testrail.mcp.model.TestCase;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,6 +11,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.Map;
@@ -39,14 +42,14 @@ class CasesToolsTest {
         expected.setId(123);
         expected.setTitle("Login Test");
 
-        when(apiClient.getCase(123)).thenReturn(expected);
+        when(apiClient.getCaseAsync(123)).thenReturn(Mono.just(expected));
 
-        TestCase result = casesTools.getTestCase(123);
+        TestCase result = casesTools.getTestCase(123).block();
 
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(123);
         assertThat(result.getTitle()).isEqualTo("Login Test");
-        verify(apiClient).getCase(123);
+        verify(apiClient).getCaseAsync(123);
     }
 
     @Test
@@ -199,6 +202,51 @@ class CasesToolsTest {
         verify(apiClient).deleteCase(123);
     }
 
+    @Test
+    void getTestCasesByIds_shouldParseIdsAndDelegate() {
+        TestCase testCase = new TestCase();
+        testCase.setId(12);
+        BulkResult<TestCase> expected = BulkResult.of(List.of(
+                BulkItemResult.success(12, testCase),
+                BulkItemResult.failure(34, "not found")));
+
+        when(apiClient.getCasesByIds(List.of(12, 34), 1, 5, null)).thenReturn(expected);
+
+        BulkResult<TestCase> result = casesTools.getTestCasesByIds("C12, 34,", 1, 5, null);
+
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(1);
+        verify(apiClient).getCasesByIds(List.of(12, 34), 1, 5, null);
+    }
+
+    @Test
+    void getTestCasesByIds_shouldRejectInvalidIds() {
+        assertThatThrownBy(() -> casesTools.getTestCasesByIds("C12, abc", null, null, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("'abc'");
+        verifyNoInteractions(apiClient);
+    }
+
+    @Test
+    void addTestCasesBulk_shouldDelegateWithDryRunDefaultingToFalse() {
+        List<Map<String, Object>> cases = List.of(Map.of("section_id", 5, "title", "Login"));
+        BulkResult<TestCase> expected = BulkResult.of(List.of());
+        when(apiClient.addCasesBulk(cases, false)).thenReturn(expected);
+
+        assertThat(casesTools.addTestCasesBulk(cases, null)).isSameAs(expected);
+        verify(apiClient).addCasesBulk(cases, false);
+    }
+
+    @Test
+    void updateTestCasesBulk_shouldDelegateDryRun() {
+        List<Map<String, Object>> cases = List.of(Map.of("case_id", 1, "priority_id", 3));
+        BulkResult<TestCase> expected = BulkResult.of(List.of());
+        when(apiClient.updateCasesBulk(cases, true)).thenReturn(expected);
+
+        assertThat(casesTools.updateTestCasesBulk(cases, true)).isSameAs(expected);
+        verify(apiClient).updateCasesBulk(cases, true);
+    }
+
     @Test
     void copyCasesToSection_shouldCopyMultipleCases() {
         doNothing().when(apiClient).copyCasesToSection(eq(10), anyList());
@@ -1,14 +1,21 @@
 package io.github.testrail.mcp.tools.results;
 
 import io.github.testrail.mcp.client.TestrailApiClient;
+import io.github.testrail.mcp.model.ChunkedSubmitResult;
+import io.github.testrail.mcp.model.ReportImportResult;
 import io.github.testrail.mcp.model.TestResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -56,12 +63,14 @@ class ResultsToolsTest {
         TestResult result1 = new TestResult();
         result1.setId(1);
 
-        when(apiClient.getResultsForRun(100, null, null, null, null, null, null, null)).thenReturn(List.of(result1));
+        when(apiClient.getResultsForRunAsync(100, null, null, null, null, null, null, null))
+                .thenReturn(Flux.just(result1));
 
-        List<TestResult> results = resultsTools.getResultsForRun(100, null, null, null, null, null, null, null);
+        List<TestResult> results = resultsTools.getResultsForRun(100, null, null, null, null, null, null, null)
+                .collectList().block();
 
         assertThat(results).hasSize(1);
-        verify(apiClient).getResultsForRun(100, null, null, null, null, null, null, null);
+        verify(apiClient).getResultsForRunAsync(100, null, null, null, null, null, null, null);
     }
 
     @Test
@@ -196,4 +205,135 @@ class ResultsToolsTest {
         assertThat(results).isEmpty();
         verify(apiClient).getResultsForCase(100, 50, "BUG-1", "5", 10, 0);
     }
+
+    @Test
+    void addResultsBulk_shouldSubmitByTestId() {
+        List<Map<String, Object>> results = List.of(
+                Map.of("test_id", 1, "status_id", 1),
+                Map.of("test_id", 2, "status_id", 5));
+        ChunkedSubmitResult expected = ChunkedSubmitResult.of(List.of());
+        when(apiClient.addResultsInChunks(10, results)).thenReturn(expected);
+
+        assertThat(resultsTools.addResultsBulk(10, results)).isSameAs(expected);
+        verify(apiClient, never()).addResultsForCasesInChunks(anyInt(), anyList());
+    }
+
+    @Test
+    void addResultsBulk_shouldSubmitByCaseId() {
+        List<Map<String, Object>> results = List.of(Map.of("case_id", 7, "status_id", 1));
+        ChunkedSubmitResult expected = ChunkedSubmitResult.of(List.of());
+        when(apiClient.addResultsForCasesInChunks(10, results)).thenReturn(expected);
+
+        assertThat(resultsTools.addResultsBulk(10, results)).isSameAs(expected);
+    }
+
+    @Test
+    void addResultsBulk_shouldRejectMixedIdKeys() {
+        List<Map<String, Object>> results = List.of(
+                Map.of("case_id", 7, "status_id", 1),
+                Map.of("test_id", 2, "status_id", 1));
+
+        assertThatThrownBy(() -> resultsTools.addResultsBulk(10, results))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("case_id");
+        verifyNoInteractions(apiClient);
+    }
+
+    @Test
+    void importTestReport_shouldMatchCasesAndStreamResults(@TempDir Path dir) throws Exception {
+        Path report = dir.resolve("junit.xml");
+        Files.writeString(report, """
+                <testsuite name="Login">
+                  <testcase classname="com.acme.LoginTest" name="C11_validLogin" time="65"/>
+                  <testcase classname="com.acme.LoginTest" name="Invalid password is rejected" time="0.1">
+                    <failure message="expected 401"/>
+                  </testcase>
+                  <testcase classname="com.acme.LoginTest" name="lockout"/>
+                  <testcase classname="com.acme.LoginTest" name="sso"><skipped/></testcase>
+                  <testcase classname="com.acme.LoginTest" name="unknownTest"/>
+                </testsuite>
+                """);
+        io.github.testrail.mcp.model.Test byId = runTest(11, "Valid login", null);
+        io.github.testrail.mcp.model.Test byTitle = runTest(12, "Invalid password is rejected", null);
+        io.github.testrail.mcp.model.Test byRef = runTest(13, "Account lockout", "SEC-1, com.acme.LoginTest.lockout");
+        io.github.testrail.mcp.model.Test skipped = runTest(14, "sso", null);
+        when(apiClient.getAllTests(7, null, null)).thenReturn(List.of(byId, byTitle, byRef, skipped));
+        List<Map<String, Object>> submitted = new ArrayList<>();
+        when(apiClient.addResultsForCasesInChunks(eq(7), any(Flux.class))).thenAnswer(invocation -> {
+            Flux<Map<String, Object>> results = invocation.getArgument(1);
+            submitted.addAll(results.collectList().block());
+            return ChunkedSubmitResult.of(List.of());
+        });
+
+        ReportImportResult result = resultsTools.importTestReport(7, report.toString(), null);
+
+        assertThat(result.getParsed()).isEqualTo(5);
+        assertThat(result.getMatched()).isEqualTo(3);
+        assertThat(result.getSkipped()).isEqualTo(1);
+        assertThat(result.getUnmatched()).isEqualTo(1);
+        assertThat(result.getUnmatchedTests()).containsExactly("com.acme.LoginTest.unknownTest");
+        assertThat(submitted).extracting(item -> item.get("case_id")).containsExactly(11, 12, 13);
+        assertThat(submitted).extracting(item -> item.get("status_id")).containsExactly(1, 5, 1);
+        assertThat(submitted.get(0)).containsEntry("elapsed", "1m 5s");
+        assertThat(submitted.get(1)).containsEntry("comment", "expected 401").doesNotContainKey("elapsed");
+    }
+
+    @Test
+    void importTestReport_shouldRecordSkippedTestsWithGivenStatus(@TempDir Path dir) throws Exception {
+        Path report = dir.resolve("junit.xml");
+        Files.writeString(report, "<testsuite><testcase name=\"C3 sso\"><skipped/></testcase></testsuite>");
+        when(apiClient.getAllTests(7, null, null)).thenReturn(List.of(runTest(3, "SSO", null)));
+        List<Map<String, Object>> submitted = new ArrayList<>();
+        when(apiClient.addResultsForCasesInChunks(eq(7), any(Flux.class))).thenAnswer(invocation -> {
+            Flux<Map<String, Object>> results = invocation.getArgument(1);
+            submitted.addAll(results.collectList().block());
+            return ChunkedSubmitResult.of(List.of());
+        });
+
+        resultsTools.importTestReport(7, report.toString(), 2);
+
+        assertThat(submitted).extracting(item -> item.get("status_id")).containsExactly(2);
+    }
+
+    @Test
+    void importTestReport_shouldTreatOverlongCaseIdMarkersAsUnmatched(@TempDir Path dir) throws Exception {
+        Path report = dir.resolve("junit.xml");
+        Files.writeString(report, "<testsuite><testcase name=\"C12345678901 login\"/></testsuite>");
+        when(apiClient.getAllTests(7, null, null)).thenReturn(List.of(runTest(3, "SSO", null)));
+        when(apiClient.addResultsForCasesInChunks(eq(7), any(Flux.class))).thenAnswer(invocation -> {
+            Flux<Map<String, Object>> results = invocation.getArgument(1);
+            assertThat(results.collectList().block()).isEmpty();
+            return ChunkedSubmitResult.of(List.of());
+        });
+
+        ReportImportResult result = resultsTools.importTestReport(7, report.toString(), null);
+
+        assertThat(result.getUnmatched()).isEqualTo(1);
+        assertThat(result.getUnmatchedTests()).containsExactly("C12345678901 login");
+    }
+
+    @Test
+    void importTestReport_shouldRejectMissingFile(@TempDir Path dir) {
+        assertThatThrownBy(() -> resultsTools.importTestReport(7, dir.resolve("missing.xml").toString(), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("not found");
+        verifyNoInteractions(apiClient);
+    }
+
+    @Test
+    void formatElapsed_shouldProduceTestrailTimespans() {
+        assertThat(ResultsTools.formatElapsed(0.4)).isNull();
+        assertThat(ResultsTools.formatElapsed(42)).isEqualTo("42s");
+        assertThat(ResultsTools.formatElapsed(120)).isEqualTo("2m");
+        assertThat(ResultsTools.formatElapsed(3725)).isEqualTo("1h 2m 5s");
+    }
+
+    private static io.github.testrail.mcp.model.Test runTest(int caseId, String title, String refs) {
+        io.github.testrail.mcp.model.Test test = new io.github.testrail.mcp.model.Test();
+        test.setId(100 + caseId);
+        test.setCaseId(caseId);
+        test.setTitle(title);
+        test.setRefs(refs);
+        return test;
+    }
 }
@@ -0,0 +1,120 @@
+package io.github.testrail.mcp.tools.results;
+
+import io.github.testrail.mcp.tools.results.TestReportReader.Outcome;
+import io.github.testrail.mcp.tools.results.TestReportReader.ReportedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for TestReportReader.
+ */
+class TestReportReaderTest {
+
+    private static List<ReportedTest> read(String xml) {
+        return TestReportReader.read(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)))
+                .collectList().block();
+    }
+
+    @Test
+    void read_shouldParseJUnitOutcomes() {
+        String xml = """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <testsuites>
+                  <testsuite name="LoginTest" tests="4">
+                    <testcase classname="com.acme.LoginTest" name="C101_validLogin" time="2.6"/>
+                    <testcase classname="com.acme.LoginTest" name="invalidLogin" time="0.2">
+                      <failure message="expected 401" type="AssertionError">java.lang.AssertionError: expected 401
+                        at com.acme.LoginTest.invalidLogin(LoginTest.java:42)</failure>
+                      <system-out>lots of log output</system-out>
+                    </testcase>
+                    <testcase classname="com.acme.LoginTest" name="lockedAccount"><error message="NPE"/></testcase>
+                    <testcase classname="com.acme.LoginTest" name="sso"><skipped message="not configured"/></testcase>
+                  </testsuite>
+                </testsuites>
+                """;
+
+        List<ReportedTest> tests = read(xml);
+
+        assertThat(tests).extracting(ReportedTest::getName)
+                .containsExactly("C101_validLogin", "invalidLogin", "lockedAccount", "sso");
+        assertThat(tests).extracting(ReportedTest::getOutcome)
+                .containsExactly(Outcome.PASSED, Outcome.FAILED, Outcome.FAILED, Outcome.SKIPPED);
+        assertThat(tests.get(0).getClassName()).isEqualTo("com.acme.LoginTest");
+        assertThat(tests.get(0).getDurationSeconds()).isEqualTo(2.6);
+        assertThat(tests.get(1).getMessage()).startsWith("java.lang.AssertionError: expected 401")
+                .doesNotContain("log output");
+        assertThat(tests.get(2).getMessage()).isEqualTo("NPE");
+        assertThat(tests.get(3).getMessage()).isEqualTo("not configured");
+    }
+
+    @Test
+    void read_shouldParseTestNgAndSkipConfigurationMethods() {
+        String xml = """
+                <testng-results>
+                  <suite name="Regression">
+                    <test name="Checkout">
+                      <class name="com.acme.CheckoutTest">
+                        <test-method status="PASS" name="setUp" is-config="true" duration-ms="5"/>
+                        <test-method status="PASS" name="payWithCard" duration-ms="1500"/>
+                        <test-method status="FAIL" name="payWithVoucher" duration-ms="300">
+                          <exception class="java.lang.AssertionError">
+                            <message><![CDATA[voucher rejected]]></message>
+                            <full-stacktrace><![CDATA[java.lang.AssertionError: voucher rejected]]></full-stacktrace>
+                          </exception>
+                        </test-method>
+                        <test-method status="SKIP" name="payLater" duration-ms="0"/>
+                      </class>
+                    </test>
+                  </suite>
+                </testng-results>
+                """;
+
+        List<ReportedTest> tests = read(xml);
+
+        assertThat(tests).extracting(ReportedTest::getName).containsExactly("payWithCard", "payWithVoucher", "payLater");
+        assertThat(tests).extracting(ReportedTest::getOutcome)
+                .containsExactly(Outcome.PASSED, Outcome.FAILED, Outcome.SKIPPED);
+        assertThat(tests).extracting(ReportedTest::getClassName).containsOnly("com.acme.CheckoutTest");
+        assertThat(tests.get(0).getDurationSeconds()).isEqualTo(1.5);
+        assertThat(tests.get(1).getMessage()).isEqualTo("voucher rejected");
+    }
+
+    @Test
+    void read_shouldTruncateLongFailureMessages() {
+        String xml = "<testsuite><testcase name=\"t\"><failure>" + "x".repeat(10_000)
+                + "</failure></testcase></testsuite>";
+
+        List<ReportedTest> tests = read(xml);
+
+        assertThat(tests.get(0).getMessage()).hasSize(TestReportReader.MAX_MESSAGE_LENGTH);
+    }
+
+    @Test
+    void read_shouldSignalMalformedReports() {
+        assertThatThrownBy(() -> read("<testsuite><testcase name=\"t\">"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Malformed test report");
+    }
+
+    @Test
+    void read_shouldStreamReportFromFile(@TempDir Path dir) throws Exception {
+        Path report = dir.resolve("TEST-Sample.xml");
+        StringBuilder xml = new StringBuilder("<testsuite>");
+        for (int i = 0; i < 1000; i++) {
+            xml.append("<testcase classname=\"Sample\" name=\"test").append(i).append("\"/>");
+        }
+        Files.writeString(report, xml.append("</testsuite>"));
+
+        assertThat(TestReportReader.read(report).take(3).collectList().block())
+                .extracting(ReportedTest::getName).containsExactly("test0", "test1", "test2");
+        assertThat(TestReportReader.read(report).count().block()).isEqualTo(1000);
+    }
+}
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.Map;
@@ -41,15 +42,15 @@ class RunsToolsTest {
         expected.setPassedCount(50);
         expected.setFailedCount(5);
 
-        when(apiClient.getRun(100)).thenReturn(expected);
+        when(apiClient.getRunAsync(100)).thenReturn(Mono.just(expected));
 
-        TestRun result = runsTools.getRun(100);
+        TestRun result = runsTools.getRun(100).block();
 
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(100);
         assertThat(result.getName()).isEqualTo("Sprint 10 Regression");
         assertThat(result.getPassedCount()).isEqualTo(50);
-        verify(apiClient).getRun(100);
+        verify(apiClient).getRunAsync(100);
     }
 
     @Test
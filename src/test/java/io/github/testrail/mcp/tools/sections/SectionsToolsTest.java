@@ -1,6 +1,7 @@
 package io.github.testrail.mcp.tools.sections;
 
 import io.github.testrail.mcp.client.TestrailApiClient;
+import io.github.testrail.mcp.model.CloneSectionTreeResult;
 import io.github.testrail.mcp.model.OperationResult;
 import io.github.testrail.mcp.model.Section;
 import org.junit.jupiter.api.BeforeEach;
@@ -236,4 +237,25 @@ class SectionsToolsTest {
         assertThat(capturedData.get("parent_id")).isEqualTo(5);
         assertThat(capturedData.get("after_id")).isEqualTo(15);
     }
+
+    @Test
+    void cloneSectionTree_shouldDelegateToClient() {
+        CloneSectionTreeResult expected = new CloneSectionTreeResult(10);
+        expected.setTargetSectionId(50);
+        when(apiClient.cloneSectionTree(1, 10, 7, 40, "Copy")).thenReturn(expected);
+
+        CloneSectionTreeResult result = sectionsTools.cloneSectionTree(1, 10, 7, 40, "Copy");
+
+        assertThat(result).isSameAs(expected);
+        verify(apiClient).cloneSectionTree(1, 10, 7, 40, "Copy");
+    }
+
+    @Test
+    void cloneSectionTree_shouldPassNullOptionalParameters() {
+        when(apiClient.cloneSectionTree(1, 10, null, null, null)).thenReturn(new CloneSectionTreeResult(10));
+
+        CloneSectionTreeResult result = sectionsTools.cloneSectionTree(1, 10, null, null, null);
+
+        assertThat(result.getSourceSectionId()).isEqualTo(10);
+    }
 }
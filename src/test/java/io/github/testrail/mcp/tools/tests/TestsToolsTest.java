@@ -7,6 +7,8 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -41,16 +43,16 @@ class TestsToolsTest {
             expectedTest.setTitle("Test login functionality");
             expectedTest.setStatusId(1);
 
-            when(apiClient.getTest(testId, null)).thenReturn(expectedTest);
+            when(apiClient.getTestAsync(testId, null)).thenReturn(Mono.just(expectedTest));
 
             // When
-            io.github.testrail.mcp.model.Test result = testsTools.getTest(testId, null);
+            io.github.testrail.mcp.model.Test result = testsTools.getTest(testId, null).block();
 
             // Then
             assertNotNull(result);
             assertEquals(testId, result.getId());
             assertEquals("Test login functionality", result.getTitle());
-            verify(apiClient).getTest(testId, null);
+            verify(apiClient).getTestAsync(testId, null);
         }
 
         @Test
@@ -62,15 +64,15 @@ class TestsToolsTest {
             io.github.testrail.mcp.model.Test expectedTest = new io.github.testrail.mcp.model.Test();
             expectedTest.setId(testId);
 
-            when(apiClient.getTest(testId, withData)).thenReturn(expectedTest);
+            when(apiClient.getTestAsync(testId, withData)).thenReturn(Mono.just(expectedTest));
 
             // When
-            io.github.testrail.mcp.model.Test result = testsTools.getTest(testId, withData);
+            io.github.testrail.mcp.model.Test result = testsTools.getTest(testId, withData).block();
 
             // Then
             assertNotNull(result);
             assertEquals(testId, result.getId());
-            verify(apiClient).getTest(testId, withData);
+            verify(apiClient).getTestAsync(testId, withData);
         }
     }
 
@@ -93,17 +95,17 @@ class TestsToolsTest {
 
             List<io.github.testrail.mcp.model.Test> expectedTests = List.of(test1, test2);
 
-            when(apiClient.getTests(runId, null, null, null, null)).thenReturn(expectedTests);
+            when(apiClient.getTestsAsync(runId, null, null, null, null)).thenReturn(Flux.fromIterable(expectedTests));
 
             // When
-            List<io.github.testrail.mcp.model.Test> result = testsTools.getTests(runId, null, null, null, null);
+            List<io.github.testrail.mcp.model.Test> result = testsTools.getTests(runId, null, null, null, null).collectList().block();
 
             // Then
             assertNotNull(result);
             assertEquals(2, result.size());
             assertEquals("Test 1", result.get(0).getTitle());
             assertEquals("Test 2", result.get(1).getTitle());
-            verify(apiClient).getTests(runId, null, null, null, null);
+            verify(apiClient).getTestsAsync(runId, null, null, null, null);
         }
 
         @Test
@@ -118,16 +120,16 @@ class TestsToolsTest {
 
             List<io.github.testrail.mcp.model.Test> expectedTests = List.of(test1);
 
-            when(apiClient.getTests(runId, statusId, null, null, null)).thenReturn(expectedTests);
+            when(apiClient.getTestsAsync(runId, statusId, null, null, null)).thenReturn(Flux.fromIterable(expectedTests));
 
             // When
-            List<io.github.testrail.mcp.model.Test> result = testsTools.getTests(runId, statusId, null, null, null);
+            List<io.github.testrail.mcp.model.Test> result = testsTools.getTests(runId, statusId, null, null, null).collectList().block();
 
             // Then
             assertNotNull(result);
             assertEquals(1, result.size());
             assertEquals(4, result.get(0).getStatusId());
-            verify(apiClient).getTests(runId, statusId, null, null, null);
+            verify(apiClient).getTestsAsync(runId, statusId, null, null, null);
         }
 
         @Test
@@ -141,15 +143,15 @@ class TestsToolsTest {
 
             List<io.github.testrail.mcp.model.Test> expectedTests = List.of(test1);
 
-            when(apiClient.getTests(runId, null, labelId, null, null)).thenReturn(expectedTests);
+            when(apiClient.getTestsAsync(runId, null, labelId, null, null)).thenReturn(Flux.fromIterable(expectedTests));
 
             // When
-            List<io.github.testrail.mcp.model.Test> result = testsTools.getTests(runId, null, labelId, null, null);
+            List<io.github.testrail.mcp.model.Test> result = testsTools.getTests(runId, null, labelId, null, null).collectList().block();
 
             // Then
             assertNotNull(result);
             assertEquals(1, result.size());
-            verify(apiClient).getTests(runId, null, labelId, null, null);
+            verify(apiClient).getTestsAsync(runId, null, labelId, null, null);
         }
 
         @Test
@@ -164,15 +166,15 @@ class TestsToolsTest {
 
             List<io.github.testrail.mcp.model.Test> expectedTests = List.of(test1);
 
-            when(apiClient.getTests(runId, null, null, limit, offset)).thenReturn(expectedTests);
+            when(apiClient.getTestsAsync(runId, null, null, limit, offset)).thenReturn(Flux.fromIterable(expectedTests));
 
             // When
-            List<io.github.testrail.mcp.model.Test> result = testsTools.getTests(runId, null, null, limit, offset);
+            List<io.github.testrail.mcp.model.Test> result = testsTools.getTests(runId, null, null, limit, offset).collectList().block();
 
             // Then
             assertNotNull(result);
             assertEquals(1, result.size());
-            verify(apiClient).getTests(runId, null, null, limit, offset);
+            verify(apiClient).getTestsAsync(runId, null, null, limit, offset);
         }
 
         @Test
@@ -185,14 +187,14 @@ class TestsToolsTest {
             Integer limit = 25;
             Integer offset = 50;
 
-            when(apiClient.getTests(runId, statusId, labelId, limit, offset)).thenReturn(List.of());
+            when(apiClient.getTestsAsync(runId, statusId, labelId, limit, offset)).thenReturn(Flux.empty());
 
             // When
-            List<io.github.testrail.mcp.model.Test> result = testsTools.getTests(runId, statusId, labelId, limit, offset);
+            List<io.github.testrail.mcp.model.Test> result = testsTools.getTests(runId, statusId, labelId, limit, offset).collectList().block();
 
             // Then
             assertNotNull(result);
-            verify(apiClient).getTests(runId, statusId, labelId, limit, offset);
+            verify(apiClient).getTestsAsync(runId, statusId, labelId, limit, offset);
         }
     }
 }